@@ -0,0 +1,148 @@
+package com.furnhub.bench;
+
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.geometry.ClosedAreaDetector;
+import com.furnhub.geometry.Intersections;
+import com.furnhub.geometry.OrientedBox;
+import com.furnhub.geometry.OrientedBoxIndex;
+import com.furnhub.geometry.WallSegment;
+import com.furnhub.geometry.WallSpatialIndex;
+import com.furnhub.support.SyntheticPlans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닫힌 공간 계산, 스냅/히트 테스트, 가구 충돌 검사.
+ * 값은 application.properties 기본값(격자 100, 병합 거리 1, 가구 50x50)과 같게 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final double INDEX_CELL_SIZE = 100;
+    private static final double FURNITURE_SIZE = 50;
+
+    // 격자 칸 수 (벽 수 = 2 * cells * (cells + 1))
+    @Param({"5", "20", "50"})
+    public int cells;
+
+    @Param({"200"})
+    public int furnitureCount;
+
+    private List<WallSegment> segments;
+    private WallSpatialIndex spatialIndex;
+    private List<OrientedBox> furnitureBoxes;
+    private OrientedBoxIndex furnitureIndex;
+    private double[] queryX;
+    private double[] queryY;
+
+    @Setup
+    public void setUp() {
+        double extent = SyntheticPlans.extent(cells);
+        segments = SyntheticPlans.gridSegments(cells);
+        spatialIndex = WallSpatialIndex.of(segments, INDEX_CELL_SIZE);
+
+        List<RoomFurnitureDto> furniture = SyntheticPlans.furniture(furnitureCount, extent, 7);
+        furnitureBoxes = furniture.stream()
+                .map(item -> OrientedBox.of(item, FURNITURE_SIZE, FURNITURE_SIZE))
+                .toList();
+        furnitureIndex = OrientedBoxIndex.of(furnitureBoxes, INDEX_CELL_SIZE);
+
+        Random random = new Random(11);
+        queryX = new double[QUERIES];
+        queryY = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextDouble() * extent;
+            queryY[i] = random.nextDouble() * extent;
+        }
+    }
+
+    // 캐시 없이 전체 계산 (방을 처음 열 때)
+    @Benchmark
+    public List<?> closedAreasFull() {
+        return new ClosedAreaDetector(1, 1, INDEX_CELL_SIZE).detect(segments);
+    }
+
+    @Benchmark
+    public WallSpatialIndex buildSpatialIndex() {
+        return WallSpatialIndex.of(segments, INDEX_CELL_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void snapToEndpoint(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(spatialIndex.nearestEndpoint(queryX[i], queryY[i], 20, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void snapToSegment(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(spatialIndex.nearestPointOnSegment(queryX[i], queryY[i], 20, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void hitTest(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(spatialIndex.hitTest(queryX[i], queryY[i], 5));
+        }
+    }
+
+    // 화면 크기(1200x800) 영역 조회
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void segmentsInViewport(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(spatialIndex.segmentsInBox(queryX[i], queryY[i], queryX[i] + 1200, queryY[i] + 800));
+        }
+    }
+
+    // 인덱스 없이 모든 벽 쌍을 검사하는 기준값 (cells가 크면 느려지므로 비교용)
+    @Benchmark
+    public int pairwiseIntersections() {
+        int count = 0;
+        int n = Math.min(segments.size(), 2000);
+        for (int i = 0; i < n; i++) {
+            WallSegment a = segments.get(i);
+            for (int j = i + 1; j < n; j++) {
+                WallSegment b = segments.get(j);
+                if (Intersections.segmentsIntersect(a.x1(), a.y1(), a.x2(), a.y2(), b.x1(), b.y1(), b.x2(), b.y2())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void furnitureCollision(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(furnitureIndex.overlapping(furnitureBoxes.get(i % furnitureBoxes.size())));
+        }
+    }
+}
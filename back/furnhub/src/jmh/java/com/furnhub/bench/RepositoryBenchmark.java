@@ -0,0 +1,91 @@
+package com.furnhub.bench;
+
+import com.furnhub.FurnhubApplication;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.RoomService;
+import com.furnhub.support.SyntheticPlans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 DB(H2, test 프로필)에 방 하나를 채워 두고 방 단위 조회를 측정.
+ * 엔티티 조회(findByRoomId)와 DTO 조회(findDtosByRoomId), 스냅샷 전체를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"10", "40"})
+    public int cells;
+
+    private ConfigurableApplicationContext context;
+    private WallRepository wallRepository;
+    private RoomFurnitureRepository furnitureRepository;
+    private RoomService roomService;
+    private Long roomId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FurnhubApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        wallRepository = context.getBean(WallRepository.class);
+        furnitureRepository = context.getBean(RoomFurnitureRepository.class);
+        roomService = context.getBean(RoomService.class);
+
+        Room room = new Room();
+        room.setName("bench-" + cells);
+        room = context.getBean(RoomRepository.class).save(room);
+        roomId = room.getId();
+        wallRepository.saveAll(SyntheticPlans.wallEntities(room, cells));
+        furnitureRepository.saveAll(SyntheticPlans.furnitureEntities(room, SyntheticPlans.wallCount(cells) / 2,
+                SyntheticPlans.extent(cells), 5));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Wall> wallEntitiesByRoomId() {
+        return wallRepository.findByRoomId(roomId);
+    }
+
+    @Benchmark
+    public List<WallDto> wallDtosByRoomId() {
+        return wallRepository.findDtosByRoomId(roomId);
+    }
+
+    @Benchmark
+    public RoomSnapshotDto snapshot() {
+        return roomService.getRoomSnapshot(roomId);
+    }
+}
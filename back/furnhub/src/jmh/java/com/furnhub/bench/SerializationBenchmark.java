@@ -0,0 +1,111 @@
+package com.furnhub.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.furnhub.codec.FloorPlanCodec;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.support.SyntheticPlans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큰 벽/가구 목록의 응답 직렬화 비용.
+ * 엔티티(room 전체 포함) JSON, DTO(roomId) JSON, 바이너리(application/x-furnhub-plan)를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    // 벽 수 = 2 * cells * (cells + 1), 가구는 벽 수의 절반
+    @Param({"10", "50"})
+    public int cells;
+
+    // 서버와 같은 설정 (LocalDateTime을 ISO 문자열로)
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<Wall> wallEntities;
+    private List<RoomFurniture> furnitureEntities;
+    private RoomSnapshotDto snapshot;
+    private byte[] snapshotJson;
+    private byte[] snapshotBinary;
+
+    @Setup
+    public void setUp() throws IOException {
+        Room room = SyntheticPlans.room("bench");
+        int furnitureCount = SyntheticPlans.wallCount(cells) / 2;
+        double extent = SyntheticPlans.extent(cells);
+        wallEntities = SyntheticPlans.wallEntities(room, cells);
+        furnitureEntities = SyntheticPlans.furnitureEntities(room, furnitureCount, extent, 3);
+
+        List<WallDto> walls = SyntheticPlans.gridWalls(cells);
+        List<RoomFurnitureDto> furniture = SyntheticPlans.furniture(furnitureCount, extent, 3);
+        snapshot = new RoomSnapshotDto(room, walls, furniture, List.of(), List.of());
+        snapshotJson = objectMapper.writeValueAsBytes(snapshot);
+        snapshotBinary = writeBinary();
+    }
+
+    @Benchmark
+    public byte[] wallEntitiesToJson() throws IOException {
+        return objectMapper.writeValueAsBytes(wallEntities);
+    }
+
+    @Benchmark
+    public byte[] furnitureEntitiesToJson() throws IOException {
+        return objectMapper.writeValueAsBytes(furnitureEntities);
+    }
+
+    @Benchmark
+    public byte[] snapshotToJson() throws IOException {
+        return objectMapper.writeValueAsBytes(snapshot);
+    }
+
+    @Benchmark
+    public byte[] snapshotToBinary() throws IOException {
+        return writeBinary();
+    }
+
+    @Benchmark
+    public RoomSnapshotDto snapshotFromJson() throws IOException {
+        return objectMapper.readValue(snapshotJson, RoomSnapshotDto.class);
+    }
+
+    @Benchmark
+    public RoomSnapshotDto snapshotFromBinary() throws IOException {
+        return FloorPlanCodec.readSnapshot(new ByteArrayInputStream(snapshotBinary));
+    }
+
+    private byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        FloorPlanCodec.writeSnapshot(snapshot, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,50 @@
+package com.furnhub.loadtest;
+
+import java.util.Arrays;
+
+// 스레드 하나가 쓰는 지연 시간 기록 (ns). 측정이 끝나면 merge로 합쳐서 백분위를 계산
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private int errors;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    // 정렬된 상태에서 호출 (nearest-rank)
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return samples[Math.max(0, Math.min(size, rank) - 1)] / 1_000_000.0;
+    }
+
+    void sort() {
+        Arrays.sort(samples, 0, size);
+    }
+}
@@ -0,0 +1,307 @@
+package com.furnhub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.furnhub.FurnhubApplication;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.entity.Room;
+import com.furnhub.support.SyntheticPlans;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방/벽/가구 API에 읽기와 쓰기를 섞어서 부하를 주고 처리량과 p50/p99 지연 시간을 출력한다.
+ * loadtest.baseUrl이 없으면 앱을 H2(test 프로필)로 직접 띄운다. 데이터는 HTTP로 넣으므로 외부 서버에도 그대로 쓸 수 있다.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.rooms=20 -Dloadtest.cells=10 -Dloadtest.concurrency=32
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.concurrency=1000 -Dloadtest.virtualThreads=true
+ * </pre>
+ *
+ * 설정 (시스템 프로퍼티, 괄호 안은 기본값)
+ * loadtest.baseUrl(없음), loadtest.rooms(20), loadtest.cells(10, 방마다 벽 2*cells*(cells+1)개),
+ * loadtest.furniture(100, 방마다), loadtest.concurrency(16), loadtest.warmup(10초), loadtest.duration(30초),
+ * loadtest.virtualThreads(false, 내장 서버를 가상 스레드 모드로 실행), loadtest.deferred(false, 이동을 자동 저장 버퍼로 보냄)
+ */
+public final class LoadTest {
+
+    // 비율은 에디터 사용 패턴 기준 (방 열기/목록 조회가 대부분, 이동이 그다음)
+    enum Operation {
+        SNAPSHOT(30),
+        ROOM_LIST(10),
+        WALL_LIST(15),
+        FURNITURE_LIST(15),
+        MOVE_FURNITURE(15),
+        MOVE_WALL(10),
+        CREATE_WALL(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record SeededRoom(long id, List<Long> wallIds, List<Long> furnitureIds) {
+    }
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final int totalWeight;
+    private final String moveQuery = Boolean.getBoolean("loadtest.deferred") ? "?deferred=true" : "";
+    private List<SeededRoom> rooms;
+
+    private LoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+        int weight = 0;
+        for (Operation operation : Operation.values()) {
+            weight += operation.weight;
+        }
+        this.totalWeight = weight;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int roomCount = Integer.getInteger("loadtest.rooms", 20);
+        int cells = Integer.getInteger("loadtest.cells", 10);
+        int furniture = Integer.getInteger("loadtest.furniture", 100);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtualThreads");
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+
+        ConfigurableApplicationContext context = null;
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(FurnhubApplication.class)
+                    .profiles("test")
+                    .properties("server.port=0", "spring.jpa.properties.hibernate.generate_statistics=false",
+                            "spring.threads.virtual.enabled=" + virtualThreads)
+                    .run();
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            LoadTest loadTest = new LoadTest(baseUrl);
+            System.out.printf("Seeding %d rooms (%d walls, %d furniture each) at %s%n",
+                    roomCount, SyntheticPlans.wallCount(cells), furniture, baseUrl);
+            loadTest.seed(roomCount, cells, furniture);
+            System.out.printf("Running %d workers: %ds warmup + %ds measurement (server threads: %s)%n",
+                    concurrency, warmupSeconds, durationSeconds,
+                    context == null ? "external" : virtualThreads ? "virtual" : "platform");
+            Map<Operation, LatencyRecorder> results = loadTest.run(concurrency, warmupSeconds, durationSeconds);
+            report(results, durationSeconds);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    // ===== 데이터 준비 =====
+
+    private void seed(int roomCount, int cells, int furnitureCount) throws IOException, InterruptedException {
+        rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            JsonNode created = send("POST", "/api/rooms", Map.of("name", "loadtest-" + i));
+            long roomId = created.get("id").asLong();
+            Room room = new Room();
+            room.setId(roomId);
+
+            BatchRequest<?> walls = new BatchRequest<>(SyntheticPlans.wallEntities(room, cells), null, null);
+            BatchRequest<?> furniture = new BatchRequest<>(
+                    SyntheticPlans.furnitureEntities(room, furnitureCount, SyntheticPlans.extent(cells), i), null, null);
+            rooms.add(new SeededRoom(roomId,
+                    createdIds(send("POST", "/api/walls/batch", walls)),
+                    createdIds(send("POST", "/api/room-furniture/batch", furniture))));
+        }
+    }
+
+    private static List<Long> createdIds(JsonNode result) {
+        List<Long> ids = new ArrayList<>();
+        result.get("createdIds").forEach(id -> ids.add(id.asLong()));
+        return ids;
+    }
+
+    // ===== 부하 =====
+
+    private Map<Operation, LatencyRecorder> run(int concurrency, int warmupSeconds, int durationSeconds) throws Exception {
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        // 동시성을 크게 올려도 클라이언트 쪽 스레드가 병목이 되지 않도록 가상 스레드 사용
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(measureFrom, measureUntil)));
+            }
+            Map<Operation, LatencyRecorder> merged = recorders();
+            for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+                future.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> work(long measureFrom, long measureUntil) {
+        Map<Operation, LatencyRecorder> recorders = recorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            Operation operation = pick(random);
+            SeededRoom room = rooms.get(random.nextInt(rooms.size()));
+            boolean ok;
+            long started = now;
+            try {
+                ok = execute(operation, room, random);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long finished = System.nanoTime();
+            if (started >= measureFrom) {
+                LatencyRecorder recorder = recorders.get(operation);
+                recorder.record(finished - started);
+                if (!ok) {
+                    recorder.error();
+                }
+            }
+        }
+        return recorders;
+    }
+
+    private Operation pick(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            value -= operation.weight;
+            if (value < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private boolean execute(Operation operation, SeededRoom room, Random random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case SNAPSHOT -> status("GET", "/api/rooms/" + room.id() + "/snapshot", null);
+            case ROOM_LIST -> status("GET", "/api/rooms?size=50", null);
+            case WALL_LIST -> status("GET", "/api/walls/room/" + room.id(), null);
+            case FURNITURE_LIST -> status("GET", "/api/room-furniture/room/" + room.id(), null);
+            case MOVE_FURNITURE -> {
+                long id = room.furnitureIds().get(random.nextInt(room.furnitureIds().size()));
+                yield status("PUT", "/api/room-furniture/" + id + moveQuery, Map.of(
+                        "room", Map.of("id", room.id()),
+                        "assetName", "asset_chair_1",
+                        "positionX", random.nextInt(3000),
+                        "positionY", random.nextInt(3000),
+                        "rotation", random.nextInt(24) * 15,
+                        "scaleX", 1.0,
+                        "scaleY", 1.0));
+            }
+            case MOVE_WALL -> {
+                long id = room.wallIds().get(random.nextInt(room.wallIds().size()));
+                double x = random.nextInt(3000);
+                double y = random.nextInt(3000);
+                yield status("PUT", "/api/walls/" + id + moveQuery, Map.of(
+                        "room", Map.of("id", room.id()),
+                        "startX", x, "startY", y, "endX", x + 300, "endY", y,
+                        "thickness", 10.0, "color", "#000000"));
+            }
+            case CREATE_WALL -> {
+                double x = random.nextInt(3000);
+                double y = random.nextInt(3000);
+                yield status("POST", "/api/walls", Map.of(
+                        "room", Map.of("id", room.id()),
+                        "startX", x, "startY", y, "endX", x, "endY", y + 300,
+                        "thickness", 10.0, "color", "#000000"));
+            }
+        };
+    }
+
+    // ===== HTTP =====
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request(method, path, body), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(method + " " + path + " failed with " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    // 본문은 읽어서 버리고 상태 코드만 확인
+    private boolean status(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request(method, path, body), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() / 100 == 2;
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    // ===== 결과 =====
+
+    private static Map<Operation, LatencyRecorder> recorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    private static void report(Map<Operation, LatencyRecorder> results, int durationSeconds) {
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.printf("%n%-16s %9s %7s %9s %9s %9s %9s%n", "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Map.Entry<Operation, LatencyRecorder> entry : results.entrySet()) {
+            total.merge(entry.getValue());
+            print(entry.getKey().name(), entry.getValue(), durationSeconds);
+        }
+        print("TOTAL", total, durationSeconds);
+    }
+
+    private static void print(String name, LatencyRecorder recorder, int durationSeconds) {
+        recorder.sort();
+        System.out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                name,
+                recorder.count(),
+                recorder.errors(),
+                recorder.count() / (double) durationSeconds,
+                recorder.percentileMillis(50),
+                recorder.percentileMillis(99),
+                recorder.percentileMillis(100));
+    }
+}
@@ -0,0 +1,535 @@
+package com.furnhub.codec;
+
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.dto.RoomFloorDto;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 방 스냅샷과 벽/가구 일괄 저장 요청의 바이너리 표현 (application/x-furnhub-plan).
+ *
+ * <pre>
+ * 헤더     'F' 'H' 'P' 버전(1) 종류(1)
+ * 문자열표  개수, UTF 문자열... (색상, 에셋 이름, 텍스처 경로를 한 번씩만 저장)
+ * 본문     요소 종류별로 개수 + 필드별 배열(struct-of-arrays)
+ * </pre>
+ *
+ * 좌표/크기는 float32, id와 생성 시각(마이크로초)은 앞 요소와의 차이를 varint로, 문자열은 문자열표 인덱스로 저장한다.
+ * float 컬럼의 null은 NaN, id/시각/문자열 인덱스의 null은 0으로 표현한다.
+ * 바이트 순서는 빅엔디언(JS DataView 기본값).
+ */
+public final class FloorPlanCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-furnhub-plan";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    static final int VERSION = 1;
+    static final int KIND_SNAPSHOT = 1;
+    static final int KIND_WALL_BATCH = 2;
+    static final int KIND_FURNITURE_BATCH = 3;
+
+    // 요소/문자열표 개수 상한. 배열을 개수만큼 먼저 만들기 때문에, 몇 바이트짜리 본문이
+    // 큰 개수를 보내 메모리를 다 쓰게 하지 못하도록 막음 (실제 방은 수천 개 수준)
+    static final int MAX_COUNT = 1 << 20;
+
+    private FloorPlanCodec() {
+    }
+
+    // ===== 스냅샷 =====
+
+    public static void writeSnapshot(RoomSnapshotDto snapshot, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        snapshot.walls().forEach(wall -> strings.add(wall.color()));
+        snapshot.furniture().forEach(furniture -> strings.add(furniture.assetName()));
+        snapshot.floors().forEach(floor -> {
+            strings.add(floor.floorAssetName());
+            strings.add(floor.texturePath());
+        });
+
+        DataOutputStream data = begin(out, KIND_SNAPSHOT, strings);
+        Room room = snapshot.room();
+        writeVarLong(data, nullToZero(room.getId()));
+        data.writeUTF(room.getName() == null ? "" : room.getName());
+        writeVarLong(data, nullToZero(room.getRevision()));
+        data.writeLong(micros(room.getCreatedAt()));
+        data.writeLong(micros(room.getUpdatedAt()));
+
+        List<WallDto> walls = snapshot.walls();
+        writeVarInt(data, walls.size());
+        writeDeltas(data, walls, WallDto::id);
+        writeFloats(data, walls, WallDto::startX);
+        writeFloats(data, walls, WallDto::startY);
+        writeFloats(data, walls, WallDto::endX);
+        writeFloats(data, walls, WallDto::endY);
+        writeFloats(data, walls, WallDto::thickness);
+        writeStrings(data, walls, WallDto::color, strings);
+        writeTimes(data, walls, WallDto::createdAt);
+
+        List<RoomFurnitureDto> furniture = snapshot.furniture();
+        writeVarInt(data, furniture.size());
+        writeDeltas(data, furniture, RoomFurnitureDto::id);
+        writeStrings(data, furniture, RoomFurnitureDto::assetName, strings);
+        writeFloats(data, furniture, RoomFurnitureDto::positionX);
+        writeFloats(data, furniture, RoomFurnitureDto::positionY);
+        writeFloats(data, furniture, RoomFurnitureDto::rotation);
+        writeFloats(data, furniture, RoomFurnitureDto::scaleX);
+        writeFloats(data, furniture, RoomFurnitureDto::scaleY);
+        writeTimes(data, furniture, RoomFurnitureDto::createdAt);
+
+        // 면적은 좌표의 제곱 단위라 float32로는 정밀도가 부족함
+        List<ClosedAreaDto> closedAreas = snapshot.closedAreas();
+        writeVarInt(data, closedAreas.size());
+        writeDeltas(data, closedAreas, ClosedAreaDto::id);
+        for (ClosedAreaDto closedArea : closedAreas) {
+            data.writeDouble(closedArea.area() == null ? Double.NaN : closedArea.area());
+        }
+        writeFloats(data, closedAreas, ClosedAreaDto::centerX);
+        writeFloats(data, closedAreas, ClosedAreaDto::centerY);
+        writeTimes(data, closedAreas, ClosedAreaDto::createdAt);
+
+        List<RoomFloorDto> floors = snapshot.floors();
+        writeVarInt(data, floors.size());
+        writeDeltas(data, floors, RoomFloorDto::id);
+        writeDeltas(data, floors, RoomFloorDto::floorAssetId);
+        writeStrings(data, floors, RoomFloorDto::floorAssetName, strings);
+        writeStrings(data, floors, RoomFloorDto::texturePath, strings);
+        writeTimes(data, floors, RoomFloorDto::createdAt);
+
+        data.flush();
+    }
+
+    public static RoomSnapshotDto readSnapshot(InputStream in) throws IOException {
+        DataInputStream data = begin(in, KIND_SNAPSHOT);
+        String[] strings = readStringTable(data);
+
+        Room room = new Room();
+        room.setId(zeroToNull(readVarLong(data)));
+        room.setName(data.readUTF());
+        room.setRevision(readVarLong(data));
+        room.setCreatedAt(dateTime(data.readLong()));
+        room.setUpdatedAt(dateTime(data.readLong()));
+        Long roomId = room.getId();
+
+        int wallCount = readCount(data);
+        Long[] wallIds = readDeltas(data, wallCount);
+        Double[] startX = readFloats(data, wallCount);
+        Double[] startY = readFloats(data, wallCount);
+        Double[] endX = readFloats(data, wallCount);
+        Double[] endY = readFloats(data, wallCount);
+        Double[] thickness = readFloats(data, wallCount);
+        String[] colors = readStrings(data, wallCount, strings);
+        LocalDateTime[] wallCreatedAt = readTimes(data, wallCount);
+        List<WallDto> walls = new ArrayList<>(wallCount);
+        for (int i = 0; i < wallCount; i++) {
+            walls.add(new WallDto(wallIds[i], roomId, startX[i], startY[i], endX[i], endY[i],
+                    thickness[i], colors[i], wallCreatedAt[i]));
+        }
+
+        int furnitureCount = readCount(data);
+        Long[] furnitureIds = readDeltas(data, furnitureCount);
+        String[] assetNames = readStrings(data, furnitureCount, strings);
+        Double[] positionX = readFloats(data, furnitureCount);
+        Double[] positionY = readFloats(data, furnitureCount);
+        Double[] rotation = readFloats(data, furnitureCount);
+        Double[] scaleX = readFloats(data, furnitureCount);
+        Double[] scaleY = readFloats(data, furnitureCount);
+        LocalDateTime[] furnitureCreatedAt = readTimes(data, furnitureCount);
+        List<RoomFurnitureDto> furniture = new ArrayList<>(furnitureCount);
+        for (int i = 0; i < furnitureCount; i++) {
+            furniture.add(new RoomFurnitureDto(furnitureIds[i], roomId, assetNames[i], positionX[i], positionY[i],
+                    rotation[i], scaleX[i], scaleY[i], furnitureCreatedAt[i]));
+        }
+
+        int closedAreaCount = readCount(data);
+        Long[] closedAreaIds = readDeltas(data, closedAreaCount);
+        Double[] areas = new Double[closedAreaCount];
+        for (int i = 0; i < closedAreaCount; i++) {
+            double area = data.readDouble();
+            areas[i] = Double.isNaN(area) ? null : area;
+        }
+        Double[] centerX = readFloats(data, closedAreaCount);
+        Double[] centerY = readFloats(data, closedAreaCount);
+        LocalDateTime[] closedAreaCreatedAt = readTimes(data, closedAreaCount);
+        List<ClosedAreaDto> closedAreas = new ArrayList<>(closedAreaCount);
+        for (int i = 0; i < closedAreaCount; i++) {
+            closedAreas.add(new ClosedAreaDto(closedAreaIds[i], roomId, areas[i], centerX[i], centerY[i],
+                    closedAreaCreatedAt[i]));
+        }
+
+        int floorCount = readCount(data);
+        Long[] floorIds = readDeltas(data, floorCount);
+        Long[] floorAssetIds = readDeltas(data, floorCount);
+        String[] floorAssetNames = readStrings(data, floorCount, strings);
+        String[] texturePaths = readStrings(data, floorCount, strings);
+        LocalDateTime[] floorCreatedAt = readTimes(data, floorCount);
+        List<RoomFloorDto> floors = new ArrayList<>(floorCount);
+        for (int i = 0; i < floorCount; i++) {
+            floors.add(new RoomFloorDto(floorIds[i], roomId, floorAssetIds[i], floorAssetNames[i], texturePaths[i],
+                    floorCreatedAt[i]));
+        }
+
+        return new RoomSnapshotDto(room, walls, furniture, closedAreas, floors);
+    }
+
+    // ===== 일괄 저장 =====
+
+    public static void writeWallBatch(BatchRequest<Wall> batch, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        batch.create().forEach(wall -> strings.add(wall.getColor()));
+        batch.update().forEach(wall -> strings.add(wall.getColor()));
+
+        DataOutputStream data = begin(out, KIND_WALL_BATCH, strings);
+        writeWalls(data, batch.create(), strings);
+        writeWalls(data, batch.update(), strings);
+        writeVarInt(data, batch.delete().size());
+        writeDeltas(data, batch.delete(), Function.identity());
+        data.flush();
+    }
+
+    public static BatchRequest<Wall> readWallBatch(InputStream in) throws IOException {
+        DataInputStream data = begin(in, KIND_WALL_BATCH);
+        String[] strings = readStringTable(data);
+        Map<Long, Room> rooms = new HashMap<>();
+        List<Wall> create = readWalls(data, strings, rooms);
+        List<Wall> update = readWalls(data, strings, rooms);
+        List<Long> delete = List.of(readDeltas(data, readCount(data)));
+        return new BatchRequest<>(create, update, delete);
+    }
+
+    public static void writeFurnitureBatch(BatchRequest<RoomFurniture> batch, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        batch.create().forEach(furniture -> strings.add(furniture.getAssetName()));
+        batch.update().forEach(furniture -> strings.add(furniture.getAssetName()));
+
+        DataOutputStream data = begin(out, KIND_FURNITURE_BATCH, strings);
+        writeFurniture(data, batch.create(), strings);
+        writeFurniture(data, batch.update(), strings);
+        writeVarInt(data, batch.delete().size());
+        writeDeltas(data, batch.delete(), Function.identity());
+        data.flush();
+    }
+
+    public static BatchRequest<RoomFurniture> readFurnitureBatch(InputStream in) throws IOException {
+        DataInputStream data = begin(in, KIND_FURNITURE_BATCH);
+        String[] strings = readStringTable(data);
+        Map<Long, Room> rooms = new HashMap<>();
+        List<RoomFurniture> create = readFurniture(data, strings, rooms);
+        List<RoomFurniture> update = readFurniture(data, strings, rooms);
+        List<Long> delete = List.of(readDeltas(data, readCount(data)));
+        return new BatchRequest<>(create, update, delete);
+    }
+
+    // 일괄 저장에서는 room은 id만 담고 createdAt은 서버에서 정하므로 보내지 않음
+    private static void writeWalls(DataOutputStream data, List<Wall> walls, StringTable strings) throws IOException {
+        writeVarInt(data, walls.size());
+        writeDeltas(data, walls, Wall::getId);
+        writeDeltas(data, walls, wall -> wall.getRoom() == null ? null : wall.getRoom().getId());
+        writeFloats(data, walls, Wall::getStartX);
+        writeFloats(data, walls, Wall::getStartY);
+        writeFloats(data, walls, Wall::getEndX);
+        writeFloats(data, walls, Wall::getEndY);
+        writeFloats(data, walls, Wall::getThickness);
+        writeStrings(data, walls, Wall::getColor, strings);
+    }
+
+    private static List<Wall> readWalls(DataInputStream data, String[] strings, Map<Long, Room> rooms) throws IOException {
+        int count = readCount(data);
+        Long[] ids = readDeltas(data, count);
+        Long[] roomIds = readDeltas(data, count);
+        Double[] startX = readFloats(data, count);
+        Double[] startY = readFloats(data, count);
+        Double[] endX = readFloats(data, count);
+        Double[] endY = readFloats(data, count);
+        Double[] thickness = readFloats(data, count);
+        String[] colors = readStrings(data, count, strings);
+        List<Wall> walls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Wall wall = new Wall();
+            wall.setId(ids[i]);
+            wall.setRoom(roomRef(rooms, roomIds[i]));
+            wall.setStartX(startX[i]);
+            wall.setStartY(startY[i]);
+            wall.setEndX(endX[i]);
+            wall.setEndY(endY[i]);
+            wall.setThickness(thickness[i]);
+            wall.setColor(colors[i]);
+            walls.add(wall);
+        }
+        return walls;
+    }
+
+    private static void writeFurniture(DataOutputStream data, List<RoomFurniture> furniture, StringTable strings) throws IOException {
+        writeVarInt(data, furniture.size());
+        writeDeltas(data, furniture, RoomFurniture::getId);
+        writeDeltas(data, furniture, item -> item.getRoom() == null ? null : item.getRoom().getId());
+        writeStrings(data, furniture, RoomFurniture::getAssetName, strings);
+        writeFloats(data, furniture, RoomFurniture::getPositionX);
+        writeFloats(data, furniture, RoomFurniture::getPositionY);
+        writeFloats(data, furniture, RoomFurniture::getRotation);
+        writeFloats(data, furniture, RoomFurniture::getScaleX);
+        writeFloats(data, furniture, RoomFurniture::getScaleY);
+    }
+
+    private static List<RoomFurniture> readFurniture(DataInputStream data, String[] strings, Map<Long, Room> rooms) throws IOException {
+        int count = readCount(data);
+        Long[] ids = readDeltas(data, count);
+        Long[] roomIds = readDeltas(data, count);
+        String[] assetNames = readStrings(data, count, strings);
+        Double[] positionX = readFloats(data, count);
+        Double[] positionY = readFloats(data, count);
+        Double[] rotation = readFloats(data, count);
+        Double[] scaleX = readFloats(data, count);
+        Double[] scaleY = readFloats(data, count);
+        List<RoomFurniture> furniture = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RoomFurniture item = new RoomFurniture();
+            item.setId(ids[i]);
+            item.setRoom(roomRef(rooms, roomIds[i]));
+            item.setAssetName(assetNames[i]);
+            item.setPositionX(positionX[i]);
+            item.setPositionY(positionY[i]);
+            item.setRotation(rotation[i]);
+            item.setScaleX(scaleX[i]);
+            item.setScaleY(scaleY[i]);
+            furniture.add(item);
+        }
+        return furniture;
+    }
+
+    // JSON의 {"room": {"id": 1}}과 같은 모양
+    private static Room roomRef(Map<Long, Room> rooms, Long roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        return rooms.computeIfAbsent(roomId, id -> {
+            Room room = new Room();
+            room.setId(id);
+            return room;
+        });
+    }
+
+    // ===== 헤더 / 문자열표 =====
+
+    private static DataOutputStream begin(OutputStream out, int kind, StringTable strings) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeByte('F');
+        data.writeByte('H');
+        data.writeByte('P');
+        data.writeByte(VERSION);
+        data.writeByte(kind);
+        writeVarInt(data, strings.values.size());
+        for (String value : strings.values.keySet()) {
+            data.writeUTF(value);
+        }
+        return data;
+    }
+
+    private static DataInputStream begin(InputStream in, int expectedKind) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readUnsignedByte() != 'F' || data.readUnsignedByte() != 'H' || data.readUnsignedByte() != 'P') {
+            throw new IOException("Not a floor plan payload");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported floor plan version: " + version);
+        }
+        int kind = data.readUnsignedByte();
+        if (kind != expectedKind) {
+            throw new IOException("Unexpected floor plan kind: " + kind + " (expected " + expectedKind + ")");
+        }
+        return data;
+    }
+
+    private static String[] readStringTable(DataInputStream data) throws IOException {
+        String[] strings = new String[readCount(data)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = data.readUTF();
+        }
+        return strings;
+    }
+
+    // 0은 null, 그 외는 (표 위치 + 1)
+    private static final class StringTable {
+        private final Map<String, Integer> values = new LinkedHashMap<>();
+
+        void add(String value) {
+            if (value != null) {
+                values.putIfAbsent(value, values.size() + 1);
+            }
+        }
+
+        int indexOf(String value) {
+            return value == null ? 0 : values.get(value);
+        }
+    }
+
+    // ===== 컬럼 =====
+
+    private static <T> void writeFloats(DataOutputStream data, List<T> items, Function<T, Double> field) throws IOException {
+        for (T item : items) {
+            Double value = field.apply(item);
+            data.writeFloat(value == null ? Float.NaN : value.floatValue());
+        }
+    }
+
+    private static Double[] readFloats(DataInputStream data, int count) throws IOException {
+        Double[] values = new Double[count];
+        for (int i = 0; i < count; i++) {
+            float value = data.readFloat();
+            values[i] = Float.isNaN(value) ? null : (double) value;
+        }
+        return values;
+    }
+
+    private static <T> void writeStrings(DataOutputStream data, List<T> items, Function<T, String> field,
+                                         StringTable strings) throws IOException {
+        for (T item : items) {
+            writeVarInt(data, strings.indexOf(field.apply(item)));
+        }
+    }
+
+    private static String[] readStrings(DataInputStream data, int count, String[] strings) throws IOException {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            int index = readVarInt(data);
+            if (index > strings.length) {
+                throw new IOException("String index out of range: " + index);
+            }
+            values[i] = index == 0 ? null : strings[index - 1];
+        }
+        return values;
+    }
+
+    // id 순으로 정렬된 목록이면 대부분 1바이트
+    private static <T> void writeDeltas(DataOutputStream data, List<T> items, Function<T, Long> field) throws IOException {
+        long previous = 0;
+        for (T item : items) {
+            long value = nullToZero(field.apply(item));
+            writeVarLong(data, zigZag(value - previous));
+            previous = value;
+        }
+    }
+
+    private static Long[] readDeltas(DataInputStream data, int count) throws IOException {
+        Long[] values = new Long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarLong(data));
+            values[i] = zeroToNull(previous);
+        }
+        return values;
+    }
+
+    private static <T> void writeTimes(DataOutputStream data, List<T> items, Function<T, LocalDateTime> field) throws IOException {
+        writeDeltas(data, items, item -> micros(field.apply(item)));
+    }
+
+    private static LocalDateTime[] readTimes(DataInputStream data, int count) throws IOException {
+        Long[] micros = readDeltas(data, count);
+        LocalDateTime[] values = new LocalDateTime[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = micros[i] == null ? null : dateTime(micros[i]);
+        }
+        return values;
+    }
+
+    // DB(datetime(6))와 같은 마이크로초 정밀도
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    private static LocalDateTime dateTime(long micros) {
+        if (micros == 0L) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    // ===== varint =====
+
+    private static int readCount(DataInputStream data) throws IOException {
+        int count = readVarInt(data);
+        if (count < 0) {
+            throw new IOException("Negative element count");
+        }
+        if (count > MAX_COUNT) {
+            throw new IOException("Element count too large: " + count + " (max " + MAX_COUNT + ")");
+        }
+        return count;
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        writeVarLong(data, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        long value = readVarLong(data);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private static Long zeroToNull(long value) {
+        return value == 0L ? null : value;
+    }
+}
@@ -0,0 +1,90 @@
+package com.furnhub.codec;
+
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Accept / Content-Type이 application/x-furnhub-plan일 때 {@link FloorPlanCodec}으로 변환.
+ * 스냅샷은 쓰기, 벽/가구 일괄 저장(BatchRequest)은 읽기만 지원한다.
+ */
+public class FloorPlanHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public FloorPlanHttpMessageConverter() {
+        super(FloorPlanCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RoomSnapshotDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return batchElementType(type) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return supports(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return supports(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        Class<?> elementType = batchElementType(type);
+        if (elementType == null) {
+            return readInternal(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+        }
+        try {
+            if (elementType == Wall.class) {
+                return FloorPlanCodec.readWallBatch(inputMessage.getBody());
+            }
+            return FloorPlanCodec.readFurnitureBatch(inputMessage.getBody());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid floor plan payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return FloorPlanCodec.readSnapshot(inputMessage.getBody());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid floor plan payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        FloorPlanCodec.writeSnapshot((RoomSnapshotDto) value, outputMessage.getBody());
+    }
+
+    // BatchRequest<Wall> / BatchRequest<RoomFurniture>면 요소 타입, 아니면 null
+    private static Class<?> batchElementType(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        if (resolved.toClass() != BatchRequest.class) {
+            return null;
+        }
+        Class<?> element = resolved.getGeneric(0).resolve();
+        return element == Wall.class || element == RoomFurniture.class ? element : null;
+    }
+}
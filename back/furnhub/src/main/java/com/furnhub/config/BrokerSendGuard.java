@@ -0,0 +1,33 @@
+package com.furnhub.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.List;
+
+// 클라이언트는 /app 으로만 보낼 수 있음. 브로커 목적지(/topic, /queue, /user)에 직접 SEND하면
+// 서버를 거치지 않고 구독자 전체에 전달되므로 가짜 delta를 뿌릴 수 있어 막는다
+final class BrokerSendGuard implements ChannelInterceptor {
+
+    private static final List<String> BROKER_PREFIXES = List.of("/topic", "/queue", "/user");
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() == StompCommand.SEND && isBrokerDestination(accessor.getDestination())) {
+            throw new MessageDeliveryException(message, "Clients may not send to " + accessor.getDestination());
+        }
+        return message;
+    }
+
+    private static boolean isBrokerDestination(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        return BROKER_PREFIXES.stream().anyMatch(prefix -> destination.equals(prefix) || destination.startsWith(prefix + "/"));
+    }
+}
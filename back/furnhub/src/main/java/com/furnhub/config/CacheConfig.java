@@ -0,0 +1,35 @@
+package com.furnhub.config;
+
+import com.furnhub.image.EncodedImage;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 캐시 크기/만료 정책은 application.properties의 spring.cache.caffeine.spec
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String FURNITURE_CATEGORIES = "furnitureCategories";
+    public static final String ASSET_FURNITURE = "assetFurniture";
+    public static final String ASSET_FLOORS = "assetFloors";
+    public static final String TEXTURE_VARIANTS = "textureVariants";
+
+    // 축소 텍스처는 항목마다 크기가 크게 다르므로 개수가 아니라 바이트 기준으로 제한
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> textureVariantCacheCustomizer(
+            @Value("${furnhub.textures.cache-max-bytes:67108864}") long maxBytes) {
+        return cacheManager -> cacheManager.registerCustomCache(TEXTURE_VARIANTS, Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .expireAfterWrite(Duration.ofHours(6))
+                .weigher((Object key, Object value) -> value instanceof EncodedImage image ? image.data().length : 1)
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,18 @@
+package com.furnhub.config;
+
+import com.furnhub.metrics.SqlStatementListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 엔드포인트별 지연 시간/캐시/JVM/Hibernate 지표는 actuator 자동 설정, SQL 개수는 SqlMetricsFilter가 기록
+@Configuration
+public class MetricsConfig {
+
+    // 새 세션마다 SqlStatementListener를 붙여 요청별 SQL 개수와 시간을 수집
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementListenerCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementListener.class.getName());
+    }
+}
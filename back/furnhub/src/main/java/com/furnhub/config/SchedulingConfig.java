@@ -0,0 +1,10 @@
+package com.furnhub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업: 자동 저장 flush(AutosaveServiceImpl), 실시간 변경 묶음 전송(RoomBroadcastServiceImpl)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package com.furnhub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// spring.threads.virtual.enabled=true일 때만 적용. Tomcat 요청 처리와 @Async/@Scheduled는 Spring Boot가 가상 스레드로 전환
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // 요청 수만큼 늘어나는 가상 스레드가 DB에 한꺼번에 몰리지 않도록 DataSource 앞에 bulkhead를 둔다
+    @Bean
+    public static BeanPostProcessor dataSourceBulkhead(@Value("${furnhub.db.bulkhead.permits:10}") int permits,
+                                                       @Value("${furnhub.db.bulkhead.timeout-ms:1000}") long timeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, permits, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,18 +1,78 @@
 package com.furnhub.config;
 
+import com.furnhub.codec.FloorPlanHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 원본 경로(/assets/...)와 내용 해시가 붙은 경로(/assets-v/...-{md5}.png)
+    public static final String ASSETS_PATH = "/assets/";
+    public static final String VERSIONED_ASSETS_PATH = "/assets-v/";
+
+    private final String assetsLocation;
+
+    public WebConfig(@Value("${furnhub.assets.location}") String assetsLocation) {
+        this.assetsLocation = assetsLocation.endsWith("/") ? assetsLocation : assetsLocation + "/";
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 API 경로에 대해
                 .allowedOrigins("http://localhost:3000") // 프론트엔드 도메인
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 허용할 HTTP 메서드
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS") // 허용할 HTTP 메서드
                 .allowedHeaders("*") // 모든 헤더 허용
+                .exposedHeaders("ETag", "X-Next-Cursor") // 조건부 요청, 다음 페이지 커서
                 .allowCredentials(true); // 쿠키 전달 허용
     }
+
+    // JSON 컨버터 뒤에 두어 Accept가 */*인 요청은 계속 JSON을 받도록 함
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new FloorPlanHttpMessageConverter());
+    }
+
+    // Range 요청과 Last-Modified 처리는 ResourceHttpRequestHandler가 담당
+    // .br/.gz 파일이 옆에 있으면 Accept-Encoding에 맞춰 그 파일을 전송
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 해시가 없는 경로는 파일이 바뀔 수 있으므로 매번 재검증
+        registry.addResourceHandler(ASSETS_PATH + "**")
+                .addResourceLocations(assetsLocation)
+                .setCacheControl(CacheControl.noCache().cachePublic())
+                .setEtagGenerator(WebConfig::assetETag)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        // 해시가 붙은 경로는 내용이 바뀌면 URL도 바뀌므로 1년 immutable
+        registry.addResourceHandler(VERSIONED_ASSETS_PATH + "**")
+                .addResourceLocations(assetsLocation)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .setEtagGenerator(WebConfig::assetETag)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    // 파일 내용을 읽지 않고 수정 시각과 크기로 만드는 ETag
+    private static String assetETag(Resource resource) {
+        try {
+            return Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength());
+        } catch (IOException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.furnhub.controller;
+
+import com.furnhub.service.AssetUrlService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// 에셋 파일 자체는 /assets/**, /assets-v/** 리소스 핸들러가 전송 (WebConfig)
+@RestController
+@RequestMapping("/api/assets")
+public class AssetController {
+
+    private final AssetUrlService assetUrlService;
+
+    public AssetController(AssetUrlService assetUrlService) {
+        this.assetUrlService = assetUrlService;
+    }
+
+    @GetMapping("/url")
+    public ResponseEntity<Map<String, String>> resolveUrl(@RequestParam String path) {
+        String url = assetUrlService.resolveUrl(path);
+        if (url == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(path, url));
+    }
+
+    @PostMapping("/urls")
+    public ResponseEntity<Map<String, String>> resolveUrls(@RequestBody List<String> paths) {
+        Map<String, String> urls = assetUrlService.resolveUrls(paths);
+        return ResponseEntity.ok(urls);
+    }
+
+    @GetMapping("/furniture/{id}")
+    public ResponseEntity<Map<String, String>> getFurnitureSpriteUrls(@PathVariable Long id) {
+        Map<String, String> urls = assetUrlService.getFurnitureSpriteUrls(id);
+        return ResponseEntity.ok(urls);
+    }
+
+    @GetMapping("/floor/{id}")
+    public ResponseEntity<Map<String, String>> getFloorTextureUrl(@PathVariable Long id) {
+        String url = assetUrlService.getFloorTextureUrl(id);
+        if (url == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("texture", url));
+    }
+}
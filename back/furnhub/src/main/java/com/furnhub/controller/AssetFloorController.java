@@ -1,9 +1,12 @@
 package com.furnhub.controller;
 
+import com.furnhub.dto.KeysetPage;
 import com.furnhub.entity.AssetFloor;
 import com.furnhub.service.AssetFloorService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,15 +27,27 @@ public class AssetFloorController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AssetFloor> getAssetFloorById(@PathVariable Long id) {
+    public ResponseEntity<AssetFloor> getAssetFloorById(@PathVariable Long id, WebRequest request) {
+        // 캐시된 엔티티로 버전을 계산하므로 304 응답은 DB를 거치지 않음
         AssetFloor assetFloor = assetFloorService.getAssetFloorById(id);
-        return ResponseEntity.ok(assetFloor);
+        if (request.checkNotModified(ETags.assetFloor(assetFloor), ETags.millis(assetFloor.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(assetFloor);
     }
 
     @GetMapping
-    public ResponseEntity<List<AssetFloor>> getAllAssetFloors() {
+    public ResponseEntity<List<AssetFloor>> getAllAssetFloors(@RequestParam(defaultValue = "id") String sort,
+                                                              @RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = "100") int size,
+                                                              WebRequest request) {
         List<AssetFloor> assetFloors = assetFloorService.getAllAssetFloors();
-        return ResponseEntity.ok(assetFloors);
+        if (request.checkNotModified(ETags.assetFloors(assetFloors))) {
+            return null;
+        }
+        KeysetPage<AssetFloor> page = KeysetPage.slice(assetFloors, Pages.catalogSort(sort), after,
+                KeysetPage.clampSize(size), AssetFloor::getName, AssetFloor::getId);
+        return Pages.ok(page);
     }
 
     @PutMapping("/{id}")
@@ -1,9 +1,13 @@
 package com.furnhub.controller;
 
+import com.furnhub.dto.AssetFurnitureDto;
+import com.furnhub.dto.KeysetPage;
 import com.furnhub.entity.AssetFurniture;
 import com.furnhub.service.AssetFurnitureService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,15 +28,27 @@ public class AssetFurnitureController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AssetFurniture> getAssetFurnitureById(@PathVariable Long id) {
+    public ResponseEntity<AssetFurniture> getAssetFurnitureById(@PathVariable Long id, WebRequest request) {
+        // 카테고리 수정도 응답을 바꾸므로 Last-Modified 없이 ETag로만 비교
         AssetFurniture assetFurniture = assetFurnitureService.getAssetFurnitureById(id);
-        return ResponseEntity.ok(assetFurniture);
+        if (request.checkNotModified(ETags.assetFurniture(assetFurniture))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(assetFurniture);
     }
 
     @GetMapping
-    public ResponseEntity<List<AssetFurniture>> getAllAssetFurniture() {
+    public ResponseEntity<List<AssetFurnitureDto>> getAllAssetFurniture(@RequestParam(defaultValue = "id") String sort,
+                                                                        @RequestParam(required = false) String after,
+                                                                        @RequestParam(defaultValue = "100") int size,
+                                                                        WebRequest request) {
         List<AssetFurniture> assetFurnitureList = assetFurnitureService.getAllAssetFurnitures();
-        return ResponseEntity.ok(assetFurnitureList);
+        if (request.checkNotModified(ETags.assetFurniture(assetFurnitureList))) {
+            return null;
+        }
+        KeysetPage<AssetFurniture> page = KeysetPage.slice(assetFurnitureList, Pages.catalogSort(sort), after,
+                KeysetPage.clampSize(size), AssetFurniture::getName, AssetFurniture::getId);
+        return Pages.ok(page.map(AssetFurnitureDto::from));
     }
 
     @PutMapping("/{id}")
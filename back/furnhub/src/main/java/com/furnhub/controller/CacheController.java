@@ -0,0 +1,41 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        List<CacheStatsDto> stats = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats cacheStats = cache.getNativeCache().stats();
+                    return new CacheStatsDto(
+                            cache.getName(),
+                            cache.getNativeCache().estimatedSize(),
+                            cacheStats.hitCount(),
+                            cacheStats.missCount(),
+                            cacheStats.hitRate(),
+                            cacheStats.evictionCount());
+                })
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
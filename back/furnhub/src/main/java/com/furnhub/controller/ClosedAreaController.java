@@ -1,9 +1,22 @@
 package com.furnhub.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomVersionDto;
+import com.furnhub.dto.Versioned;
 import com.furnhub.entity.ClosedArea;
+import com.furnhub.service.ClosedAreaDetectionService;
 import com.furnhub.service.ClosedAreaService;
+import com.furnhub.service.RoomExportService;
+import com.furnhub.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -11,10 +24,19 @@ import java.util.List;
 @RequestMapping("/api/closed-areas")
 public class ClosedAreaController {
 
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final ClosedAreaService closedAreaService;
+    private final ClosedAreaDetectionService closedAreaDetectionService;
+    private final RoomService roomService;
+    private final RoomExportService roomExportService;
 
-    public ClosedAreaController(ClosedAreaService closedAreaService) {
+    public ClosedAreaController(ClosedAreaService closedAreaService, ClosedAreaDetectionService closedAreaDetectionService,
+                                RoomService roomService, RoomExportService roomExportService) {
         this.closedAreaService = closedAreaService;
+        this.closedAreaDetectionService = closedAreaDetectionService;
+        this.roomService = roomService;
+        this.roomExportService = roomExportService;
     }
 
     @PostMapping
@@ -30,15 +52,37 @@ public class ClosedAreaController {
     }
 
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<List<ClosedArea>> getAllClosedAreasByRoomId(@PathVariable Long roomId) {
-        List<ClosedArea> closedAreas = closedAreaService.getAllClosedAreasByRoomId(roomId);
-        return ResponseEntity.ok(closedAreas);
+    public ResponseEntity<List<ClosedAreaDto>> getAllClosedAreasByRoomId(@PathVariable Long roomId,
+                                                                         @RequestParam(required = false) String after,
+                                                                         @RequestParam(defaultValue = "500") int size,
+                                                                         WebRequest request) {
+        RoomVersionDto version = roomService.getRoomVersion(roomId);
+        if (request.checkNotModified(ETags.room(version, "closed-areas"))) {
+            return null;
+        }
+        KeysetPage<ClosedAreaDto> closedAreas = closedAreaService.getClosedAreasPageByRoomId(roomId, after, KeysetPage.clampSize(size));
+        return Pages.ok(closedAreas);
+    }
+
+    @GetMapping(value = "/room/{roomId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamClosedAreasByRoomId(@PathVariable Long roomId) {
+        roomService.getRoomVersion(roomId);
+        StreamingResponseBody body = out -> roomExportService.writeClosedAreas(roomId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ClosedArea> updateClosedArea(@PathVariable Long id, @RequestBody ClosedArea updatedClosedArea) {
-        ClosedArea closedArea = closedAreaService.updateClosedArea(id, updatedClosedArea);
-        return ResponseEntity.ok(closedArea);
+    public ResponseEntity<ClosedArea> updateClosedArea(@PathVariable Long id, @RequestBody ClosedArea updatedClosedArea,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ClosedArea closedArea = closedAreaService.updateClosedArea(id, updatedClosedArea, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(closedArea.getVersion())).body(closedArea);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ClosedAreaDto> patchClosedArea(@PathVariable Long id, @RequestBody JsonNode patch,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<ClosedAreaDto> patched = closedAreaService.patchClosedArea(id, patch, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(patched.version())).body(patched.value());
     }
 
     @DeleteMapping("/{id}")
@@ -46,4 +90,11 @@ public class ClosedAreaController {
         closedAreaService.deleteClosedArea(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 벽 변경 후에는 자동으로 계산되지만, 자동 계산을 끈 경우나 바로 결과가 필요할 때 직접 요청
+    @PostMapping("/room/{roomId}/detect")
+    public ResponseEntity<List<ClosedAreaDto>> detectClosedAreas(@PathVariable Long roomId) {
+        List<ClosedAreaDto> closedAreas = closedAreaDetectionService.detectClosedAreas(roomId);
+        return ResponseEntity.ok(closedAreas);
+    }
 }
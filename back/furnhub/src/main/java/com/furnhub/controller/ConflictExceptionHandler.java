@@ -0,0 +1,75 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.ConflictDto;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.service.ClosedAreaService;
+import com.furnhub.service.RoomFurnitureService;
+import com.furnhub.service.RoomService;
+import com.furnhub.service.WallService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 낙관적 잠금 충돌(If-Match 버전 불일치, 또는 읽은 뒤 다른 요청이 먼저 저장한 경우)을 409로 바꾼다.
+ * 본문에 현재 상태를 담아 클라이언트가 다시 조회하지 않고 병합/재시도할 수 있게 한다.
+ */
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+
+    private final WallService wallService;
+    private final RoomFurnitureService roomFurnitureService;
+    private final ClosedAreaService closedAreaService;
+    private final RoomService roomService;
+
+    public ConflictExceptionHandler(WallService wallService, RoomFurnitureService roomFurnitureService,
+                                    ClosedAreaService closedAreaService, RoomService roomService) {
+        this.wallService = wallService;
+        this.roomFurnitureService = roomFurnitureService;
+        this.closedAreaService = closedAreaService;
+        this.roomService = roomService;
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ConflictDto> handleConflict(ObjectOptimisticLockingFailureException e) {
+        String type = e.getPersistentClassName();
+        Long id = e.getIdentifier() instanceof Long value ? value : null;
+        Object current = null;
+        Long version = null;
+        if (type != null && id != null) {
+            try {
+                if (type.equals(Wall.class.getName())) {
+                    Wall wall = wallService.getWallById(id);
+                    current = wall;
+                    version = wall.getVersion();
+                } else if (type.equals(RoomFurniture.class.getName())) {
+                    RoomFurniture furniture = roomFurnitureService.getFurnitureById(id);
+                    current = furniture;
+                    version = furniture.getVersion();
+                } else if (type.equals(ClosedArea.class.getName())) {
+                    ClosedArea closedArea = closedAreaService.getClosedAreaById(id);
+                    current = closedArea;
+                    version = closedArea.getVersion();
+                } else if (type.equals(Room.class.getName())) {
+                    Room room = roomService.getRoomById(id);
+                    current = room;
+                    version = room.getVersion();
+                }
+            } catch (IllegalArgumentException deleted) {
+                // 충돌 상대가 삭제였던 경우
+            }
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (version != null) {
+            builder.eTag(ETags.version(version));
+        }
+        String simpleName = type == null ? null : type.substring(type.lastIndexOf('.') + 1);
+        return builder.body(new ConflictDto(simpleName, id, version, current));
+    }
+}
@@ -0,0 +1,138 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.RoomVersionDto;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.entity.AssetFloor;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.entity.FurnitureCategory;
+import com.furnhub.entity.Room;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since)에 쓰는 strong ETag 생성기.
+ * 방 단위 응답은 revision(벽/가구/닫힌 영역 변경마다 증가)으로, 카탈로그는 캐시된 목록의 id/updatedAt 해시로 버전을 만든다.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String room(RoomVersionDto version, String view) {
+        return quote("room-" + version.id() + "-" + view + "-" + version.revision() + "-" + millis(version.updatedAt()));
+    }
+
+    // 스냅샷/바닥 목록처럼 바닥재 카탈로그 내용이 포함되는 응답용
+    static String room(RoomVersionDto version, String view, List<AssetFloor> floors) {
+        return quote("room-" + version.id() + "-" + view + "-" + version.revision() + "-" + millis(version.updatedAt())
+                + "-" + Long.toHexString(floorsHash(floors)));
+    }
+
+    // 방 목록은 테이블 전체가 아니라 응답하는 페이지만으로 계산 (이름 수정은 version, 내용 변경은 revision으로 반영)
+    static String rooms(KeysetPage<Room> page) {
+        long h = seed(page.items().size());
+        for (Room room : page.items()) {
+            h = mix(mix(mix(mix(h, room.getId()), room.getRevision()), room.getVersion()), millis(room.getUpdatedAt()));
+        }
+        h = mix(h, page.nextCursor() == null ? 0L : page.nextCursor().hashCode());
+        return quote("rooms-" + Long.toHexString(h));
+    }
+
+    static String category(FurnitureCategory category) {
+        return quote("category-" + category.getId() + "-" + millis(category.getUpdatedAt()));
+    }
+
+    static String categories(List<FurnitureCategory> categories) {
+        long h = seed(categories.size());
+        for (FurnitureCategory category : categories) {
+            h = mix(mix(h, category.getId()), millis(category.getUpdatedAt()));
+        }
+        return quote("categories-" + Long.toHexString(h));
+    }
+
+    // 가구 에셋 응답에는 카테고리가 포함되므로 카테고리 수정 시각도 반영
+    static String assetFurniture(AssetFurniture asset) {
+        return quote("asset-furniture-" + Long.toHexString(assetFurnitureHash(seed(1), asset)));
+    }
+
+    static String assetFurniture(List<AssetFurniture> assets) {
+        long h = seed(assets.size());
+        for (AssetFurniture asset : assets) {
+            h = assetFurnitureHash(h, asset);
+        }
+        return quote("asset-furniture-list-" + Long.toHexString(h));
+    }
+
+    static String assetFloor(AssetFloor floor) {
+        return quote("asset-floor-" + floor.getId() + "-" + millis(floor.getUpdatedAt()));
+    }
+
+    static String assetFloors(List<AssetFloor> floors) {
+        return quote("asset-floors-" + Long.toHexString(floorsHash(floors)));
+    }
+
+    // PATCH 응답의 엔티티 버전 ("v3")
+    static String version(long version) {
+        return quote("v" + version);
+    }
+
+    // If-Match에서 버전을 읽음. 헤더가 없거나 *이면 null (버전 조건 없이 수정)
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("\"") && tag.endsWith("\"") && tag.length() >= 2) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        if (tag.startsWith("v")) {
+            tag = tag.substring(1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match version: " + ifMatch);
+        }
+    }
+
+    static long millis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long assetFurnitureHash(long h, AssetFurniture asset) {
+        h = mix(mix(h, asset.getId()), millis(asset.getUpdatedAt()));
+        FurnitureCategory category = asset.getCategory();
+        if (category != null) {
+            h = mix(mix(h, category.getId()), millis(category.getUpdatedAt()));
+        }
+        return h;
+    }
+
+    private static long floorsHash(List<AssetFloor> floors) {
+        long h = seed(floors.size());
+        for (AssetFloor floor : floors) {
+            h = mix(mix(h, floor.getId()), millis(floor.getUpdatedAt()));
+        }
+        return h;
+    }
+
+    private static long seed(int size) {
+        return mix(0xcbf29ce484222325L, size);
+    }
+
+    private static long mix(long h, Long value) {
+        return mix(h, value == null ? 0L : value.longValue());
+    }
+
+    private static long mix(long h, long value) {
+        h ^= value;
+        h *= 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 31);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
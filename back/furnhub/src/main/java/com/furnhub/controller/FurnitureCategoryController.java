@@ -1,20 +1,30 @@
 package com.furnhub.controller;
 
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.SpriteAtlasDto;
 import com.furnhub.entity.FurnitureCategory;
+import com.furnhub.image.EncodedImage;
 import com.furnhub.service.FurnitureCategoryService;
+import com.furnhub.service.SpriteAtlasService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/furniture-categories")
 public class FurnitureCategoryController {
 
     private final FurnitureCategoryService furnitureCategoryService;
+    private final SpriteAtlasService spriteAtlasService;
 
-    public FurnitureCategoryController(FurnitureCategoryService furnitureCategoryService) {
+    public FurnitureCategoryController(FurnitureCategoryService furnitureCategoryService, SpriteAtlasService spriteAtlasService) {
         this.furnitureCategoryService = furnitureCategoryService;
+        this.spriteAtlasService = spriteAtlasService;
     }
 
     @PostMapping
@@ -24,15 +34,27 @@ public class FurnitureCategoryController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<FurnitureCategory> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<FurnitureCategory> getCategoryById(@PathVariable Long id, WebRequest request) {
+        // 캐시된 엔티티로 버전을 계산하므로 304 응답은 DB를 거치지 않음
         FurnitureCategory category = furnitureCategoryService.getCategoryById(id);
-        return ResponseEntity.ok(category);
+        if (request.checkNotModified(ETags.category(category), ETags.millis(category.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(category);
     }
 
     @GetMapping
-    public ResponseEntity<List<FurnitureCategory>> getAllCategories() {
+    public ResponseEntity<List<FurnitureCategory>> getAllCategories(@RequestParam(defaultValue = "id") String sort,
+                                                                    @RequestParam(required = false) String after,
+                                                                    @RequestParam(defaultValue = "100") int size,
+                                                                    WebRequest request) {
         List<FurnitureCategory> categories = furnitureCategoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        if (request.checkNotModified(ETags.categories(categories))) {
+            return null;
+        }
+        KeysetPage<FurnitureCategory> page = KeysetPage.slice(categories, Pages.catalogSort(sort), after,
+                KeysetPage.clampSize(size), FurnitureCategory::getName, FurnitureCategory::getId);
+        return Pages.ok(page);
     }
 
     @PutMapping("/{id}")
@@ -46,4 +68,29 @@ public class FurnitureCategoryController {
         furnitureCategoryService.deleteCategory(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 카테고리의 모든 가구 스프라이트를 한 장으로 묶은 아틀라스 좌표표
+    @GetMapping("/{id}/atlas")
+    public ResponseEntity<SpriteAtlasDto> getAtlas(@PathVariable Long id, WebRequest request) {
+        furnitureCategoryService.getCategoryById(id);
+        if (request.checkNotModified("\"atlas-" + id + "-" + spriteAtlasService.getAtlasVersion(id) + "\"")) {
+            return null;
+        }
+        SpriteAtlasDto atlas = spriteAtlasService.getAtlas(id);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(atlas);
+    }
+
+    // imageUrl의 v 값이 현재 버전과 같으면 내용이 바뀌지 않으므로 immutable
+    @GetMapping(value = "/{id}/atlas.png", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getAtlasImage(@PathVariable Long id, @RequestParam(required = false) String v, WebRequest request) {
+        furnitureCategoryService.getCategoryById(id);
+        EncodedImage image = spriteAtlasService.getAtlasImage(id);
+        if (request.checkNotModified("\"" + image.version() + "\"")) {
+            return null;
+        }
+        CacheControl cacheControl = image.version().equals(v)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache();
+        return ResponseEntity.ok().cacheControl(cacheControl).body(image.data());
+    }
 }
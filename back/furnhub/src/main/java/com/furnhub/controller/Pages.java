@@ -0,0 +1,32 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.KeysetPage;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+// 목록 응답 본문은 배열 그대로 두고 다음 페이지 커서는 헤더로 전달 (마지막 페이지면 헤더 없음)
+final class Pages {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private Pages() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
+    }
+
+    // 카탈로그 목록은 전체가 캐시되어 있어 DB 대신 메모리에서 자르므로 id/name 정렬만 지원
+    static String catalogSort(String sort) {
+        if (!"id".equals(sort) && !"name".equals(sort)) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        return sort;
+    }
+}
@@ -1,9 +1,25 @@
 package com.furnhub.controller;
 
+import com.furnhub.codec.FloorPlanCodec;
+import com.furnhub.dto.ChangeSetRequest;
+import com.furnhub.dto.ChangeSetResult;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomChangesDto;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.RoomVersionDto;
 import com.furnhub.entity.Room;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.service.RoomChangeService;
+import com.furnhub.service.RoomExportService;
 import com.furnhub.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -12,9 +28,15 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final RoomChangeService roomChangeService;
+    private final AssetFloorService assetFloorService;
+    private final RoomExportService roomExportService;
 
-    public RoomController(RoomService roomService) {
+    public RoomController(RoomService roomService, RoomChangeService roomChangeService, AssetFloorService assetFloorService, RoomExportService roomExportService) {
         this.roomService = roomService;
+        this.roomChangeService = roomChangeService;
+        this.assetFloorService = assetFloorService;
+        this.roomExportService = roomExportService;
     }
 
     @PostMapping
@@ -24,20 +46,45 @@ public class RoomController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Room> getRoomById(@PathVariable Long id) {
+    public ResponseEntity<Room> getRoomById(@PathVariable Long id, WebRequest request) {
+        // 본문을 읽기 전에 버전만 조회해서 304 여부를 먼저 판단 (ETag/Last-Modified 헤더는 checkNotModified가 채움)
+        RoomVersionDto version = roomService.getRoomVersion(id);
+        if (request.checkNotModified(ETags.room(version, "room"), ETags.millis(version.updatedAt()))) {
+            return null;
+        }
         Room room = roomService.getRoomById(id);
-        return ResponseEntity.ok(room);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(room);
+    }
+
+    @GetMapping("/templates")
+    public ResponseEntity<List<Room>> getTemplates() {
+        return ResponseEntity.ok(roomService.getTemplates());
     }
 
     @GetMapping
-    public ResponseEntity<List<Room>> getAllRooms() {
-        List<Room> rooms = roomService.getAllRooms();
-        return ResponseEntity.ok(rooms);
+    public ResponseEntity<List<Room>> getAllRooms(@RequestParam(defaultValue = "id") String sort,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(defaultValue = "100") int size,
+                                                  WebRequest request) {
+        KeysetPage<Room> rooms = roomService.getRoomsPage(sort, after, KeysetPage.clampSize(size));
+        if (request.checkNotModified(ETags.rooms(rooms))) {
+            return null;
+        }
+        return Pages.ok(rooms);
+    }
+
+    // 페이지 없이 전체 목록이 필요할 때 (DB 커서로 읽으며 바로 전송)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllRooms() {
+        StreamingResponseBody body = roomExportService::writeRooms;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
+    // If-Match는 GET의 ETag(revision 기반)가 아니라 방 본문의 version ("v3")
     @PutMapping("/{id}")
-    public ResponseEntity<Room> updateRoom(@PathVariable Long id, @RequestBody Room updatedRoom) {
-        Room room = roomService.updateRoom(id, updatedRoom);
+    public ResponseEntity<Room> updateRoom(@PathVariable Long id, @RequestBody Room updatedRoom,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Room room = roomService.updateRoom(id, updatedRoom, ETags.parseVersion(ifMatch));
         return ResponseEntity.ok(room);
     }
 
@@ -46,4 +93,59 @@ public class RoomController {
         roomService.deleteRoom(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 템플릿에서 새 방 만들기도 같은 엔드포인트 (template=true면 복사본을 템플릿으로 저장)
+    @PostMapping("/{id}/copy")
+    public ResponseEntity<Room> copyRoom(@PathVariable Long id,
+                                         @RequestParam(required = false) String name,
+                                         @RequestParam(defaultValue = "false") boolean template) {
+        Room copy = roomService.copyRoom(id, name, template);
+        return ResponseEntity.ok(copy);
+    }
+
+    // 편집 중인 클라이언트가 자기 상태가 오래됐는지 확인하는 용도 (revision만 읽으므로 스냅샷보다 훨씬 가벼움)
+    @GetMapping("/{id}/version")
+    public ResponseEntity<RoomVersionDto> getRoomVersion(@PathVariable Long id, WebRequest request) {
+        RoomVersionDto version = roomService.getRoomVersion(id);
+        if (request.checkNotModified(ETags.room(version, "version"))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(version);
+    }
+
+    @GetMapping("/{id}/snapshot")
+    public ResponseEntity<RoomSnapshotDto> getRoomSnapshot(@PathVariable Long id,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                           WebRequest request) {
+        // JSON과 바이너리(application/x-furnhub-plan) 표현이 같은 ETag를 쓰지 않도록 구분
+        String view = accept != null && accept.contains(FloorPlanCodec.MEDIA_TYPE_VALUE) ? "snapshot-bin" : "snapshot";
+        RoomVersionDto version = roomService.getRoomVersion(id);
+        if (request.checkNotModified(ETags.room(version, view, assetFloorService.getAllAssetFloors()))) {
+            return null;
+        }
+        RoomSnapshotDto snapshot = roomService.getRoomSnapshot(id);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(snapshot);
+    }
+
+    @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRoom(@PathVariable Long id) {
+        roomService.getRoomVersion(id);
+        StreamingResponseBody body = out -> roomExportService.writeRoom(id, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("room-" + id + ".json").build().toString())
+                .body(body);
+    }
+
+    @PostMapping("/{id}/changes")
+    public ResponseEntity<ChangeSetResult> applyChanges(@PathVariable Long id, @RequestBody ChangeSetRequest request) {
+        ChangeSetResult result = roomChangeService.applyChanges(id, request);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<RoomChangesDto> getChangesSince(@PathVariable Long id, @RequestParam(defaultValue = "0") long since) {
+        RoomChangesDto changes = roomChangeService.getChangesSince(id, since);
+        return ResponseEntity.ok(changes);
+    }
 }
@@ -1,9 +1,19 @@
 package com.furnhub.controller;
 
+import com.furnhub.dto.KeysetPage;
 import com.furnhub.entity.RoomFloor;
+import com.furnhub.dto.RoomVersionDto;
+import com.furnhub.dto.RoomFloorDto;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.service.RoomExportService;
 import com.furnhub.service.RoomFloorService;
+import com.furnhub.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -12,9 +22,15 @@ import java.util.List;
 public class RoomFloorController {
 
     private final RoomFloorService roomFloorService;
+    private final RoomService roomService;
+    private final AssetFloorService assetFloorService;
+    private final RoomExportService roomExportService;
 
-    public RoomFloorController(RoomFloorService roomFloorService) {
+    public RoomFloorController(RoomFloorService roomFloorService, RoomService roomService, AssetFloorService assetFloorService, RoomExportService roomExportService) {
         this.roomFloorService = roomFloorService;
+        this.roomService = roomService;
+        this.assetFloorService = assetFloorService;
+        this.roomExportService = roomExportService;
     }
 
     @PostMapping
@@ -30,9 +46,23 @@ public class RoomFloorController {
     }
 
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<List<RoomFloor>> getAllRoomFloorsByRoomId(@PathVariable Long roomId) {
-        List<RoomFloor> roomFloors = roomFloorService.getAllRoomFloorsByRoomId(roomId);
-        return ResponseEntity.ok(roomFloors);
+    public ResponseEntity<List<RoomFloorDto>> getAllRoomFloorsByRoomId(@PathVariable Long roomId,
+                                                                       @RequestParam(required = false) String after,
+                                                                       @RequestParam(defaultValue = "500") int size,
+                                                                       WebRequest request) {
+        RoomVersionDto version = roomService.getRoomVersion(roomId);
+        if (request.checkNotModified(ETags.room(version, "floors", assetFloorService.getAllAssetFloors()))) {
+            return null;
+        }
+        KeysetPage<RoomFloorDto> roomFloors = roomFloorService.getRoomFloorsPageByRoomId(roomId, after, KeysetPage.clampSize(size));
+        return Pages.ok(roomFloors);
+    }
+
+    @GetMapping(value = "/room/{roomId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRoomFloorsByRoomId(@PathVariable Long roomId) {
+        roomService.getRoomVersion(roomId);
+        StreamingResponseBody body = out -> roomExportService.writeFloors(roomId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @PutMapping("/{id}")
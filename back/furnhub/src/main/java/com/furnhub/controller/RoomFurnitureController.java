@@ -1,9 +1,26 @@
 package com.furnhub.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.CollisionReport;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.RoomVersionDto;
+import com.furnhub.dto.Versioned;
 import com.furnhub.entity.RoomFurniture;
+import com.furnhub.service.AutosaveService;
+import com.furnhub.service.FurnitureCollisionService;
+import com.furnhub.service.RoomExportService;
 import com.furnhub.service.RoomFurnitureService;
+import com.furnhub.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -11,10 +28,23 @@ import java.util.List;
 @RequestMapping("/api/room-furniture")
 public class RoomFurnitureController {
 
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final RoomFurnitureService roomFurnitureService;
+    private final FurnitureCollisionService collisionService;
+    private final RoomService roomService;
+    private final RoomExportService roomExportService;
+    private final AutosaveService autosaveService;
 
-    public RoomFurnitureController(RoomFurnitureService roomFurnitureService) {
+    public RoomFurnitureController(RoomFurnitureService roomFurnitureService, FurnitureCollisionService collisionService,
+                                   RoomService roomService,
+                                   RoomExportService roomExportService,
+                                   AutosaveService autosaveService) {
         this.roomFurnitureService = roomFurnitureService;
+        this.collisionService = collisionService;
+        this.roomService = roomService;
+        this.roomExportService = roomExportService;
+        this.autosaveService = autosaveService;
     }
 
     @PostMapping
@@ -25,25 +55,76 @@ public class RoomFurnitureController {
 
     @GetMapping("/{id}")
     public ResponseEntity<RoomFurniture> getFurnitureById(@PathVariable Long id) {
+        autosaveService.flushFurniture(id);
         RoomFurniture furniture = roomFurnitureService.getFurnitureById(id);
         return ResponseEntity.ok(furniture);
     }
 
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<List<RoomFurniture>> getAllFurnitureByRoomId(@PathVariable Long roomId) {
-        List<RoomFurniture> furnitureList = roomFurnitureService.getAllFurnitureByRoomId(roomId);
-        return ResponseEntity.ok(furnitureList);
+    public ResponseEntity<List<RoomFurnitureDto>> getAllFurnitureByRoomId(@PathVariable Long roomId,
+                                                                          @RequestParam(required = false) String after,
+                                                                          @RequestParam(defaultValue = "500") int size,
+                                                                          WebRequest request) {
+        RoomVersionDto version = roomService.getRoomVersion(roomId);
+        if (request.checkNotModified(ETags.room(version, "furniture"))) {
+            return null;
+        }
+        KeysetPage<RoomFurnitureDto> furnitureList = roomFurnitureService.getFurniturePageByRoomId(roomId, after, KeysetPage.clampSize(size));
+        return Pages.ok(furnitureList);
+    }
+
+    @GetMapping(value = "/room/{roomId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamFurnitureByRoomId(@PathVariable Long roomId) {
+        roomService.getRoomVersion(roomId);
+        StreamingResponseBody body = out -> roomExportService.writeFurniture(roomId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
+    // deferred=true: 드래그 중 자동 저장. 메모리에 모았다가 나중에 한 번에 저장하고 바로 202 응답
     @PutMapping("/{id}")
-    public ResponseEntity<RoomFurniture> updateFurniture(@PathVariable Long id, @RequestBody RoomFurniture updatedFurniture) {
-        RoomFurniture furniture = roomFurnitureService.updateFurniture(id, updatedFurniture);
-        return ResponseEntity.ok(furniture);
+    public ResponseEntity<RoomFurniture> updateFurniture(@PathVariable Long id, @RequestBody RoomFurniture updatedFurniture,
+                                                         @RequestParam(defaultValue = "false") boolean deferred,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (deferred) {
+            return ResponseEntity.accepted().body(autosaveService.bufferFurniture(id, updatedFurniture));
+        }
+        autosaveService.discardFurniture(id);
+        RoomFurniture furniture = roomFurnitureService.updateFurniture(id, updatedFurniture, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(furniture.getVersion())).body(furniture);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<RoomFurnitureDto> patchFurniture(@PathVariable Long id, @RequestBody JsonNode patch,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        autosaveService.flushFurniture(id);
+        Versioned<RoomFurnitureDto> patched = roomFurnitureService.patchFurniture(id, patch, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(patched.version())).body(patched.value());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFurniture(@PathVariable Long id) {
+        autosaveService.discardFurniture(id);
         roomFurnitureService.deleteFurniture(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> applyBatch(@RequestBody BatchRequest<RoomFurniture> request) {
+        request.update().forEach(item -> autosaveService.discardFurniture(item.getId()));
+        request.delete().forEach(autosaveService::discardFurniture);
+        BatchResult result = roomFurnitureService.applyBatch(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/room/{roomId}/collisions")
+    public ResponseEntity<CollisionReport> checkRoomCollisions(@PathVariable Long roomId) {
+        CollisionReport report = collisionService.checkRoom(roomId);
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping("/room/{roomId}/collisions/check")
+    public ResponseEntity<CollisionReport> checkPlacement(@PathVariable Long roomId, @RequestBody RoomFurniture furniture) {
+        CollisionReport report = collisionService.checkPlacement(roomId, furniture);
+        return ResponseEntity.ok(report);
+    }
 }
@@ -0,0 +1,47 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.ChangeSetRequest;
+import com.furnhub.dto.ChangeSetResult;
+import com.furnhub.dto.RoomMoveDto;
+import com.furnhub.service.RoomBroadcastService;
+import com.furnhub.service.RoomChangeService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+@Controller
+public class RoomRealtimeController {
+
+    private final RoomChangeService roomChangeService;
+    private final RoomBroadcastService roomBroadcastService;
+
+    public RoomRealtimeController(RoomChangeService roomChangeService, RoomBroadcastService roomBroadcastService) {
+        this.roomChangeService = roomChangeService;
+        this.roomBroadcastService = roomBroadcastService;
+    }
+
+    // 결과(revision, id)는 보낸 세션에만, 변경 내용은 커밋 후 방 토픽으로 전파
+    @MessageMapping("/rooms/{roomId}/changes")
+    @SendToUser(destinations = "/queue/changes", broadcast = false)
+    public ChangeSetResult applyChanges(@DestinationVariable Long roomId, @Payload ChangeSetRequest request) {
+        return roomChangeService.applyChanges(roomId, request);
+    }
+
+    // 드래그 중 미리보기는 저장하지 않고 flush 주기마다 묶어서 전파
+    @MessageMapping("/rooms/{roomId}/moves")
+    public void move(@DestinationVariable Long roomId, @Payload RoomMoveDto move,
+                     @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        roomBroadcastService.submitMove(roomId, sessionId, move);
+    }
+
+    @MessageExceptionHandler(IllegalArgumentException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public String handleError(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+}
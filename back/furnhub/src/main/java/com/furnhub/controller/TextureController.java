@@ -0,0 +1,64 @@
+package com.furnhub.controller;
+
+import com.furnhub.image.EncodedImage;
+import com.furnhub.service.TextureVariantService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 줌 단계에 맞는 크기의 텍스처 (level 0 = 원본, 1 = 1/2, 2 = 1/4, 3 = 1/8)
+// width를 주면 그 너비 이상을 유지하는 가장 작은 단계를 고름
+@RestController
+@RequestMapping("/api/textures")
+public class TextureController {
+
+    private final TextureVariantService textureVariantService;
+
+    public TextureController(TextureVariantService textureVariantService) {
+        this.textureVariantService = textureVariantService;
+    }
+
+    @GetMapping(produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getTexture(@RequestParam String path,
+                                             @RequestParam(required = false) Integer level,
+                                             @RequestParam(required = false) Integer width,
+                                             WebRequest request) {
+        EncodedImage image = width != null
+                ? textureVariantService.getVariantForWidth(path, width)
+                : textureVariantService.getVariant(path, level == null ? 0 : level);
+        return respond(image, request);
+    }
+
+    @GetMapping(value = "/floor/{id}", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getFloorTexture(@PathVariable Long id,
+                                                  @RequestParam(required = false) Integer level,
+                                                  @RequestParam(required = false) Integer width,
+                                                  WebRequest request) {
+        EncodedImage image = textureVariantService.getFloorTexture(id, level, width);
+        return respond(image, request);
+    }
+
+    @GetMapping(value = "/furniture/{id}/{view}", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getFurnitureSprite(@PathVariable Long id,
+                                                     @PathVariable String view,
+                                                     @RequestParam(required = false) Integer level,
+                                                     @RequestParam(required = false) Integer width,
+                                                     WebRequest request) {
+        EncodedImage image = textureVariantService.getFurnitureSprite(id, view, level, width);
+        return respond(image, request);
+    }
+
+    // 같은 URL도 원본 교체 시 내용이 바뀌므로 하루 캐시 후 ETag로 재검증
+    private ResponseEntity<byte[]> respond(EncodedImage image, WebRequest request) {
+        if (request.checkNotModified("\"" + image.version() + "\"")) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .body(image.data());
+    }
+}
@@ -1,9 +1,27 @@
 package com.furnhub.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomVersionDto;
+import com.furnhub.dto.Versioned;
+import com.furnhub.dto.WallDto;
 import com.furnhub.entity.Wall;
+import com.furnhub.geometry.NearestPoint;
+import com.furnhub.geometry.WallSegment;
+import com.furnhub.service.AutosaveService;
+import com.furnhub.service.RoomExportService;
+import com.furnhub.service.RoomService;
 import com.furnhub.service.WallService;
+import com.furnhub.service.WallSpatialIndexService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -11,10 +29,21 @@ import java.util.List;
 @RequestMapping("/api/walls")
 public class WallController {
 
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final WallService wallService;
+    private final WallSpatialIndexService spatialIndexService;
+    private final RoomService roomService;
+    private final RoomExportService roomExportService;
+    private final AutosaveService autosaveService;
 
-    public WallController(WallService wallService) {
+    public WallController(WallService wallService, WallSpatialIndexService spatialIndexService, RoomService roomService, RoomExportService roomExportService,
+                          AutosaveService autosaveService) {
         this.wallService = wallService;
+        this.spatialIndexService = spatialIndexService;
+        this.roomService = roomService;
+        this.roomExportService = roomExportService;
+        this.autosaveService = autosaveService;
     }
 
     @PostMapping
@@ -25,25 +54,107 @@ public class WallController {
 
     @GetMapping("/{id}")
     public ResponseEntity<Wall> getWallById(@PathVariable Long id) {
+        autosaveService.flushWall(id);
         Wall wall = wallService.getWallById(id);
         return ResponseEntity.ok(wall);
     }
 
     @GetMapping("/room/{roomId}")
-    public ResponseEntity<List<Wall>> getAllWallsByRoomId(@PathVariable Long roomId) {
-        List<Wall> walls = wallService.getAllWallsByRoomId(roomId);
-        return ResponseEntity.ok(walls);
+    public ResponseEntity<List<WallDto>> getAllWallsByRoomId(@PathVariable Long roomId,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "500") int size,
+                                                             WebRequest request) {
+        RoomVersionDto version = roomService.getRoomVersion(roomId);
+        if (request.checkNotModified(ETags.room(version, "walls"))) {
+            return null;
+        }
+        KeysetPage<WallDto> walls = wallService.getWallsPageByRoomId(roomId, after, KeysetPage.clampSize(size));
+        return Pages.ok(walls);
     }
 
+    @GetMapping(value = "/room/{roomId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamWallsByRoomId(@PathVariable Long roomId) {
+        roomService.getRoomVersion(roomId);
+        StreamingResponseBody body = out -> roomExportService.writeWalls(roomId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // deferred=true: 드래그 중 자동 저장. 메모리에 모았다가 나중에 한 번에 저장하고 바로 202 응답
     @PutMapping("/{id}")
-    public ResponseEntity<Wall> updateWall(@PathVariable Long id, @RequestBody Wall updatedWall) {
-        Wall wall = wallService.updateWall(id, updatedWall);
-        return ResponseEntity.ok(wall);
+    public ResponseEntity<Wall> updateWall(@PathVariable Long id, @RequestBody Wall updatedWall,
+                                           @RequestParam(defaultValue = "false") boolean deferred,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (deferred) {
+            return ResponseEntity.accepted().body(autosaveService.bufferWall(id, updatedWall));
+        }
+        autosaveService.discardWall(id);
+        Wall wall = wallService.updateWall(id, updatedWall, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(wall.getVersion())).body(wall);
+    }
+
+    // JSON merge patch: 보낸 필드만 수정. If-Match에 버전(ETag)을 주면 읽지 않고 버전 조건부로 바로 UPDATE
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<WallDto> patchWall(@PathVariable Long id, @RequestBody JsonNode patch,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        autosaveService.flushWall(id);
+        Versioned<WallDto> patched = wallService.patchWall(id, patch, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.version(patched.version())).body(patched.value());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteWall(@PathVariable Long id) {
+        autosaveService.discardWall(id);
         wallService.deleteWall(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> applyBatch(@RequestBody BatchRequest<Wall> request) {
+        request.update().forEach(item -> autosaveService.discardWall(item.getId()));
+        request.delete().forEach(autosaveService::discardWall);
+        BatchResult result = wallService.applyBatch(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/room/{roomId}/snap/endpoint")
+    public ResponseEntity<NearestPoint> getNearestEndpoint(@PathVariable Long roomId,
+                                                           @RequestParam double x,
+                                                           @RequestParam double y,
+                                                           @RequestParam(defaultValue = "20") double radius,
+                                                           @RequestParam(required = false) Long excludeId) {
+        return spatialIndexService.nearestEndpoint(roomId, x, y, radius, excludeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/room/{roomId}/snap/segment")
+    public ResponseEntity<NearestPoint> getNearestPointOnWall(@PathVariable Long roomId,
+                                                              @RequestParam double x,
+                                                              @RequestParam double y,
+                                                              @RequestParam(defaultValue = "20") double radius,
+                                                              @RequestParam(required = false) Long excludeId) {
+        return spatialIndexService.nearestPointOnSegment(roomId, x, y, radius, excludeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/room/{roomId}/hit")
+    public ResponseEntity<NearestPoint> hitTest(@PathVariable Long roomId,
+                                                @RequestParam double x,
+                                                @RequestParam double y,
+                                                @RequestParam(defaultValue = "5") double tolerance) {
+        return spatialIndexService.hitTest(roomId, x, y, tolerance)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/room/{roomId}/box")
+    public ResponseEntity<List<WallSegment>> getWallsInBox(@PathVariable Long roomId,
+                                                           @RequestParam double minX,
+                                                           @RequestParam double minY,
+                                                           @RequestParam double maxX,
+                                                           @RequestParam double maxY) {
+        List<WallSegment> walls = spatialIndexService.segmentsInBox(roomId, minX, minY, maxX, maxY);
+        return ResponseEntity.ok(walls);
+    }
 }
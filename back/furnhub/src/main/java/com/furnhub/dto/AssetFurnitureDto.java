@@ -0,0 +1,30 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.AssetFurniture;
+
+import java.time.LocalDateTime;
+
+// 카탈로그 목록용: 카테고리는 id만 포함
+public record AssetFurnitureDto(
+        Long id,
+        String name,
+        Long categoryId,
+        String folderName,
+        Double width,
+        Double depth,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static AssetFurnitureDto from(AssetFurniture asset) {
+        return new AssetFurnitureDto(
+                asset.getId(),
+                asset.getName(),
+                asset.getCategory() == null ? null : asset.getCategory().getId(),
+                asset.getFolderName(),
+                asset.getWidth(),
+                asset.getDepth(),
+                asset.getCreatedAt(),
+                asset.getUpdatedAt());
+    }
+}
@@ -0,0 +1,10 @@
+package com.furnhub.dto;
+
+// 아틀라스 이미지 안에서 스프라이트 하나가 차지하는 영역 (픽셀)
+public record AtlasFrame(
+        int x,
+        int y,
+        int width,
+        int height
+) {
+}
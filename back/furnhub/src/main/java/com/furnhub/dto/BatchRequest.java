@@ -0,0 +1,16 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// 한 트랜잭션에서 처리할 생성/수정/삭제 묶음
+public record BatchRequest<T>(
+        List<T> create,
+        List<T> update,
+        List<Long> delete
+) {
+    public BatchRequest {
+        create = create == null ? List.of() : create;
+        update = update == null ? List.of() : update;
+        delete = delete == null ? List.of() : delete;
+    }
+}
@@ -0,0 +1,11 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// createdIds는 요청의 create 순서와 동일
+public record BatchResult(
+        List<Long> createdIds,
+        int updated,
+        int deleted
+) {
+}
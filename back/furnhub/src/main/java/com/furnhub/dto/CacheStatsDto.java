@@ -0,0 +1,11 @@
+package com.furnhub.dto;
+
+public record CacheStatsDto(
+        String name,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+) {
+}
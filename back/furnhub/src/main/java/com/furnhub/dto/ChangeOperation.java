@@ -0,0 +1,13 @@
+package com.furnhub.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.entity.RoomChange;
+
+// ADD는 data 전체, MODIFY는 바뀐 필드만, DELETE는 id만 사용
+public record ChangeOperation(
+        RoomChange.Operation op,
+        RoomChange.EntityType type,
+        Long id,
+        JsonNode data
+) {
+}
@@ -0,0 +1,11 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+public record ChangeSetRequest(
+        List<ChangeOperation> operations
+) {
+    public ChangeSetRequest {
+        operations = operations == null ? List.of() : operations;
+    }
+}
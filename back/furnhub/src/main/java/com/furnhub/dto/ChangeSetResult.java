@@ -0,0 +1,10 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// ids는 operations 순서와 동일 (ADD는 새로 할당된 id)
+public record ChangeSetResult(
+        Long revision,
+        List<Long> ids
+) {
+}
@@ -0,0 +1,25 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.ClosedArea;
+
+import java.time.LocalDateTime;
+
+public record ClosedAreaDto(
+        Long id,
+        Long roomId,
+        Double area,
+        Double centerX,
+        Double centerY,
+        LocalDateTime createdAt
+) {
+
+    public static ClosedAreaDto from(ClosedArea closedArea) {
+        return new ClosedAreaDto(
+                closedArea.getId(),
+                closedArea.getRoom() == null ? null : closedArea.getRoom().getId(),
+                closedArea.getArea(),
+                closedArea.getCenterX(),
+                closedArea.getCenterY(),
+                closedArea.getCreatedAt());
+    }
+}
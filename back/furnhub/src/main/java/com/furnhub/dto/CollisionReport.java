@@ -0,0 +1,16 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// 가구끼리 겹친 쌍과 벽(두께 포함)에 걸친 가구
+public record CollisionReport(
+        List<FurnitureOverlap> furnitureOverlaps,
+        List<WallContact> wallContacts
+) {
+
+    public record FurnitureOverlap(Long furnitureId, Long otherFurnitureId) {
+    }
+
+    public record WallContact(Long furnitureId, Long wallId) {
+    }
+}
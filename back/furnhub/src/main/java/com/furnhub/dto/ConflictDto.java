@@ -0,0 +1,10 @@
+package com.furnhub.dto;
+
+// 409 응답 본문: 서버에 저장된 현재 상태와 버전 (그 사이 삭제됐으면 current는 null)
+public record ConflictDto(
+        String type,
+        Long id,
+        Long currentVersion,
+        Object current
+) {
+}
@@ -0,0 +1,34 @@
+package com.furnhub.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 마지막으로 받은 행의 정렬 키. 클라이언트에는 불투명한 문자열로만 전달
+public record KeysetCursor(String sort, String value, long id) {
+
+    public String encode() {
+        String raw = sort + "\n" + (value == null ? "" : value) + "\n" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만든 커서는 거부
+    public static KeysetCursor decode(String cursor, String expectedSort) {
+        KeysetCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf('\n');
+            int last = raw.lastIndexOf('\n');
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException();
+            }
+            decoded = new KeysetCursor(raw.substring(0, first), raw.substring(first + 1, last),
+                    Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (!decoded.sort().equals(expectedSort)) {
+            throw new IllegalArgumentException("Cursor was created for sort '" + decoded.sort() + "', not '" + expectedSort + "'");
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,57 @@
+package com.furnhub.dto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// nextCursor가 null이면 마지막 페이지
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_SIZE = 1000;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    // size + 1개를 조회해서 다음 페이지가 있는지 판단
+    public static <T> KeysetPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new KeysetPage<>(items, cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    // 이미 메모리에 있는 목록(캐시된 카탈로그)을 같은 커서 규칙으로 자름
+    public static <T> KeysetPage<T> slice(List<T> all, String sort, String after, int size,
+                                          Function<T, String> valueOf, ToLongFunction<T> idOf) {
+        boolean byId = "id".equals(sort);
+        Function<T, String> key = item -> Objects.toString(valueOf.apply(item), "");
+        Comparator<T> order = byId
+                ? Comparator.comparingLong(idOf)
+                : Comparator.comparing(key).thenComparingLong(idOf);
+        KeysetCursor cursor = after == null ? null : KeysetCursor.decode(after, sort);
+        List<T> fetched = all.stream()
+                .filter(item -> cursor == null || isAfter(item, cursor, byId, key, idOf))
+                .sorted(order)
+                .limit(size + 1L)
+                .toList();
+        return of(fetched, size, item -> new KeysetCursor(sort, byId ? null : key.apply(item), idOf.applyAsLong(item)));
+    }
+
+    private static <T> boolean isAfter(T item, KeysetCursor cursor, boolean byId, Function<T, String> key, ToLongFunction<T> idOf) {
+        if (!byId) {
+            int byValue = key.apply(item).compareTo(cursor.value());
+            if (byValue != 0) {
+                return byValue > 0;
+            }
+        }
+        return idOf.applyAsLong(item) > cursor.id();
+    }
+}
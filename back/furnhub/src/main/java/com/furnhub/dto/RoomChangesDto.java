@@ -0,0 +1,16 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// since 이후 변경된 요소의 현재 상태와 삭제된 id 목록
+public record RoomChangesDto(
+        Long roomId,
+        Long revision,
+        List<WallDto> walls,
+        List<RoomFurnitureDto> furniture,
+        List<ClosedAreaDto> closedAreas,
+        List<Long> deletedWallIds,
+        List<Long> deletedFurnitureIds,
+        List<Long> deletedClosedAreaIds
+) {
+}
@@ -0,0 +1,13 @@
+package com.furnhub.dto;
+
+import java.time.LocalDateTime;
+
+public record RoomFloorDto(
+        Long id,
+        Long roomId,
+        Long floorAssetId,
+        String floorAssetName,
+        String texturePath,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,31 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.RoomFurniture;
+
+import java.time.LocalDateTime;
+
+public record RoomFurnitureDto(
+        Long id,
+        Long roomId,
+        String assetName,
+        Double positionX,
+        Double positionY,
+        Double rotation,
+        Double scaleX,
+        Double scaleY,
+        LocalDateTime createdAt
+) {
+
+    public static RoomFurnitureDto from(RoomFurniture furniture) {
+        return new RoomFurnitureDto(
+                furniture.getId(),
+                furniture.getRoom() == null ? null : furniture.getRoom().getId(),
+                furniture.getAssetName(),
+                furniture.getPositionX(),
+                furniture.getPositionY(),
+                furniture.getRotation(),
+                furniture.getScaleX(),
+                furniture.getScaleY(),
+                furniture.getCreatedAt());
+    }
+}
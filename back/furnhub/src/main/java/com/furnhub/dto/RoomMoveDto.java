@@ -0,0 +1,21 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.RoomChange;
+
+// 드래그 중 위치 미리보기 (저장되지 않음). 벽은 start/end, 가구는 position/rotation 사용
+public record RoomMoveDto(
+        RoomChange.EntityType type,
+        Long id,
+        Double startX,
+        Double startY,
+        Double endX,
+        Double endY,
+        Double positionX,
+        Double positionY,
+        Double rotation,
+        String origin
+) {
+    public RoomMoveDto withOrigin(String origin) {
+        return new RoomMoveDto(type, id, startX, startY, endX, endY, positionX, positionY, rotation, origin);
+    }
+}
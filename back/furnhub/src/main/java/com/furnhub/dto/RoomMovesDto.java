@@ -0,0 +1,10 @@
+package com.furnhub.dto;
+
+import java.util.List;
+
+// 한 번의 flush 주기 동안 요소별 마지막 위치만 모은 묶음
+public record RoomMovesDto(
+        Long roomId,
+        List<RoomMoveDto> moves
+) {
+}
@@ -0,0 +1,15 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.Room;
+
+import java.util.List;
+
+// 방 하나를 여는 데 필요한 데이터를 한 번에 내려주는 응답
+public record RoomSnapshotDto(
+        Room room,
+        List<WallDto> walls,
+        List<RoomFurnitureDto> furniture,
+        List<ClosedAreaDto> closedAreas,
+        List<RoomFloorDto> floors
+) {
+}
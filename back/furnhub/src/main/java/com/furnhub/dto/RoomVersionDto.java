@@ -0,0 +1,11 @@
+package com.furnhub.dto;
+
+import java.time.LocalDateTime;
+
+// ETag 계산용: 방 전체를 읽지 않고 revision과 수정 시각만 조회
+public record RoomVersionDto(
+        Long id,
+        Long revision,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.furnhub.dto;
+
+import java.util.Map;
+
+// frames: 가구 에셋 id -> 방향(front/back/left/right) -> 영역
+public record SpriteAtlasDto(
+        Long categoryId,
+        String imageUrl,
+        String version,
+        int width,
+        int height,
+        Map<Long, Map<String, AtlasFrame>> frames
+) {
+}
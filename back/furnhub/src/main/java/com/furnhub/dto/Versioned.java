@@ -0,0 +1,8 @@
+package com.furnhub.dto;
+
+// 응답 본문과 ETag로 내려줄 엔티티 버전
+public record Versioned<T>(
+        T value,
+        long version
+) {
+}
@@ -0,0 +1,31 @@
+package com.furnhub.dto;
+
+import com.furnhub.entity.Wall;
+
+import java.time.LocalDateTime;
+
+public record WallDto(
+        Long id,
+        Long roomId,
+        Double startX,
+        Double startY,
+        Double endX,
+        Double endY,
+        Double thickness,
+        String color,
+        LocalDateTime createdAt
+) {
+
+    public static WallDto from(Wall wall) {
+        return new WallDto(
+                wall.getId(),
+                wall.getRoom() == null ? null : wall.getRoom().getId(),
+                wall.getStartX(),
+                wall.getStartY(),
+                wall.getEndX(),
+                wall.getEndY(),
+                wall.getThickness(),
+                wall.getColor(),
+                wall.getCreatedAt());
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "assets_furniture")
+@NamedEntityGraph(name = "AssetFurniture.detail", attributeNodes = @NamedAttributeNode("category"))
 public class AssetFurniture {
 
     @Id
@@ -14,19 +15,31 @@ public class AssetFurniture {
     @Column(nullable = false)
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private FurnitureCategory category;
 
     @Column(nullable = false)
     private String folderName;
 
+    // 평면도에서 차지하는 크기 (scale 1 기준, 도면 단위). 비어 있으면 furnhub.collision.base-width/height 사용
+    @Column
+    private Double width;
+
+    @Column
+    private Double depth;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Column(nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -60,6 +73,22 @@ public class AssetFurniture {
         this.folderName = folderName;
     }
 
+    public Double getWidth() {
+        return width;
+    }
+
+    public void setWidth(Double width) {
+        this.width = width;
+    }
+
+    public Double getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Double depth) {
+        this.depth = depth;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -82,8 +111,10 @@ public class AssetFurniture {
         return "FurnitureAsset{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
-                ", category=" + category +
+                ", categoryId=" + (category == null ? null : category.getId()) +
                 ", folderName='" + folderName + '\'' +
+                ", width=" + width +
+                ", depth=" + depth +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -1,17 +1,21 @@
 package com.furnhub.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "closed_areas")
+@NamedEntityGraph(name = "ClosedArea.detail", attributeNodes = @NamedAttributeNode("room"))
 public class ClosedArea {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
@@ -24,9 +28,18 @@ public class ClosedArea {
     @Column
     private Double centerY;
 
+    // 벽 그래프에서 자동으로 계산된 공간. 직접 만든 공간(false)은 자동 계산이 지우지 않음
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private boolean detected;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -68,6 +81,14 @@ public class ClosedArea {
         this.centerY = centerY;
     }
 
+    public boolean isDetected() {
+        return detected;
+    }
+
+    public void setDetected(boolean detected) {
+        this.detected = detected;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -76,15 +97,24 @@ public class ClosedArea {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // toString Method
     @Override
     public String toString() {
         return "ClosedArea{" +
                 "id=" + id +
-                ", room=" + room +
+                ", roomId=" + (room == null ? null : room.getId()) +
                 ", area=" + area +
                 ", centerX=" + centerX +
                 ", centerY=" + centerY +
+                ", detected=" + detected +
                 ", createdAt=" + createdAt +
                 '}';
     }
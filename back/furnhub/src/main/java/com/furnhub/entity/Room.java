@@ -1,10 +1,16 @@
 package com.furnhub.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "rooms")
+// 지연 로딩 프록시를 그대로 직렬화할 때 Hibernate 내부 필드는 제외
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_name_id", columnList = "name, id"),
+        @Index(name = "idx_rooms_updated_at_id", columnList = "updated_at, id")
+})
 public class Room {
 
     @Id
@@ -14,12 +20,30 @@ public class Room {
     @Column(nullable = false)
     private String name;
 
+    // 템플릿 방은 복사(/copy)해서 새 방을 만드는 용도
+    @Column(nullable = false)
+    private boolean template;
+
+    // 벽/가구/닫힌 공간이 바뀔 때마다 1씩 증가
+    @Column(nullable = false)
+    private Long revision = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // 방 자체(이름) 수정의 동시성 검사용. 벽/가구 등 내용 변경은 revision으로 추적
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -37,6 +61,22 @@ public class Room {
         this.name = name;
     }
 
+    public boolean isTemplate() {
+        return template;
+    }
+
+    public void setTemplate(boolean template) {
+        this.template = template;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -53,12 +93,22 @@ public class Room {
         this.updatedAt = updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // toString Method
     @Override
     public String toString() {
         return "Room{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
+                ", template=" + template +
+                ", revision=" + revision +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -0,0 +1,123 @@
+package com.furnhub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "room_changes", indexes = @Index(name = "idx_room_changes_room_revision", columnList = "room_id, revision"))
+public class RoomChange {
+
+    public enum EntityType {
+        WALL, FURNITURE, CLOSED_AREA
+    }
+
+    public enum Operation {
+        ADD, MODIFY, DELETE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_change_seq")
+    @SequenceGenerator(name = "room_change_seq", sequenceName = "room_changes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public RoomChange() {
+    }
+
+    public RoomChange(Long roomId, EntityType entityType, Long entityId, Operation operation) {
+        this.roomId = roomId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // toString Method
+    @Override
+    public String toString() {
+        return "RoomChange{" +
+                "id=" + id +
+                ", roomId=" + roomId +
+                ", revision=" + revision +
+                ", entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", operation=" + operation +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
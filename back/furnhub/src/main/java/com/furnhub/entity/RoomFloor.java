@@ -6,17 +6,19 @@ import jakarta.persistence.*;
 
 @Entity
 @Table(name = "room_floor")
+@NamedEntityGraph(name = "RoomFloor.detail", attributeNodes = {@NamedAttributeNode("room"), @NamedAttributeNode("floorAsset")})
+@NamedEntityGraph(name = "RoomFloor.list", attributeNodes = @NamedAttributeNode("floorAsset"))
 public class RoomFloor {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assets_floor_id", nullable = false)
     private AssetFloor floorAsset;
 
@@ -61,8 +63,8 @@ public class RoomFloor {
     public String toString() {
         return "RoomFloor{" +
                 "id=" + id +
-                ", room=" + room +
-                ", floorAsset=" + floorAsset +
+                ", roomId=" + (room == null ? null : room.getId()) +
+                ", floorAssetId=" + (floorAsset == null ? null : floorAsset.getId()) +
                 ", createdAt=" + createdAt +
                 '}';
     }
@@ -1,17 +1,22 @@
 package com.furnhub.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "room_furniture")
+@NamedEntityGraph(name = "RoomFurniture.detail", attributeNodes = @NamedAttributeNode("room"))
 public class RoomFurniture {
 
+    // IDENTITY는 insert 배치가 불가능하므로 시퀀스(테이블) 기반으로 id를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_furniture_seq")
+    @SequenceGenerator(name = "room_furniture_seq", sequenceName = "room_furniture_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
@@ -36,6 +41,10 @@ public class RoomFurniture {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -109,12 +118,20 @@ public class RoomFurniture {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // toString Method
     @Override
     public String toString() {
         return "RoomFurniture{" +
                 "id=" + id +
-                ", room=" + room +
+                ", roomId=" + (room == null ? null : room.getId()) +
                 ", assetName='" + assetName + '\'' +
                 ", positionX=" + positionX +
                 ", positionY=" + positionY +
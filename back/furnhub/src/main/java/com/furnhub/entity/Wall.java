@@ -3,16 +3,21 @@ package com.furnhub.entity;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "walls")
+@NamedEntityGraph(name = "Wall.detail", attributeNodes = @NamedAttributeNode("room"))
 public class Wall {
 
+    // IDENTITY는 insert 배치가 불가능하므로 시퀀스(테이블) 기반으로 id를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wall_seq")
+    @SequenceGenerator(name = "wall_seq", sequenceName = "walls_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
@@ -37,6 +42,11 @@ public class Wall {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // If-Match로 받은 버전이 같을 때만 수정 (PATCH)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -110,12 +120,20 @@ public class Wall {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // toString Method
     @Override
     public String toString() {
         return "Wall{" +
                 "id=" + id +
-                ", room=" + room +
+                ", roomId=" + (room == null ? null : room.getId()) +
                 ", startX=" + startX +
                 ", startY=" + startY +
                 ", endX=" + endX +
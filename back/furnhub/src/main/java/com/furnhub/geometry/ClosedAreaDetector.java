@@ -0,0 +1,324 @@
+package com.furnhub.geometry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벽 선분으로 평면 그래프를 만들고 최소 닫힌 면(face)을 찾는다.
+ * 교차점에서 벽을 나누는 방식은 클라이언트의 splitWallAtPoint와 같다.
+ * 지난 결과와 정점별 이웃(각도 순)을 비교해서, 이웃이 바뀐 정점을 지나는 면만 다시 따라가고 나머지 면은 그대로 쓴다.
+ * 면을 따라가는 규칙은 경계 위 정점들의 이웃 순서만으로 정해지므로, 바뀐 정점을 지나지 않는 면은 그대로 유효하다.
+ * 벽 배치 전체가 지난번과 같으면(색만 바뀐 경우나 같은 방을 다시 검사하는 경우) 그래프도 만들지 않는다.
+ */
+public class ClosedAreaDetector {
+
+    private final double tolerance;
+    private final double minArea;
+    private final double cellSize;
+    // 지난 결과의 정점 -> 이웃 정점(각도 순, 막다른 벽 제거 후)
+    private Map<Point, List<Point>> lastNeighbors = Map.of();
+    private long lastInputSignature;
+    private List<PlanarFace> lastFaces;
+    private int lastTracedCycles;
+
+    public ClosedAreaDetector(double tolerance, double minArea, double cellSize) {
+        this.tolerance = tolerance;
+        this.minArea = minArea;
+        this.cellSize = cellSize;
+    }
+
+    public synchronized List<PlanarFace> detect(Collection<WallSegment> segments) {
+        long inputSignature = inputSignature(segments);
+        if (lastFaces != null && inputSignature == lastInputSignature) {
+            lastTracedCycles = 0;
+            return lastFaces;
+        }
+        Graph graph = buildGraph(segments);
+        Map<Integer, List<Integer>> neighbors = graph.sortedNeighbors();
+
+        Map<Point, List<Point>> pointNeighbors = new HashMap<>();
+        List<Integer> changed = new ArrayList<>();
+        Set<Point> changedPoints = new HashSet<>();
+        for (Map.Entry<Integer, List<Integer>> entry : neighbors.entrySet()) {
+            Point point = graph.point(entry.getKey());
+            List<Point> around = entry.getValue().stream().map(graph::point).toList();
+            pointNeighbors.put(point, around);
+            if (!around.equals(lastNeighbors.get(point))) {
+                changed.add(entry.getKey());
+                changedPoints.add(point);
+            }
+        }
+
+        // 바뀐 정점을 지나지 않고, 정점이 모두 남아 있는 면은 그대로 유지
+        List<PlanarFace> faces = new ArrayList<>();
+        if (lastFaces != null) {
+            for (PlanarFace face : lastFaces) {
+                if (face.boundary().stream().allMatch(point -> pointNeighbors.containsKey(point) && !changedPoints.contains(point))) {
+                    faces.add(face);
+                }
+            }
+        }
+        faces.addAll(graph.traceFaces(neighbors, changed, minArea));
+
+        lastNeighbors = pointNeighbors;
+        lastTracedCycles = graph.tracedCycles;
+        lastInputSignature = inputSignature;
+        lastFaces = List.copyOf(faces);
+        return lastFaces;
+    }
+
+    // 마지막 detect에서 다시 따라간 경계 수 (바깥 경계 포함)
+    public synchronized int getLastTracedCycles() {
+        return lastTracedCycles;
+    }
+
+    // 벽 좌표만으로 만든 값 (id, 색, 두께와 입력 순서는 결과에 영향이 없으므로 제외)
+    private static long inputSignature(Collection<WallSegment> segments) {
+        long[] hashes = new long[segments.size()];
+        int i = 0;
+        for (WallSegment segment : segments) {
+            long a = Graph.mix(Double.doubleToLongBits(segment.x1()) * 31 + Double.doubleToLongBits(segment.y1()));
+            long b = Graph.mix(Double.doubleToLongBits(segment.x2()) * 31 + Double.doubleToLongBits(segment.y2()));
+            hashes[i++] = Graph.mix(Math.min(a, b) * 31 + Math.max(a, b));
+        }
+        Arrays.sort(hashes);
+        long hash = hashes.length;
+        for (long value : hashes) {
+            hash = Graph.mix(hash * 0x9E3779B97F4A7C15L + value);
+        }
+        return hash;
+    }
+
+    private Graph buildGraph(Collection<WallSegment> segments) {
+        List<WallSegment> walls = segments.stream().filter(segment -> segment.length() > tolerance).toList();
+        WallSpatialIndex index = WallSpatialIndex.of(walls, cellSize);
+        Graph graph = new Graph(tolerance);
+        for (WallSegment wall : walls) {
+            // {t, x, y}: 벽 위의 분할 지점
+            List<double[]> points = new ArrayList<>();
+            points.add(new double[]{0, wall.x1(), wall.y1()});
+            points.add(new double[]{1, wall.x2(), wall.y2()});
+            for (WallSegment other : index.segmentsInBox(wall.minX() - tolerance, wall.minY() - tolerance,
+                    wall.maxX() + tolerance, wall.maxY() + tolerance)) {
+                if (other.id() == wall.id()) {
+                    continue;
+                }
+                double[] crossing = Intersections.intersection(wall.x1(), wall.y1(), wall.x2(), wall.y2(),
+                        other.x1(), other.y1(), other.x2(), other.y2());
+                if (crossing != null) {
+                    points.add(new double[]{parameter(wall, crossing[0], crossing[1]), crossing[0], crossing[1]});
+                }
+                // T자 연결이나 겹친 벽은 상대 끝점에서 나눈다
+                addIfOnWall(wall, other.x1(), other.y1(), points);
+                addIfOnWall(wall, other.x2(), other.y2(), points);
+            }
+            points.sort(Comparator.comparingDouble(point -> point[0]));
+            int previous = -1;
+            for (double[] point : points) {
+                int vertex = graph.vertex(point[1], point[2]);
+                if (previous >= 0 && previous != vertex) {
+                    graph.edge(previous, vertex);
+                }
+                previous = vertex;
+            }
+        }
+        return graph;
+    }
+
+    private void addIfOnWall(WallSegment wall, double x, double y, List<double[]> points) {
+        double[] closest = wall.closestPoint(x, y);
+        if (Math.hypot(closest[0] - x, closest[1] - y) <= tolerance) {
+            points.add(new double[]{parameter(wall, x, y), x, y});
+        }
+    }
+
+    private static double parameter(WallSegment wall, double x, double y) {
+        double dx = wall.x2() - wall.x1();
+        double dy = wall.y2() - wall.y1();
+        return ((x - wall.x1()) * dx + (y - wall.y1()) * dy) / (dx * dx + dy * dy);
+    }
+
+    private static final class Graph {
+
+        private final double tolerance;
+        private final List<double[]> vertices = new ArrayList<>();
+        // tolerance 크기 격자 셀별 정점 목록
+        private final Map<Long, List<Integer>> vertexCells = new HashMap<>();
+        private final List<int[]> edges = new ArrayList<>();
+        private final Set<Long> edgeKeys = new HashSet<>();
+        private int tracedCycles;
+
+        private Graph(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        // tolerance 안의 점은 같은 정점으로 합침. 반올림한 칸이 아니라 거리로 비교해야
+        // 칸 경계 양쪽에 있는 가까운 두 끝점도 합쳐지므로 주변 3x3 칸을 모두 확인
+        int vertex(double x, double y) {
+            long cellX = (long) Math.floor(x / tolerance);
+            long cellY = (long) Math.floor(y / tolerance);
+            int nearest = -1;
+            double nearestDistance = tolerance;
+            for (long cx = cellX - 1; cx <= cellX + 1; cx++) {
+                for (long cy = cellY - 1; cy <= cellY + 1; cy++) {
+                    List<Integer> bucket = vertexCells.get(pack(cx, cy));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (int candidate : bucket) {
+                        double[] point = vertices.get(candidate);
+                        double distance = Math.hypot(point[0] - x, point[1] - y);
+                        if (distance <= nearestDistance) {
+                            nearest = candidate;
+                            nearestDistance = distance;
+                        }
+                    }
+                }
+            }
+            if (nearest >= 0) {
+                return nearest;
+            }
+            vertices.add(new double[]{x, y});
+            int created = vertices.size() - 1;
+            vertexCells.computeIfAbsent(pack(cellX, cellY), k -> new ArrayList<>()).add(created);
+            return created;
+        }
+
+        void edge(int a, int b) {
+            int from = Math.min(a, b);
+            int to = Math.max(a, b);
+            if (edgeKeys.add(pack(from, to))) {
+                edges.add(new int[]{from, to});
+            }
+        }
+
+        Point point(int vertex) {
+            double[] coordinates = vertices.get(vertex);
+            return new Point(coordinates[0], coordinates[1]);
+        }
+
+        // 막다른 벽을 뺀 정점별 이웃을 각도 순(반시계)으로 정렬
+        Map<Integer, List<Integer>> sortedNeighbors() {
+            Map<Integer, List<Integer>> neighbors = new HashMap<>();
+            for (int[] edge : edges) {
+                neighbors.computeIfAbsent(edge[0], v -> new ArrayList<>()).add(edge[1]);
+                neighbors.computeIfAbsent(edge[1], v -> new ArrayList<>()).add(edge[0]);
+            }
+            pruneDanglingEdges(neighbors);
+            for (Map.Entry<Integer, List<Integer>> entry : neighbors.entrySet()) {
+                double[] origin = vertices.get(entry.getKey());
+                entry.getValue().sort(Comparator.comparingDouble(neighbor -> {
+                    double[] point = vertices.get(neighbor);
+                    return Math.atan2(point[1] - origin[1], point[0] - origin[0]);
+                }));
+            }
+            return neighbors;
+        }
+
+        // starts 정점에서 나가는 변마다 면 경계를 따라감. 한 면은 경계 위 어느 정점에서 시작해도 같으므로 starts를 지나는 면을 모두 찾음
+        List<PlanarFace> traceFaces(Map<Integer, List<Integer>> neighbors, Collection<Integer> starts, double minArea) {
+            List<PlanarFace> faces = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            int limit = edges.size() * 2 + 1;
+            for (int start : starts) {
+                for (int next : neighbors.get(start)) {
+                    if (visited.contains(pack(start, next))) {
+                        continue;
+                    }
+                    List<Integer> cycle = new ArrayList<>();
+                    int from = start;
+                    int to = next;
+                    // 진행 방향 왼쪽에 면이 오도록, 도착 정점에서 들어온 방향 바로 시계 방향 이웃으로 이동
+                    while (visited.add(pack(from, to)) && cycle.size() <= limit) {
+                        cycle.add(from);
+                        List<Integer> around = neighbors.get(to);
+                        int index = around.indexOf(from);
+                        int following = around.get((index - 1 + around.size()) % around.size());
+                        from = to;
+                        to = following;
+                    }
+                    tracedCycles++;
+                    PlanarFace face = toFace(cycle);
+                    if (face != null && face.area() > minArea) {
+                        faces.add(face);
+                    }
+                }
+            }
+            return faces;
+        }
+
+        // 막다른 벽은 면을 만들지 않으므로 차수 1인 정점을 반복해서 제거
+        private void pruneDanglingEdges(Map<Integer, List<Integer>> neighbors) {
+            Deque<Integer> queue = new ArrayDeque<>();
+            neighbors.forEach((vertex, around) -> {
+                if (around.size() <= 1) {
+                    queue.add(vertex);
+                }
+            });
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll();
+                List<Integer> around = neighbors.remove(vertex);
+                if (around == null) {
+                    continue;
+                }
+                for (int neighbor : around) {
+                    List<Integer> neighborAround = neighbors.get(neighbor);
+                    if (neighborAround == null) {
+                        continue;
+                    }
+                    neighborAround.remove(Integer.valueOf(vertex));
+                    if (neighborAround.size() <= 1) {
+                        queue.add(neighbor);
+                    }
+                }
+            }
+        }
+
+        // 신발끈 공식으로 부호 있는 넓이와 무게중심 계산, 바깥 경계(음수)는 null
+        private PlanarFace toFace(List<Integer> cycle) {
+            if (cycle.size() < 3) {
+                return null;
+            }
+            double doubleArea = 0;
+            double sumX = 0;
+            double sumY = 0;
+            List<Point> boundary = new ArrayList<>(cycle.size());
+            for (int i = 0; i < cycle.size(); i++) {
+                double[] current = vertices.get(cycle.get(i));
+                double[] next = vertices.get(cycle.get((i + 1) % cycle.size()));
+                double cross = current[0] * next[1] - next[0] * current[1];
+                doubleArea += cross;
+                sumX += (current[0] + next[0]) * cross;
+                sumY += (current[1] + next[1]) * cross;
+                boundary.add(new Point(current[0], current[1]));
+            }
+            if (doubleArea <= 0) {
+                return null;
+            }
+            double area = doubleArea / 2;
+            return new PlanarFace(area, sumX / (6 * area), sumY / (6 * area), boundary);
+        }
+
+        private static long pack(long a, long b) {
+            return (a << 32) ^ (b & 0xffffffffL);
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb93fe53a3ec3L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
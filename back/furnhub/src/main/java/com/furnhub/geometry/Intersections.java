@@ -0,0 +1,50 @@
+package com.furnhub.geometry;
+
+// 선분 교차 계산 (클라이언트 getIntersection과 같은 방식)
+public final class Intersections {
+
+    private static final double EPSILON = 1e-9;
+
+    private Intersections() {
+    }
+
+    public static boolean segmentsIntersect(double ax1, double ay1, double ax2, double ay2,
+                                            double bx1, double by1, double bx2, double by2) {
+        double d1 = cross(bx1, by1, bx2, by2, ax1, ay1);
+        double d2 = cross(bx1, by1, bx2, by2, ax2, ay2);
+        double d3 = cross(ax1, ay1, ax2, ay2, bx1, by1);
+        double d4 = cross(ax1, ay1, ax2, ay2, bx2, by2);
+        if (((d1 > EPSILON && d2 < -EPSILON) || (d1 < -EPSILON && d2 > EPSILON))
+                && ((d3 > EPSILON && d4 < -EPSILON) || (d3 < -EPSILON && d4 > EPSILON))) {
+            return true;
+        }
+        return (Math.abs(d1) <= EPSILON && onSegment(bx1, by1, bx2, by2, ax1, ay1))
+                || (Math.abs(d2) <= EPSILON && onSegment(bx1, by1, bx2, by2, ax2, ay2))
+                || (Math.abs(d3) <= EPSILON && onSegment(ax1, ay1, ax2, ay2, bx1, by1))
+                || (Math.abs(d4) <= EPSILON && onSegment(ax1, ay1, ax2, ay2, bx2, by2));
+    }
+
+    // 두 선분의 교차점, 평행하거나 만나지 않으면 null
+    public static double[] intersection(double ax1, double ay1, double ax2, double ay2,
+                                        double bx1, double by1, double bx2, double by2) {
+        double denominator = (ax2 - ax1) * (by2 - by1) - (ay2 - ay1) * (bx2 - bx1);
+        if (Math.abs(denominator) < EPSILON) {
+            return null;
+        }
+        double t = ((bx1 - ax1) * (by2 - by1) - (by1 - ay1) * (bx2 - bx1)) / denominator;
+        double u = ((bx1 - ax1) * (ay2 - ay1) - (by1 - ay1) * (ax2 - ax1)) / denominator;
+        if (t < -EPSILON || t > 1 + EPSILON || u < -EPSILON || u > 1 + EPSILON) {
+            return null;
+        }
+        return new double[]{ax1 + t * (ax2 - ax1), ay1 + t * (ay2 - ay1)};
+    }
+
+    private static double cross(double ox, double oy, double ax, double ay, double bx, double by) {
+        return (ax - ox) * (by - oy) - (ay - oy) * (bx - ox);
+    }
+
+    private static boolean onSegment(double x1, double y1, double x2, double y2, double x, double y) {
+        return x >= Math.min(x1, x2) - EPSILON && x <= Math.max(x1, x2) + EPSILON
+                && y >= Math.min(y1, y2) - EPSILON && y <= Math.max(y1, y2) + EPSILON;
+    }
+}
@@ -0,0 +1,10 @@
+package com.furnhub.geometry;
+
+// 스냅/히트 테스트 결과
+public record NearestPoint(
+        long wallId,
+        double x,
+        double y,
+        double distance
+) {
+}
@@ -0,0 +1,87 @@
+package com.furnhub.geometry;
+
+import com.furnhub.dto.RoomFurnitureDto;
+
+// 회전된 직사각형 (가구 footprint, 두께가 있는 벽)
+public record OrientedBox(
+        long id,
+        double centerX,
+        double centerY,
+        double halfWidth,
+        double halfHeight,
+        double angle
+) {
+
+    private static final double EPSILON = 1e-6;
+
+    // position은 가구 중심, rotation은 도(degree) 단위
+    public static OrientedBox of(RoomFurnitureDto furniture, double baseWidth, double baseHeight) {
+        return new OrientedBox(
+                furniture.id() == null ? -1 : furniture.id(),
+                furniture.positionX(),
+                furniture.positionY(),
+                baseWidth * Math.abs(valueOr(furniture.scaleX(), 1)) / 2,
+                baseHeight * Math.abs(valueOr(furniture.scaleY(), 1)) / 2,
+                Math.toRadians(valueOr(furniture.rotation(), 0)));
+    }
+
+    public static OrientedBox of(WallSegment wall) {
+        return new OrientedBox(
+                wall.id(),
+                (wall.x1() + wall.x2()) / 2,
+                (wall.y1() + wall.y2()) / 2,
+                wall.length() / 2,
+                wall.thickness() / 2,
+                Math.atan2(wall.y2() - wall.y1(), wall.x2() - wall.x1()));
+    }
+
+    public double extentX() {
+        return Math.abs(halfWidth * Math.cos(angle)) + Math.abs(halfHeight * Math.sin(angle));
+    }
+
+    public double extentY() {
+        return Math.abs(halfWidth * Math.sin(angle)) + Math.abs(halfHeight * Math.cos(angle));
+    }
+
+    public double minX() {
+        return centerX - extentX();
+    }
+
+    public double minY() {
+        return centerY - extentY();
+    }
+
+    public double maxX() {
+        return centerX + extentX();
+    }
+
+    public double maxY() {
+        return centerY + extentY();
+    }
+
+    // 분리축 정리(SAT): 네 개의 축 중 하나라도 투영이 겹치지 않으면 충돌 아님, 맞닿은 경우는 충돌로 보지 않음
+    public boolean intersects(OrientedBox other) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double otherCos = Math.cos(other.angle);
+        double otherSin = Math.sin(other.angle);
+        double dx = other.centerX - centerX;
+        double dy = other.centerY - centerY;
+        double[][] axes = {{cos, sin}, {-sin, cos}, {otherCos, otherSin}, {-otherSin, otherCos}};
+        for (double[] axis : axes) {
+            double distance = Math.abs(dx * axis[0] + dy * axis[1]);
+            double radius = halfWidth * Math.abs(cos * axis[0] + sin * axis[1])
+                    + halfHeight * Math.abs(-sin * axis[0] + cos * axis[1]);
+            double otherRadius = other.halfWidth * Math.abs(otherCos * axis[0] + otherSin * axis[1])
+                    + other.halfHeight * Math.abs(-otherSin * axis[0] + otherCos * axis[1]);
+            if (distance >= radius + otherRadius - EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double valueOr(Double value, double fallback) {
+        return value == null ? fallback : value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.furnhub.geometry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가구 충돌 검사용 broad-phase 격자.
+ * 바운딩 박스가 겹치는 셀의 후보만 정밀(SAT) 검사로 넘긴다.
+ */
+public class OrientedBoxIndex {
+
+    private final double cellSize;
+    private final Map<Long, OrientedBox> boxes = new HashMap<>();
+    private final Map<Long, List<OrientedBox>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OrientedBoxIndex(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public static OrientedBoxIndex of(Collection<OrientedBox> boxes, double cellSize) {
+        OrientedBoxIndex index = new OrientedBoxIndex(cellSize);
+        boxes.forEach(index::insert);
+        return index;
+    }
+
+    public void put(OrientedBox box) {
+        lock.writeLock().lock();
+        try {
+            OrientedBox previous = boxes.get(box.id());
+            if (previous != null) {
+                unlink(previous);
+            }
+            insert(box);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            OrientedBox previous = boxes.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<OrientedBox> boxes() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(boxes.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // box와 실제로 겹치는 다른 가구 (자기 자신 id는 제외)
+    public List<OrientedBox> overlapping(OrientedBox box) {
+        List<OrientedBox> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int minCellX = cell(box.minX());
+            int maxCellX = cell(box.maxX());
+            int minCellY = cell(box.minY());
+            int maxCellY = cell(box.maxY());
+            double cellCount = ((double) maxCellX - minCellX + 1) * ((double) maxCellY - minCellY + 1);
+            if (cellCount > cells.size()) {
+                for (OrientedBox candidate : boxes.values()) {
+                    if (candidate.id() != box.id() && boundsOverlap(box, candidate) && box.intersects(candidate)) {
+                        result.add(candidate);
+                    }
+                }
+                return result;
+            }
+            Set<Long> visited = new HashSet<>();
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cy = minCellY; cy <= maxCellY; cy++) {
+                    List<OrientedBox> bucket = cells.get(key(cx, cy));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (OrientedBox candidate : bucket) {
+                        if (candidate.id() != box.id() && visited.add(candidate.id())
+                                && boundsOverlap(box, candidate) && box.intersects(candidate)) {
+                            result.add(candidate);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static boolean boundsOverlap(OrientedBox a, OrientedBox b) {
+        return a.minX() < b.maxX() && b.minX() < a.maxX() && a.minY() < b.maxY() && b.minY() < a.maxY();
+    }
+
+    private void insert(OrientedBox box) {
+        boxes.put(box.id(), box);
+        for (int cx = cell(box.minX()); cx <= cell(box.maxX()); cx++) {
+            for (int cy = cell(box.minY()); cy <= cell(box.maxY()); cy++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>()).add(box);
+            }
+        }
+    }
+
+    private void unlink(OrientedBox box) {
+        for (int cx = cell(box.minX()); cx <= cell(box.maxX()); cx++) {
+            for (int cy = cell(box.minY()); cy <= cell(box.maxY()); cy++) {
+                long key = key(cx, cy);
+                List<OrientedBox> bucket = cells.get(key);
+                if (bucket == null) {
+                    continue;
+                }
+                bucket.removeIf(existing -> existing.id() == box.id());
+                if (bucket.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private int cell(double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
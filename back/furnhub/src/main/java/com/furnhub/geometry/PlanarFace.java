@@ -0,0 +1,12 @@
+package com.furnhub.geometry;
+
+import java.util.List;
+
+// 벽으로 둘러싸인 최소 닫힌 공간
+public record PlanarFace(
+        double area,
+        double centerX,
+        double centerY,
+        List<Point> boundary
+) {
+}
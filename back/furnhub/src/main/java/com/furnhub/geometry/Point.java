@@ -0,0 +1,7 @@
+package com.furnhub.geometry;
+
+public record Point(
+        double x,
+        double y
+) {
+}
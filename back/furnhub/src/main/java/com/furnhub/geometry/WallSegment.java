@@ -0,0 +1,81 @@
+package com.furnhub.geometry;
+
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Wall;
+
+// 공간 인덱스에 들어가는 벽의 기하 정보
+public record WallSegment(
+        long id,
+        double x1,
+        double y1,
+        double x2,
+        double y2,
+        double thickness
+) {
+
+    public static WallSegment of(Wall wall) {
+        return new WallSegment(wall.getId(), wall.getStartX(), wall.getStartY(),
+                wall.getEndX(), wall.getEndY(), wall.getThickness() == null ? 0 : wall.getThickness());
+    }
+
+    public static WallSegment of(WallDto wall) {
+        return new WallSegment(wall.id(), wall.startX(), wall.startY(),
+                wall.endX(), wall.endY(), wall.thickness() == null ? 0 : wall.thickness());
+    }
+
+    public double minX() {
+        return Math.min(x1, x2);
+    }
+
+    public double minY() {
+        return Math.min(y1, y2);
+    }
+
+    public double maxX() {
+        return Math.max(x1, x2);
+    }
+
+    public double maxY() {
+        return Math.max(y1, y2);
+    }
+
+    public double length() {
+        return Math.hypot(x2 - x1, y2 - y1);
+    }
+
+    // 선분 위에서 (x, y)에 가장 가까운 점
+    public double[] closestPoint(double x, double y) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return new double[]{x1, y1};
+        }
+        double t = ((x - x1) * dx + (y - y1) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        return new double[]{x1 + t * dx, y1 + t * dy};
+    }
+
+    public double distanceTo(double x, double y) {
+        double[] closest = closestPoint(x, y);
+        return Math.hypot(x - closest[0], y - closest[1]);
+    }
+
+    public boolean intersectsBox(double minX, double minY, double maxX, double maxY) {
+        if (maxX() < minX || minX() > maxX || maxY() < minY || minY() > maxY) {
+            return false;
+        }
+        if (containsPoint(x1, y1, minX, minY, maxX, maxY) || containsPoint(x2, y2, minX, minY, maxX, maxY)) {
+            return true;
+        }
+        // 양 끝점이 모두 밖이면 박스의 네 변과 교차하는지 확인
+        return Intersections.segmentsIntersect(x1, y1, x2, y2, minX, minY, maxX, minY)
+                || Intersections.segmentsIntersect(x1, y1, x2, y2, maxX, minY, maxX, maxY)
+                || Intersections.segmentsIntersect(x1, y1, x2, y2, maxX, maxY, minX, maxY)
+                || Intersections.segmentsIntersect(x1, y1, x2, y2, minX, maxY, minX, minY);
+    }
+
+    private static boolean containsPoint(double x, double y, double minX, double minY, double maxX, double maxY) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+}
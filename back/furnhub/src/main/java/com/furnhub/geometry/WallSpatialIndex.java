@@ -0,0 +1,253 @@
+package com.furnhub.geometry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 균일 격자(uniform grid) 기반 벽 공간 인덱스.
+ * 벽은 선분이 실제로 지나가는 셀에만 등록되고(대각선 벽도 셀 수는 길이에 비례), 질의는 검색 반경에 해당하는 셀만 확인한다.
+ */
+public class WallSpatialIndex {
+
+    private final double cellSize;
+    private final Map<Long, WallSegment> segments = new HashMap<>();
+    private final Map<Long, List<WallSegment>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 두께별 벽 수. 가장 두꺼운 벽이 지워지면 최대 두께도 다시 줄어들도록 개수로 관리
+    private final TreeMap<Double, Integer> thicknessCounts = new TreeMap<>();
+
+    public WallSpatialIndex(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public static WallSpatialIndex of(Collection<WallSegment> segments, double cellSize) {
+        WallSpatialIndex index = new WallSpatialIndex(cellSize);
+        segments.forEach(index::insert);
+        return index;
+    }
+
+    public void put(WallSegment segment) {
+        lock.writeLock().lock();
+        try {
+            WallSegment previous = segments.get(segment.id());
+            if (previous != null) {
+                unlink(previous);
+            }
+            insert(segment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long wallId) {
+        lock.writeLock().lock();
+        try {
+            WallSegment previous = segments.remove(wallId);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double maxThickness() {
+        lock.readLock().lock();
+        try {
+            return thicknessCounts.isEmpty() ? 0 : thicknessCounts.lastKey();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 등록된 (셀, 벽) 항목 수 (테스트용)
+    int cellEntries() {
+        lock.readLock().lock();
+        try {
+            return cells.values().stream().mapToInt(List::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<WallSegment> segments() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(segments.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 반경 안에서 가장 가까운 벽 끝점 (getSnapPoint)
+    public Optional<NearestPoint> nearestEndpoint(double x, double y, double radius, Long excludeId) {
+        NearestPoint[] best = new NearestPoint[1];
+        forEachCandidate(x - radius, y - radius, x + radius, y + radius, segment -> {
+            if (excludeId != null && segment.id() == excludeId) {
+                return;
+            }
+            best[0] = closer(best[0], segment.id(), segment.x1(), segment.y1(), x, y, radius);
+            best[0] = closer(best[0], segment.id(), segment.x2(), segment.y2(), x, y, radius);
+        });
+        return Optional.ofNullable(best[0]);
+    }
+
+    // 반경 안에서 가장 가까운 벽 위의 점
+    public Optional<NearestPoint> nearestPointOnSegment(double x, double y, double radius, Long excludeId) {
+        NearestPoint[] best = new NearestPoint[1];
+        forEachCandidate(x - radius, y - radius, x + radius, y + radius, segment -> {
+            if (excludeId != null && segment.id() == excludeId) {
+                return;
+            }
+            double[] closest = segment.closestPoint(x, y);
+            best[0] = closer(best[0], segment.id(), closest[0], closest[1], x, y, radius);
+        });
+        return Optional.ofNullable(best[0]);
+    }
+
+    // 벽 두께 + tolerance 안에 (x, y)가 들어오는 벽 (getWallAtCoords)
+    public Optional<NearestPoint> hitTest(double x, double y, double tolerance) {
+        double reach = tolerance + maxThickness() / 2;
+        NearestPoint[] best = new NearestPoint[1];
+        forEachCandidate(x - reach, y - reach, x + reach, y + reach, segment -> {
+            double[] closest = segment.closestPoint(x, y);
+            double distance = Math.hypot(x - closest[0], y - closest[1]);
+            if (distance <= tolerance + segment.thickness() / 2
+                    && (best[0] == null || distance < best[0].distance())) {
+                best[0] = new NearestPoint(segment.id(), closest[0], closest[1], distance);
+            }
+        });
+        return Optional.ofNullable(best[0]);
+    }
+
+    public List<WallSegment> segmentsInBox(double minX, double minY, double maxX, double maxY) {
+        List<WallSegment> result = new ArrayList<>();
+        forEachCandidate(minX, minY, maxX, maxY, segment -> {
+            if (segment.intersectsBox(minX, minY, maxX, maxY)) {
+                result.add(segment);
+            }
+        });
+        return result;
+    }
+
+    // 박스가 걸치는 셀의 벽을 중복 없이 한 번씩 방문
+    private void forEachCandidate(double minX, double minY, double maxX, double maxY, Consumer<WallSegment> consumer) {
+        lock.readLock().lock();
+        try {
+            int minCellX = cell(minX);
+            int maxCellX = cell(maxX);
+            int minCellY = cell(minY);
+            int maxCellY = cell(maxY);
+            double cellCount = ((double) maxCellX - minCellX + 1) * ((double) maxCellY - minCellY + 1);
+            if (cellCount > cells.size()) {
+                // 질의 범위가 인덱스 전체보다 크면 셀을 도는 것보다 전체 순회가 빠름
+                segments.values().forEach(consumer);
+                return;
+            }
+            Set<Long> visited = new HashSet<>();
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cy = minCellY; cy <= maxCellY; cy++) {
+                    List<WallSegment> bucket = cells.get(key(cx, cy));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (WallSegment segment : bucket) {
+                        if (visited.add(segment.id())) {
+                            consumer.accept(segment);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(WallSegment segment) {
+        segments.put(segment.id(), segment);
+        thicknessCounts.merge(segment.thickness(), 1, Integer::sum);
+        forEachCrossedCell(segment, key -> cells.computeIfAbsent(key, k -> new ArrayList<>()).add(segment));
+    }
+
+    private void unlink(WallSegment segment) {
+        thicknessCounts.computeIfPresent(segment.thickness(), (thickness, count) -> count == 1 ? null : count - 1);
+        forEachCrossedCell(segment, key -> {
+            List<WallSegment> bucket = cells.get(key);
+            if (bucket == null) {
+                return;
+            }
+            bucket.removeIf(existing -> existing.id() == segment.id());
+            if (bucket.isEmpty()) {
+                cells.remove(key);
+            }
+        });
+    }
+
+    // 선분이 지나가는 셀 (supercover: 셀 경계나 모서리에 닿기만 해도 포함).
+    // 열마다 그 열 안에서의 y 범위를 구해 해당 행만 방문하므로 바운딩 박스 전체를 돌지 않음
+    private void forEachCrossedCell(WallSegment segment, LongConsumer action) {
+        double x1 = segment.x1();
+        double y1 = segment.y1();
+        double x2 = segment.x2();
+        double y2 = segment.y2();
+        if (x1 > x2) {
+            x1 = segment.x2();
+            y1 = segment.y2();
+            x2 = segment.x1();
+            y2 = segment.y1();
+        }
+        double dx = x2 - x1;
+        int minCellX = cell(x1);
+        int maxCellX = cell(x2);
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            double fromX = Math.max(x1, cx * cellSize);
+            double toX = Math.min(x2, (cx + 1) * cellSize);
+            double fromY = dx == 0 ? y1 : y1 + (fromX - x1) / dx * (y2 - y1);
+            double toY = dx == 0 ? y2 : y1 + (toX - x1) / dx * (y2 - y1);
+            int maxCellY = cell(Math.max(fromY, toY));
+            for (int cy = cell(Math.min(fromY, toY)); cy <= maxCellY; cy++) {
+                action.accept(key(cx, cy));
+            }
+        }
+    }
+
+    private static NearestPoint closer(NearestPoint best, long wallId, double px, double py,
+                                       double x, double y, double radius) {
+        double distance = Math.hypot(px - x, py - y);
+        if (distance > radius || (best != null && distance >= best.distance())) {
+            return best;
+        }
+        return new NearestPoint(wallId, px, py, distance);
+    }
+
+    private int cell(double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
@@ -0,0 +1,33 @@
+package com.furnhub.image;
+
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// PNG로 인코딩된 이미지와 버전(내용 해시)
+public record EncodedImage(byte[] data, String version, int width, int height) {
+
+    public static EncodedImage png(BufferedImage image) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            byte[] data = out.toByteArray();
+            return new EncodedImage(data, DigestUtils.md5DigestAsHex(data), image.getWidth(), image.getHeight());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public BufferedImage decode() {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.furnhub.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+// 1/2씩 반복 축소 (level 1 = 1/2, 2 = 1/4, 3 = 1/8)
+// 한 번에 크게 줄이면 bilinear가 픽셀을 건너뛰므로 단계마다 절반씩 줄임
+public final class Mipmaps {
+
+    public static final int MAX_LEVEL = 3;
+
+    private Mipmaps() {
+    }
+
+    public static BufferedImage downscale(BufferedImage source, int level) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Mipmap level must be between 0 and " + MAX_LEVEL + ": " + level);
+        }
+        BufferedImage current = source;
+        for (int i = 0; i < level; i++) {
+            current = half(current);
+        }
+        return current;
+    }
+
+    // 원본 너비 기준으로 요청 너비 이상을 유지하는 가장 작은 단계
+    public static int levelForWidth(int sourceWidth, int targetWidth) {
+        int level = 0;
+        while (level < MAX_LEVEL && (sourceWidth >> (level + 1)) >= Math.max(1, targetWidth)) {
+            level++;
+        }
+        return level;
+    }
+
+    // 한 단계 축소 (이전 단계 이미지에서 다음 단계를 만들 때)
+    public static BufferedImage half(BufferedImage source) {
+        int width = Math.max(1, source.getWidth() / 2);
+        int height = Math.max(1, source.getHeight() / 2);
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,67 @@
+package com.furnhub.image;
+
+import com.furnhub.dto.AtlasFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선반(shelf) 방식 사각형 배치.
+ * 이미 배치된 영역은 움직이지 않으므로 나중에 추가되는 스프라이트도 기존 좌표를 유지한 채 이어서 배치할 수 있다.
+ */
+public class ShelfPacker {
+
+    private final int maxWidth;
+    private final int padding;
+    private final List<Shelf> shelves = new ArrayList<>();
+    private int width;
+    private int height;
+
+    public ShelfPacker(int maxWidth, int padding) {
+        this.maxWidth = maxWidth;
+        this.padding = padding;
+    }
+
+    public AtlasFrame place(int w, int h) {
+        int paddedW = w + padding;
+        int paddedH = h + padding;
+
+        // 높이가 맞는 선반 중 남는 높이가 가장 적은 곳
+        Shelf best = null;
+        for (Shelf shelf : shelves) {
+            if (shelf.height >= paddedH && shelf.x + paddedW <= Math.max(maxWidth, paddedW)
+                    && (best == null || shelf.height < best.height)) {
+                best = shelf;
+            }
+        }
+        if (best == null) {
+            best = new Shelf(height, paddedH);
+            shelves.add(best);
+            height += paddedH;
+        }
+
+        AtlasFrame frame = new AtlasFrame(best.x, best.y, w, h);
+        best.x += paddedW;
+        width = Math.max(width, best.x);
+        return frame;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private static final class Shelf {
+        final int y;
+        final int height;
+        int x;
+
+        Shelf(int y, int height) {
+            this.y = y;
+            this.height = height;
+        }
+    }
+}
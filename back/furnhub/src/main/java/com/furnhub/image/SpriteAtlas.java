@@ -0,0 +1,118 @@
+package com.furnhub.image;
+
+import com.furnhub.dto.AtlasFrame;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 하나의 스프라이트를 한 장에 모은 이미지와 좌표표.
+ * add는 기존 스프라이트를 다시 읽거나 옮기지 않고 빈 자리에 새 스프라이트만 그린다.
+ */
+public class SpriteAtlas {
+
+    private final ShelfPacker packer;
+    private final Map<Long, Map<String, AtlasFrame>> frames = new LinkedHashMap<>();
+    private BufferedImage image;
+    private EncodedImage encoded;
+
+    private SpriteAtlas(ShelfPacker packer) {
+        this.packer = packer;
+    }
+
+    // 전체 생성은 큰 스프라이트부터 배치해서 선반 낭비를 줄임
+    public static SpriteAtlas build(Map<Long, Map<String, BufferedImage>> sprites, int maxWidth, int padding) {
+        SpriteAtlas atlas = new SpriteAtlas(new ShelfPacker(maxWidth, padding));
+        List<Map.Entry<Long, Map<String, BufferedImage>>> entries = sprites.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<Long, Map<String, BufferedImage>> entry) -> maxHeight(entry.getValue())).reversed())
+                .toList();
+        for (Map.Entry<Long, Map<String, BufferedImage>> entry : entries) {
+            atlas.draw(entry.getKey(), entry.getValue());
+        }
+        atlas.encode();
+        return atlas;
+    }
+
+    public synchronized SpriteAtlas add(Long assetId, Map<String, BufferedImage> sprites) {
+        draw(assetId, sprites);
+        encode();
+        return this;
+    }
+
+    public synchronized EncodedImage getImage() {
+        return encoded;
+    }
+
+    public synchronized String getVersion() {
+        return encoded.version();
+    }
+
+    public synchronized int getWidth() {
+        return image.getWidth();
+    }
+
+    public synchronized int getHeight() {
+        return image.getHeight();
+    }
+
+    public synchronized Map<Long, Map<String, AtlasFrame>> getFrames() {
+        Map<Long, Map<String, AtlasFrame>> copy = new LinkedHashMap<>();
+        frames.forEach((assetId, views) -> copy.put(assetId, Collections.unmodifiableMap(new LinkedHashMap<>(views))));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private void draw(Long assetId, Map<String, BufferedImage> sprites) {
+        Map<String, AtlasFrame> placed = new LinkedHashMap<>();
+        for (Map.Entry<String, BufferedImage> sprite : sprites.entrySet()) {
+            placed.put(sprite.getKey(), packer.place(sprite.getValue().getWidth(), sprite.getValue().getHeight()));
+        }
+        ensureCapacity(Math.max(1, packer.getWidth()), Math.max(1, packer.getHeight()));
+
+        Graphics2D g = image.createGraphics();
+        try {
+            for (Map.Entry<String, BufferedImage> sprite : sprites.entrySet()) {
+                AtlasFrame frame = placed.get(sprite.getKey());
+                g.drawImage(sprite.getValue(), frame.x(), frame.y(), null);
+            }
+        } finally {
+            g.dispose();
+        }
+        frames.put(assetId, placed);
+    }
+
+    // 캔버스가 부족할 때만 새로 만들고 기존 내용을 그대로 복사
+    private void ensureCapacity(int width, int height) {
+        if (image != null && image.getWidth() >= width && image.getHeight() >= height) {
+            return;
+        }
+        BufferedImage grown = new BufferedImage(
+                Math.max(width, image == null ? 0 : image.getWidth()),
+                Math.max(height, image == null ? 0 : image.getHeight()),
+                BufferedImage.TYPE_INT_ARGB);
+        if (image != null) {
+            Graphics2D g = grown.createGraphics();
+            try {
+                g.drawImage(image, 0, 0, null);
+            } finally {
+                g.dispose();
+            }
+        }
+        image = grown;
+    }
+
+    private void encode() {
+        if (image == null) {
+            ensureCapacity(1, 1);
+        }
+        encoded = EncodedImage.png(image);
+    }
+
+    private static int maxHeight(Map<String, BufferedImage> sprites) {
+        return sprites.values().stream().mapToInt(BufferedImage::getHeight).max().orElse(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.furnhub.metrics;
+
+/**
+ * 현재 HTTP 요청에서 실행된 SQL 개수와 시간. {@link SqlMetricsFilter}가 요청 시작/종료 시 설정하고
+ * {@link SqlStatementListener}가 문장마다 누적한다. 요청 밖(스케줄러, WebSocket 등)에서는 기록하지 않는다.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private RequestSqlStats() {
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
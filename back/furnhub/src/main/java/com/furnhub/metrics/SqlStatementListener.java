@@ -0,0 +1,34 @@
+package com.furnhub.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 하나씩 생성되는 Hibernate 이벤트 리스너. JDBC 실행(단건/배치) 시간을 재서 현재 요청에 누적한다.
+ * Hibernate가 직접 생성하므로 빈 주입을 받지 않고 {@link RequestSqlStats}의 ThreadLocal만 사용한다.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.record(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.record(System.nanoTime() - startedAt);
+    }
+}
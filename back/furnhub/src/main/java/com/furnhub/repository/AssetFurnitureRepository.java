@@ -1,7 +1,22 @@
 package com.furnhub.repository;
 
 import com.furnhub.entity.AssetFurniture;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface AssetFurnitureRepository extends JpaRepository<AssetFurniture, Long> {
+
+    // 조회 결과는 카탈로그 캐시에 들어가 세션 밖에서 직렬화되므로 카테고리를 미리 로딩
+    @Override
+    @EntityGraph("AssetFurniture.detail")
+    List<AssetFurniture> findAll();
+
+    @Override
+    @EntityGraph("AssetFurniture.detail")
+    Optional<AssetFurniture> findById(Long id);
+
+    List<AssetFurniture> findByCategoryIdOrderById(Long categoryId);
 }
@@ -1,10 +1,53 @@
 package com.furnhub.repository;
 
+import com.furnhub.dto.ClosedAreaDto;
 import com.furnhub.entity.ClosedArea;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ClosedAreaRepository extends JpaRepository<ClosedArea, Long> {
+    @Override
+    @EntityGraph("ClosedArea.detail")
+    Optional<ClosedArea> findById(Long id);
+
     List<ClosedArea> findByRoomId(Long roomId); // 추가
+
+    // 벽이 그대로 복사되므로 닫힌 공간도 다시 계산하지 않고 복사
+    @Modifying
+    @Query("insert into ClosedArea (room, area, centerX, centerY, detected, createdAt) " +
+            "select r, c.area, c.centerX, c.centerY, c.detected, :createdAt " +
+            "from ClosedArea c, Room r where c.room.id = :sourceRoomId and r.id = :targetRoomId")
+    int copyToRoom(@Param("sourceRoomId") Long sourceRoomId, @Param("targetRoomId") Long targetRoomId,
+                   @Param("createdAt") LocalDateTime createdAt);
+
+    // id 기준 keyset 페이지 (after 이후 limit개)
+    @Query("select new com.furnhub.dto.ClosedAreaDto(c.id, c.room.id, c.area, c.centerX, c.centerY, c.createdAt) " +
+            "from ClosedArea c where c.room.id = :roomId and c.id > :after order by c.id")
+    List<ClosedAreaDto> findDtosByRoomIdAfter(@Param("roomId") Long roomId, @Param("after") Long after, Limit limit);
+
+    @Query("select new com.furnhub.dto.ClosedAreaDto(c.id, c.room.id, c.area, c.centerX, c.centerY, c.createdAt) " +
+            "from ClosedArea c where c.room.id = :roomId order by c.id")
+    List<ClosedAreaDto> findDtosByRoomId(@Param("roomId") Long roomId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.furnhub.dto.ClosedAreaDto(c.id, c.room.id, c.area, c.centerX, c.centerY, c.createdAt) " +
+            "from ClosedArea c where c.room.id = :roomId order by c.id")
+    Stream<ClosedAreaDto> streamDtosByRoomId(@Param("roomId") Long roomId);
+
+    @Query("select new com.furnhub.dto.ClosedAreaDto(c.id, c.room.id, c.area, c.centerX, c.centerY, c.createdAt) " +
+            "from ClosedArea c where c.id in :ids order by c.id")
+    List<ClosedAreaDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
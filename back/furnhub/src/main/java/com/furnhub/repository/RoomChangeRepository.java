@@ -0,0 +1,10 @@
+package com.furnhub.repository;
+
+import com.furnhub.entity.RoomChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RoomChangeRepository extends JpaRepository<RoomChange, Long> {
+    List<RoomChange> findByRoomIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(Long roomId, Long revision);
+}
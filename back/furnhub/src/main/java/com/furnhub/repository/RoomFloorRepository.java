@@ -1,10 +1,50 @@
 package com.furnhub.repository;
 
+import com.furnhub.dto.RoomFloorDto;
 import com.furnhub.entity.RoomFloor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RoomFloorRepository extends JpaRepository<RoomFloor, Long> {
+    // 단건 응답에는 room과 바닥재 에셋이 모두 포함됨
+    @Override
+    @EntityGraph("RoomFloor.detail")
+    Optional<RoomFloor> findById(Long id);
+
+    @EntityGraph("RoomFloor.list")
     List<RoomFloor> findByRoomId(Long roomId); // 추가
+
+    @Modifying
+    @Query("insert into RoomFloor (room, floorAsset, createdAt) " +
+            "select r, f.floorAsset, :createdAt " +
+            "from RoomFloor f, Room r where f.room.id = :sourceRoomId and r.id = :targetRoomId")
+    int copyToRoom(@Param("sourceRoomId") Long sourceRoomId, @Param("targetRoomId") Long targetRoomId,
+                   @Param("createdAt") LocalDateTime createdAt);
+
+    // id 기준 keyset 페이지 (after 이후 limit개)
+    @Query("select new com.furnhub.dto.RoomFloorDto(f.id, f.room.id, a.id, a.name, a.texturePath, f.createdAt) " +
+            "from RoomFloor f join f.floorAsset a where f.room.id = :roomId and f.id > :after order by f.id")
+    List<RoomFloorDto> findDtosByRoomIdAfter(@Param("roomId") Long roomId, @Param("after") Long after, Limit limit);
+
+    // 바닥재 에셋은 inner join 한 번으로 함께 조회
+    @Query("select new com.furnhub.dto.RoomFloorDto(f.id, f.room.id, a.id, a.name, a.texturePath, f.createdAt) " +
+            "from RoomFloor f join f.floorAsset a where f.room.id = :roomId order by f.id")
+    List<RoomFloorDto> findDtosByRoomId(@Param("roomId") Long roomId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.furnhub.dto.RoomFloorDto(f.id, f.room.id, a.id, a.name, a.texturePath, f.createdAt) " +
+            "from RoomFloor f join f.floorAsset a where f.room.id = :roomId order by f.id")
+    Stream<RoomFloorDto> streamDtosByRoomId(@Param("roomId") Long roomId);
 }
@@ -1,9 +1,67 @@
 package com.furnhub.repository;
 
+import com.furnhub.dto.RoomFurnitureDto;
 import com.furnhub.entity.RoomFurniture;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RoomFurnitureRepository extends JpaRepository<RoomFurniture, Long> {
+    @Override
+    @EntityGraph("RoomFurniture.detail")
+    Optional<RoomFurniture> findById(Long id);
+
     List<RoomFurniture> findByRoomId(Long roomId); // roomId로 검색
+
+    long countByRoomId(Long roomId);
+
+    // 방 복사용 id 구간 예약 (WallRepository와 같은 방식)
+    @Query(value = "select next_val from room_furniture_seq for update", nativeQuery = true)
+    Long lockIdSequence();
+
+    @Modifying
+    @Query(value = "update room_furniture_seq set next_val = next_val + :count", nativeQuery = true)
+    int advanceIdSequence(@Param("count") int count);
+
+    @Modifying
+    @Query(value = "insert into room_furniture (id, room_id, asset_name, position_x, position_y, rotation, scale_x, scale_y, created_at, version) " +
+            "select :firstId + row_number() over (order by f.id) - 1, :targetRoomId, " +
+            "f.asset_name, f.position_x, f.position_y, f.rotation, f.scale_x, f.scale_y, :createdAt, 0 " +
+            "from room_furniture f where f.room_id = :sourceRoomId", nativeQuery = true)
+    int copyToRoom(@Param("sourceRoomId") Long sourceRoomId, @Param("targetRoomId") Long targetRoomId,
+                   @Param("firstId") long firstId, @Param("createdAt") LocalDateTime createdAt);
+
+    // 엔티티를 로딩하지 않고 소속 방만 확인 (자동 저장 버퍼)
+    @Query("select f.room.id from RoomFurniture f where f.id = :id")
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    // id 기준 keyset 페이지 (after 이후 limit개)
+    @Query("select new com.furnhub.dto.RoomFurnitureDto(f.id, f.room.id, f.assetName, f.positionX, f.positionY, f.rotation, f.scaleX, f.scaleY, f.createdAt) " +
+            "from RoomFurniture f where f.room.id = :roomId and f.id > :after order by f.id")
+    List<RoomFurnitureDto> findDtosByRoomIdAfter(@Param("roomId") Long roomId, @Param("after") Long after, Limit limit);
+
+    @Query("select new com.furnhub.dto.RoomFurnitureDto(f.id, f.room.id, f.assetName, f.positionX, f.positionY, f.rotation, f.scaleX, f.scaleY, f.createdAt) " +
+            "from RoomFurniture f where f.room.id = :roomId order by f.id")
+    List<RoomFurnitureDto> findDtosByRoomId(@Param("roomId") Long roomId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.furnhub.dto.RoomFurnitureDto(f.id, f.room.id, f.assetName, f.positionX, f.positionY, f.rotation, f.scaleX, f.scaleY, f.createdAt) " +
+            "from RoomFurniture f where f.room.id = :roomId order by f.id")
+    Stream<RoomFurnitureDto> streamDtosByRoomId(@Param("roomId") Long roomId);
+
+    @Query("select new com.furnhub.dto.RoomFurnitureDto(f.id, f.room.id, f.assetName, f.positionX, f.positionY, f.rotation, f.scaleX, f.scaleY, f.createdAt) " +
+            "from RoomFurniture f where f.id in :ids order by f.id")
+    List<RoomFurnitureDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
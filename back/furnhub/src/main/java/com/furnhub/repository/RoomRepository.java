@@ -1,7 +1,53 @@
 package com.furnhub.repository;
 
+import com.furnhub.dto.RoomVersionDto;
 import com.furnhub.entity.Room;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    // 이 UPDATE가 잡은 방 행 잠금은 커밋까지 유지되므로, 대기 중인 벽/가구 쓰기를 먼저 flush해서
+    // 잠금을 트랜잭션의 마지막 문장부터 커밋까지만 잡도록 함 (revision 순서 = 커밋 순서 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("update Room r set r.revision = r.revision + 1 where r.id = :id")
+    int incrementRevision(@Param("id") Long id);
+
+    @Query("select r.revision from Room r where r.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("select new com.furnhub.dto.RoomVersionDto(r.id, r.revision, r.updatedAt) from Room r where r.id = :id")
+    Optional<RoomVersionDto> findVersionById(@Param("id") Long id);
+
+    List<Room> findByTemplateTrueOrderByNameAscIdAsc();
+
+    // keyset 페이지: 정렬 키가 마지막 행보다 뒤인 행만 limit개
+    List<Room> findByIdGreaterThanOrderById(Long after, Limit limit);
+
+    List<Room> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    @Query("select r from Room r where r.name > :name or (r.name = :name and r.id > :id) order by r.name, r.id")
+    List<Room> findPageByName(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    List<Room> findAllByOrderByUpdatedAtDescIdDesc(Limit limit);
+
+    @Query("select r from Room r where r.updatedAt < :updatedAt or (r.updatedAt = :updatedAt and r.id < :id) " +
+            "order by r.updatedAt desc, r.id desc")
+    List<Room> findPageByUpdatedAt(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Limit limit);
+
+    // 스트리밍 중 영속성 컨텍스트에 쌓이지 않도록 호출하는 쪽에서 한 건씩 detach
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select r from Room r order by r.id")
+    Stream<Room> streamAllOrderById();
 }
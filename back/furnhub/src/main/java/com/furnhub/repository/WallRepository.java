@@ -1,9 +1,73 @@
 package com.furnhub.repository;
 
+import com.furnhub.dto.WallDto;
 import com.furnhub.entity.Wall;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WallRepository extends JpaRepository<Wall, Long> {
+    // 단건 조회/수정 응답에는 room이 포함되므로 join 한 번으로 함께 로딩
+    @Override
+    @EntityGraph("Wall.detail")
+    Optional<Wall> findById(Long id);
+
     List<Wall> findByRoomId(Long roomId); // roomId로 검색
+
+    long countByRoomId(Long roomId);
+
+    // 방 복사용 id 구간 예약. walls_seq는 Hibernate가 시퀀스 대신 쓰는 테이블(next_val)이고,
+    // Hibernate와 같은 방식으로 행을 잠그고 읽은 뒤 올리므로 [next_val, next_val + count) 구간은 다른 저장과 겹치지 않음
+    @Query(value = "select next_val from walls_seq for update", nativeQuery = true)
+    Long lockIdSequence();
+
+    @Modifying
+    @Query(value = "update walls_seq set next_val = next_val + :count", nativeQuery = true)
+    int advanceIdSequence(@Param("count") int count);
+
+    // 방 복사: 엔티티를 로딩하지 않고 INSERT ... SELECT 한 번으로 복사. id는 예약한 구간을 firstId부터 순서대로 사용
+    // (HQL insert는 시퀀스 id를 행마다 따로 채우므로 native로 작성)
+    @Modifying
+    @Query(value = "insert into walls (id, room_id, startx, starty, endx, endy, thickness, color, created_at, version) " +
+            "select :firstId + row_number() over (order by w.id) - 1, :targetRoomId, " +
+            "w.startx, w.starty, w.endx, w.endy, w.thickness, w.color, :createdAt, 0 " +
+            "from walls w where w.room_id = :sourceRoomId", nativeQuery = true)
+    int copyToRoom(@Param("sourceRoomId") Long sourceRoomId, @Param("targetRoomId") Long targetRoomId,
+                   @Param("firstId") long firstId, @Param("createdAt") LocalDateTime createdAt);
+
+    // 엔티티를 로딩하지 않고 소속 방만 확인 (자동 저장 버퍼)
+    @Query("select w.room.id from Wall w where w.id = :id")
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    // id 기준 keyset 페이지 (after 이후 limit개)
+    @Query("select new com.furnhub.dto.WallDto(w.id, w.room.id, w.startX, w.startY, w.endX, w.endY, w.thickness, w.color, w.createdAt) " +
+            "from Wall w where w.room.id = :roomId and w.id > :after order by w.id")
+    List<WallDto> findDtosByRoomIdAfter(@Param("roomId") Long roomId, @Param("after") Long after, Limit limit);
+
+    // Room 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+    @Query("select new com.furnhub.dto.WallDto(w.id, w.room.id, w.startX, w.startY, w.endX, w.endY, w.thickness, w.color, w.createdAt) " +
+            "from Wall w where w.room.id = :roomId order by w.id")
+    List<WallDto> findDtosByRoomId(@Param("roomId") Long roomId);
+
+    // 내보내기/스트리밍 응답용: 결과를 메모리에 모으지 않고 DB 커서로 읽음 (트랜잭션 안에서 소비해야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.furnhub.dto.WallDto(w.id, w.room.id, w.startX, w.startY, w.endX, w.endY, w.thickness, w.color, w.createdAt) " +
+            "from Wall w where w.room.id = :roomId order by w.id")
+    Stream<WallDto> streamDtosByRoomId(@Param("roomId") Long roomId);
+
+    @Query("select new com.furnhub.dto.WallDto(w.id, w.room.id, w.startX, w.startY, w.endX, w.endY, w.thickness, w.color, w.createdAt) " +
+            "from Wall w where w.id in :ids order by w.id")
+    List<WallDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
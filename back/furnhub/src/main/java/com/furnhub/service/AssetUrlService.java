@@ -0,0 +1,15 @@
+package com.furnhub.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AssetUrlService {
+    // 가구 에셋 폴더에 들어 있는 방향별 스프라이트 파일명 (확장자 제외)
+    List<String> SPRITE_VIEWS = List.of("front", "back", "left", "right");
+
+    String resolveUrl(String path);
+    Map<String, String> resolveUrls(Collection<String> paths);
+    Map<String, String> getFurnitureSpriteUrls(Long assetFurnitureId);
+    String getFloorTextureUrl(Long assetFloorId);
+}
@@ -0,0 +1,16 @@
+package com.furnhub.service;
+
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+
+public interface AutosaveService {
+    Wall bufferWall(Long id, Wall wall);
+    RoomFurniture bufferFurniture(Long id, RoomFurniture furniture);
+    void discardWall(Long id);
+    void discardFurniture(Long id);
+    void flushWall(Long id);
+    void flushFurniture(Long id);
+    void flushRoom(Long roomId);
+    void flush();
+    int getPendingCount();
+}
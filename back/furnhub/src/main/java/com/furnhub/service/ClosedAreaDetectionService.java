@@ -0,0 +1,10 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.ClosedAreaDto;
+
+import java.util.List;
+
+public interface ClosedAreaDetectionService {
+    List<ClosedAreaDto> detectClosedAreas(Long roomId);
+    void evictRoom(Long roomId);
+}
@@ -1,5 +1,9 @@
 package com.furnhub.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.Versioned;
 import com.furnhub.entity.ClosedArea;
 
 import java.util.List;
@@ -8,6 +12,8 @@ public interface ClosedAreaService {
     ClosedArea createClosedArea(ClosedArea closedArea);
     ClosedArea getClosedAreaById(Long id);
     List<ClosedArea> getAllClosedAreasByRoomId(Long roomId);
-    ClosedArea updateClosedArea(Long id, ClosedArea updatedClosedArea);
+    KeysetPage<ClosedAreaDto> getClosedAreasPageByRoomId(Long roomId, String after, int size);
+    ClosedArea updateClosedArea(Long id, ClosedArea updatedClosedArea, Long expectedVersion);
+    Versioned<ClosedAreaDto> patchClosedArea(Long id, JsonNode patch, Long expectedVersion);
     void deleteClosedArea(Long id);
 }
@@ -0,0 +1,14 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.CollisionReport;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.entity.RoomFurniture;
+
+public interface FurnitureCollisionService {
+    CollisionReport checkRoom(Long roomId);
+    CollisionReport checkPlacement(Long roomId, RoomFurniture furniture);
+    void onFurnitureSaved(RoomFurniture furniture);
+    void onFurnitureSaved(RoomFurnitureDto furniture);
+    void onFurnitureDeleted(Long roomId, Long furnitureId);
+    void evictRoom(Long roomId);
+}
@@ -0,0 +1,9 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.RoomMoveDto;
+
+public interface RoomBroadcastService {
+    void submitMove(Long roomId, String sessionId, RoomMoveDto move);
+    void flush();
+    boolean hasSubscribers(Long roomId);
+}
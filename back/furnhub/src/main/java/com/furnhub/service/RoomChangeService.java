@@ -0,0 +1,16 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.ChangeSetRequest;
+import com.furnhub.dto.ChangeSetResult;
+import com.furnhub.dto.RoomChangesDto;
+import com.furnhub.entity.RoomChange;
+
+import java.util.List;
+
+public interface RoomChangeService {
+    long recordChange(Long roomId, RoomChange.EntityType entityType, Long entityId, RoomChange.Operation operation);
+    void recordChanges(List<RoomChange> changes);
+    long touchRoom(Long roomId);
+    ChangeSetResult applyChanges(Long roomId, ChangeSetRequest request);
+    RoomChangesDto getChangesSince(Long roomId, long since);
+}
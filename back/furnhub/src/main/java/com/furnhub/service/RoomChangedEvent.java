@@ -0,0 +1,5 @@
+package com.furnhub.service;
+
+// 방 revision이 올라간 트랜잭션이 커밋된 뒤 실시간 채널로 알리기 위한 이벤트
+public record RoomChangedEvent(Long roomId, long revision) {
+}
@@ -0,0 +1,13 @@
+package com.furnhub.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface RoomExportService {
+    void writeRooms(OutputStream out) throws IOException;
+    void writeRoom(Long roomId, OutputStream out) throws IOException;
+    void writeWalls(Long roomId, OutputStream out) throws IOException;
+    void writeFurniture(Long roomId, OutputStream out) throws IOException;
+    void writeClosedAreas(Long roomId, OutputStream out) throws IOException;
+    void writeFloors(Long roomId, OutputStream out) throws IOException;
+}
@@ -1,5 +1,7 @@
 package com.furnhub.service;
 
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomFloorDto;
 import com.furnhub.entity.RoomFloor;
 
 import java.util.List;
@@ -8,6 +10,7 @@ public interface RoomFloorService {
     RoomFloor createRoomFloor(RoomFloor roomFloor);
     RoomFloor getRoomFloorById(Long id);
     List<RoomFloor> getAllRoomFloorsByRoomId(Long roomId);
+    KeysetPage<RoomFloorDto> getRoomFloorsPageByRoomId(Long roomId, String after, int size);
     RoomFloor updateRoomFloor(Long id, RoomFloor updatedRoomFloor);
     void deleteRoomFloor(Long id);
 }
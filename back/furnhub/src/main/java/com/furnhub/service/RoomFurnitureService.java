@@ -1,5 +1,11 @@
 package com.furnhub.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.Versioned;
 import com.furnhub.entity.RoomFurniture;
 import java.util.List;
 
@@ -7,6 +13,9 @@ public interface RoomFurnitureService {
     RoomFurniture createFurniture(RoomFurniture furniture);
     RoomFurniture getFurnitureById(Long id);
     List<RoomFurniture> getAllFurnitureByRoomId(Long roomId);
-    RoomFurniture updateFurniture(Long id, RoomFurniture updatedFurniture);
+    KeysetPage<RoomFurnitureDto> getFurniturePageByRoomId(Long roomId, String after, int size);
+    RoomFurniture updateFurniture(Long id, RoomFurniture updatedFurniture, Long expectedVersion);
+    Versioned<RoomFurnitureDto> patchFurniture(Long id, JsonNode patch, Long expectedVersion);
     void deleteFurniture(Long id);
+    BatchResult applyBatch(BatchRequest<RoomFurniture> request);
 }
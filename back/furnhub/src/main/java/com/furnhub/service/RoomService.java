@@ -1,5 +1,8 @@
 package com.furnhub.service;
 
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.RoomVersionDto;
 import com.furnhub.entity.Room;
 import java.util.List;
 
@@ -7,6 +10,11 @@ public interface RoomService {
     Room createRoom(Room room);
     Room getRoomById(Long id);
     List<Room> getAllRooms();
-    Room updateRoom(Long id, Room updatedRoom);
+    KeysetPage<Room> getRoomsPage(String sort, String after, int size);
+    Room updateRoom(Long id, Room updatedRoom, Long expectedVersion);
     void deleteRoom(Long id);
+    Room copyRoom(Long id, String name, boolean template);
+    List<Room> getTemplates();
+    RoomSnapshotDto getRoomSnapshot(Long id);
+    RoomVersionDto getRoomVersion(Long id);
 }
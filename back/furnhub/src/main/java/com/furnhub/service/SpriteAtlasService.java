@@ -0,0 +1,13 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.SpriteAtlasDto;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.image.EncodedImage;
+
+public interface SpriteAtlasService {
+    SpriteAtlasDto getAtlas(Long categoryId);
+    EncodedImage getAtlasImage(Long categoryId);
+    String getAtlasVersion(Long categoryId);
+    void onAssetCreated(AssetFurniture asset);
+    void evictCategory(Long categoryId);
+}
@@ -0,0 +1,11 @@
+package com.furnhub.service;
+
+import com.furnhub.image.EncodedImage;
+
+public interface TextureVariantService {
+    EncodedImage getVariant(String path, int level);
+    EncodedImage getVariantForWidth(String path, int width);
+    EncodedImage getFloorTexture(Long assetFloorId, Integer level, Integer width);
+    EncodedImage getFurnitureSprite(Long assetFurnitureId, String view, Integer level, Integer width);
+    void prewarm();
+}
@@ -1,5 +1,11 @@
 package com.furnhub.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.Versioned;
+import com.furnhub.dto.WallDto;
 import com.furnhub.entity.Wall;
 import java.util.List;
 
@@ -7,6 +13,9 @@ public interface WallService {
     Wall createWall(Wall wall);
     Wall getWallById(Long id);
     List<Wall> getAllWallsByRoomId(Long roomId);
-    Wall updateWall(Long id, Wall updatedWall);
+    KeysetPage<WallDto> getWallsPageByRoomId(Long roomId, String after, int size);
+    Wall updateWall(Long id, Wall updatedWall, Long expectedVersion);
+    Versioned<WallDto> patchWall(Long id, JsonNode patch, Long expectedVersion);
     void deleteWall(Long id);
+    BatchResult applyBatch(BatchRequest<Wall> request);
 }
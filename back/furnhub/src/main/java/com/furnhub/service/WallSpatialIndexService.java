@@ -0,0 +1,22 @@
+package com.furnhub.service;
+
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Wall;
+import com.furnhub.geometry.NearestPoint;
+import com.furnhub.geometry.WallSegment;
+import com.furnhub.geometry.WallSpatialIndex;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WallSpatialIndexService {
+    WallSpatialIndex getIndex(Long roomId);
+    Optional<NearestPoint> nearestEndpoint(Long roomId, double x, double y, double radius, Long excludeId);
+    Optional<NearestPoint> nearestPointOnSegment(Long roomId, double x, double y, double radius, Long excludeId);
+    Optional<NearestPoint> hitTest(Long roomId, double x, double y, double tolerance);
+    List<WallSegment> segmentsInBox(Long roomId, double minX, double minY, double maxX, double maxY);
+    void onWallSaved(Wall wall);
+    void onWallSaved(WallDto wall);
+    void onWallDeleted(Long roomId, Long wallId);
+    void evictRoom(Long roomId);
+}
@@ -0,0 +1,5 @@
+package com.furnhub.service;
+
+// 방의 벽 변경이 커밋되어 공간 인덱스에 반영된 뒤 발행 (닫힌 공간 자동 계산용)
+public record WallsChangedEvent(Long roomId) {
+}
@@ -1,8 +1,11 @@
 package com.furnhub.service.impl;
 
+import com.furnhub.config.CacheConfig;
 import com.furnhub.entity.AssetFloor;
 import com.furnhub.repository.AssetFloorRepository;
 import com.furnhub.service.AssetFloorService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,22 +20,26 @@ public class AssetFloorServiceImpl implements AssetFloorService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FLOORS, allEntries = true)
     public AssetFloor createAssetFloor(AssetFloor asset) {
         return floorRepository.save(asset);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSET_FLOORS, key = "#id")
     public AssetFloor getAssetFloorById(Long id) {
         return floorRepository.findById(id).orElseThrow(() -> 
             new IllegalArgumentException("Floor asset not found with id: " + id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSET_FLOORS, key = "'all'")
     public List<AssetFloor> getAllAssetFloors() {
-        return floorRepository.findAll();
+        return List.copyOf(floorRepository.findAll());
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FLOORS, allEntries = true)
     public AssetFloor updateAssetFloor(Long id, AssetFloor updatedAsset) {
         AssetFloor existingAsset = getAssetFloorById(id);
         existingAsset.setName(updatedAsset.getName());
@@ -41,6 +48,7 @@ public class AssetFloorServiceImpl implements AssetFloorService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FLOORS, allEntries = true)
     public void deleteAssetFloor(Long id) {
         floorRepository.deleteById(id);
     }
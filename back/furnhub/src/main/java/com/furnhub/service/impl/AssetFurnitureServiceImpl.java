@@ -1,47 +1,70 @@
 package com.furnhub.service.impl;
 
+import com.furnhub.config.CacheConfig;
 import com.furnhub.entity.AssetFurniture;
 import com.furnhub.repository.AssetFurnitureRepository;
 import com.furnhub.service.AssetFurnitureService;
+import com.furnhub.service.SpriteAtlasService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static com.furnhub.service.impl.TransactionHooks.afterCommit;
+
 @Service
 public class AssetFurnitureServiceImpl implements AssetFurnitureService {
 
     private final AssetFurnitureRepository furnitureRepository;
+    private final SpriteAtlasService spriteAtlasService;
 
-    public AssetFurnitureServiceImpl(AssetFurnitureRepository furnitureRepository) {
+    public AssetFurnitureServiceImpl(AssetFurnitureRepository furnitureRepository, SpriteAtlasService spriteAtlasService) {
         this.furnitureRepository = furnitureRepository;
+        this.spriteAtlasService = spriteAtlasService;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FURNITURE, allEntries = true)
     public AssetFurniture createAssetFurniture(AssetFurniture asset) {
-        return furnitureRepository.save(asset);
+        AssetFurniture savedAsset = furnitureRepository.save(asset);
+        afterCommit(() -> spriteAtlasService.onAssetCreated(savedAsset));
+        return savedAsset;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSET_FURNITURE, key = "#id")
     public AssetFurniture getAssetFurnitureById(Long id) {
         return furnitureRepository.findById(id).orElseThrow(() -> 
             new IllegalArgumentException("Furniture asset not found with id: " + id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSET_FURNITURE, key = "'all'")
     public List<AssetFurniture> getAllAssetFurnitures() {
-        return furnitureRepository.findAll();
+        return List.copyOf(furnitureRepository.findAll());
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FURNITURE, allEntries = true)
     public AssetFurniture updateAssetFurniture(Long id, AssetFurniture updatedAsset) {
         AssetFurniture existingAsset = getAssetFurnitureById(id);
         existingAsset.setName(updatedAsset.getName());
         existingAsset.setFolderName(updatedAsset.getFolderName());
-        return furnitureRepository.save(existingAsset);
+        existingAsset.setWidth(updatedAsset.getWidth());
+        existingAsset.setDepth(updatedAsset.getDepth());
+        AssetFurniture savedAsset = furnitureRepository.save(existingAsset);
+        // 폴더가 바뀌면 기존 좌표를 재사용할 수 없으므로 카테고리 아틀라스를 다시 만듦
+        afterCommit(() -> spriteAtlasService.evictCategory(savedAsset.getCategory().getId()));
+        return savedAsset;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ASSET_FURNITURE, allEntries = true)
     public void deleteAssetFurniture(Long id) {
-        furnitureRepository.deleteById(id);
+        furnitureRepository.findById(id).ifPresent(asset -> {
+            furnitureRepository.delete(asset);
+            afterCommit(() -> spriteAtlasService.evictCategory(asset.getCategory().getId()));
+        });
     }
 }
@@ -0,0 +1,70 @@
+package com.furnhub.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+// furnhub.assets.location 아래의 에셋 이미지를 읽음 (아틀라스, 축소 텍스처 공용)
+@Component
+class AssetImageLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetImageLoader.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String assetsLocation;
+
+    AssetImageLoader(ResourceLoader resourceLoader, @Value("${furnhub.assets.location}") String assetsLocation) {
+        this.resourceLoader = resourceLoader;
+        this.assetsLocation = assetsLocation.endsWith("/") ? assetsLocation : assetsLocation + "/";
+    }
+
+    // 파일이 없거나 이미지가 아니면 null
+    BufferedImage read(String path) {
+        Resource resource = resourceLoader.getResource(assetsLocation + AssetUrlServiceImpl.normalize(path));
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return ImageIO.read(in);
+        } catch (IOException e) {
+            log.warn("Failed to read asset image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    // 픽셀을 디코딩하지 않고 헤더에서 너비만 읽음. 파일이 없거나 이미지가 아니면 null
+    Integer readWidth(String path) {
+        Resource resource = resourceLoader.getResource(assetsLocation + AssetUrlServiceImpl.normalize(path));
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream();
+             ImageInputStream image = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = image == null ? null : ImageIO.getImageReaders(image);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(image, true, true);
+                return reader.getWidth(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read asset image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.config.WebConfig;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.service.AssetFurnitureService;
+import com.furnhub.service.AssetUrlService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// DB에 저장된 에셋 경로(/assets/...)를 내용 해시가 붙은 URL로 변환
+// 해시 계산 결과는 리소스 체인 캐시에 남으므로 파일당 한 번만 읽음
+@Service
+public class AssetUrlServiceImpl implements AssetUrlService {
+
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final AssetFurnitureService assetFurnitureService;
+    private final AssetFloorService assetFloorService;
+
+    public AssetUrlServiceImpl(@Qualifier("mvcResourceUrlProvider") ResourceUrlProvider resourceUrlProvider,
+                               AssetFurnitureService assetFurnitureService,
+                               AssetFloorService assetFloorService) {
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.assetFurnitureService = assetFurnitureService;
+        this.assetFloorService = assetFloorService;
+    }
+
+    @Override
+    public String resolveUrl(String path) {
+        String relativePath = normalize(path);
+        return resourceUrlProvider.getForLookupPath(WebConfig.VERSIONED_ASSETS_PATH + relativePath);
+    }
+
+    @Override
+    public Map<String, String> resolveUrls(Collection<String> paths) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String path : paths) {
+            String url = resolveUrl(path);
+            if (url != null) {
+                urls.put(path, url);
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public Map<String, String> getFurnitureSpriteUrls(Long assetFurnitureId) {
+        AssetFurniture asset = assetFurnitureService.getAssetFurnitureById(assetFurnitureId);
+        String folder = normalize(asset.getFolderName());
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String view : SPRITE_VIEWS) {
+            String url = resolveUrl(folder + "/" + view + ".png");
+            if (url != null) {
+                urls.put(view, url);
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public String getFloorTextureUrl(Long assetFloorId) {
+        return resolveUrl(assetFloorService.getAssetFloorById(assetFloorId).getTexturePath());
+    }
+
+    // "/assets/floor/wood.png", "assets/floor/wood.png", "floor/wood.png"를 모두 "floor/wood.png"로
+    static String normalize(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Asset path is required");
+        }
+        String relativePath = path.replace('\\', '/');
+        while (relativePath.startsWith("/")) {
+            relativePath = relativePath.substring(1);
+        }
+        if (relativePath.startsWith("assets/")) {
+            relativePath = relativePath.substring("assets/".length());
+        }
+        if (relativePath.endsWith("/")) {
+            relativePath = relativePath.substring(0, relativePath.length() - 1);
+        }
+        if (relativePath.isEmpty() || relativePath.contains("..")) {
+            throw new IllegalArgumentException("Invalid asset path: " + path);
+        }
+        return relativePath;
+    }
+}
@@ -0,0 +1,232 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.AutosaveService;
+import com.furnhub.service.RoomFurnitureService;
+import com.furnhub.service.WallService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 드래그 중 계속 들어오는 벽/가구 수정(PUT ?deferred=true)을 메모리에 요소별 마지막 상태만 남겨 두고,
+ * flush 주기마다 또는 대기 개수가 max-pending에 닿으면 applyBatch 한 번으로 저장한다.
+ * 방 단위 조회는 RoomService.getRoomVersion에서 그 방의 대기분을 먼저 저장하므로 방금 보낸 수정이 그대로 보인다.
+ * 종료 시에는 요청 처리가 멈춘 뒤 남은 대기분을 모두 저장한다.
+ * <p>
+ * 지연 저장은 마지막 상태가 이기는 방식이라 @Version 검사를 하지 않는다 (클라이언트가 보낸 version은 무시).
+ * 다른 사용자의 수정과 충돌을 감지해야 하면 deferred 없이 If-Match를 붙인 PUT/PATCH로 저장해야 한다.
+ * 하나씩 재시도해도 max-attempts번 실패한 요소는 버리고 오류 로그를 남긴다.
+ */
+@Service
+public class AutosaveServiceImpl implements AutosaveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutosaveServiceImpl.class);
+
+    // attempts: 하나씩 저장을 시도했다가 실패한 횟수. 새 상태가 들어오면 0부터 다시 셈
+    private record Pending<T>(Long roomId, T state, int attempts) {
+    }
+
+    private final WallRepository wallRepository;
+    private final RoomFurnitureRepository furnitureRepository;
+    private final WallService wallService;
+    private final RoomFurnitureService furnitureService;
+    private final int maxPending;
+    private final int maxAttempts;
+
+    // id -> 저장 대기 중인 마지막 상태
+    private final Map<Long, Pending<Wall>> pendingWalls = new ConcurrentHashMap<>();
+    private final Map<Long, Pending<RoomFurniture>> pendingFurniture = new ConcurrentHashMap<>();
+    // 주기 flush와 조회 시 flush가 같은 요소를 두 번 저장하지 않도록.
+    // 바로 저장하는 수정/삭제도 이 잠금을 잡고 대기분을 버려서, 진행 중인 flush가 그 뒤에 오래된 상태를 덮어쓰지 않게 함
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public AutosaveServiceImpl(WallRepository wallRepository,
+                               RoomFurnitureRepository furnitureRepository,
+                               WallService wallService,
+                               RoomFurnitureService furnitureService,
+                               @Value("${furnhub.autosave.max-pending:500}") int maxPending,
+                               @Value("${furnhub.autosave.max-attempts:5}") int maxAttempts) {
+        this.wallRepository = wallRepository;
+        this.furnitureRepository = furnitureRepository;
+        this.wallService = wallService;
+        this.furnitureService = furnitureService;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Wall bufferWall(Long id, Wall wall) {
+        Pending<Wall> previous = pendingWalls.get(id);
+        Long roomId = previous != null ? previous.roomId() : wallRepository.findRoomIdById(id).orElseThrow(() ->
+            new IllegalArgumentException("Wall not found with id: " + id));
+        wall.setId(id);
+        wall.setRoom(roomReference(roomId));
+        pendingWalls.put(id, new Pending<>(roomId, wall, 0));
+        flushIfFull();
+        return wall;
+    }
+
+    @Override
+    public RoomFurniture bufferFurniture(Long id, RoomFurniture furniture) {
+        Pending<RoomFurniture> previous = pendingFurniture.get(id);
+        Long roomId = previous != null ? previous.roomId() : furnitureRepository.findRoomIdById(id).orElseThrow(() ->
+            new IllegalArgumentException("Furniture not found with id: " + id));
+        furniture.setId(id);
+        furniture.setRoom(roomReference(roomId));
+        pendingFurniture.put(id, new Pending<>(roomId, furniture, 0));
+        flushIfFull();
+        return furniture;
+    }
+
+    // 바로 저장하는 수정/삭제가 들어오면 그보다 오래된 대기 상태는 버림.
+    // 이미 flush가 그 상태를 저장하는 중이면 끝날 때까지 기다려서, 바로 저장하는 쪽이 항상 나중에 커밋되게 함
+    @Override
+    public void discardWall(Long id) {
+        discard(pendingWalls, id);
+    }
+
+    @Override
+    public void discardFurniture(Long id) {
+        discard(pendingFurniture, id);
+    }
+
+    @Override
+    public void flushWall(Long id) {
+        Pending<Wall> pending = pendingWalls.get(id);
+        if (pending != null) {
+            flushRoom(pending.roomId());
+        }
+    }
+
+    @Override
+    public void flushFurniture(Long id) {
+        Pending<RoomFurniture> pending = pendingFurniture.get(id);
+        if (pending != null) {
+            flushRoom(pending.roomId());
+        }
+    }
+
+    @Override
+    public void flushRoom(Long roomId) {
+        if (pendingWalls.isEmpty() && pendingFurniture.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushPending(pendingWalls, roomId, "Wall", this::writeWalls,
+                    (id, wall) -> wallService.updateWall(id, wall, null));
+            flushPending(pendingFurniture, roomId, "Furniture", this::writeFurniture,
+                    (id, furniture) -> furnitureService.updateFurniture(id, furniture, null));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${furnhub.autosave.flush-interval-ms:1000}")
+    public void flush() {
+        flushRoom(null);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (getPendingCount() > 0) {
+            log.error("Autosave shutdown left {} unsaved updates", getPendingCount());
+        }
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pendingWalls.size() + pendingFurniture.size();
+    }
+
+    private void discard(Map<Long, ? extends Pending<?>> pending, Long id) {
+        flushLock.lock();
+        try {
+            pending.remove(id);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushIfFull() {
+        if (getPendingCount() >= maxPending) {
+            flush();
+        }
+    }
+
+    private void writeWalls(List<Wall> walls) {
+        wallService.applyBatch(new BatchRequest<>(null, walls, null));
+    }
+
+    private void writeFurniture(List<RoomFurniture> furniture) {
+        furnitureService.applyBatch(new BatchRequest<>(null, furniture, null));
+    }
+
+    // roomId가 null이면 전체. 저장하는 동안 새 상태가 들어온 요소는 남겨서 다음 flush에 저장
+    private <T> void flushPending(Map<Long, Pending<T>> pending, Long roomId, String type,
+                                  Consumer<List<T>> batchWriter, BiConsumer<Long, T> singleWriter) {
+        List<Map.Entry<Long, Pending<T>>> selected = new ArrayList<>();
+        for (Map.Entry<Long, Pending<T>> entry : pending.entrySet()) {
+            if (roomId == null || roomId.equals(entry.getValue().roomId())) {
+                selected.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (selected.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchWriter.accept(selected.stream().map(entry -> entry.getValue().state()).toList());
+            selected.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Autosave batch of {} {} updates failed, retrying one by one: {}", selected.size(), type, e.getMessage());
+        }
+
+        // 한 건 때문에 배치 전체가 롤백되므로 하나씩 다시 저장. 그 사이 삭제된 요소는 버리고
+        // 나머지 오류는 다음 flush에 재시도하되 max-attempts번 실패하면 버림
+        for (Map.Entry<Long, Pending<T>> entry : selected) {
+            try {
+                singleWriter.accept(entry.getKey(), entry.getValue().state());
+                pending.remove(entry.getKey(), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                log.warn("Dropping autosave for {} {}: {}", type, entry.getKey(), e.getMessage());
+                pending.remove(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                Pending<T> failed = entry.getValue();
+                if (failed.attempts() + 1 >= maxAttempts) {
+                    log.error("Dropping autosave for {} {} after {} failed attempts: {}", type, entry.getKey(), maxAttempts, e.getMessage());
+                    pending.remove(entry.getKey(), failed);
+                } else {
+                    log.warn("Autosave for {} {} failed, will retry: {}", type, entry.getKey(), e.getMessage());
+                    pending.replace(entry.getKey(), failed, new Pending<>(failed.roomId(), failed.state(), failed.attempts() + 1));
+                }
+            }
+        }
+    }
+
+    private static Room roomReference(Long roomId) {
+        Room room = new Room();
+        room.setId(roomId);
+        return room;
+    }
+}
@@ -0,0 +1,171 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomChange;
+import com.furnhub.geometry.ClosedAreaDetector;
+import com.furnhub.geometry.PlanarFace;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.service.ClosedAreaDetectionService;
+import com.furnhub.service.RoomChangeService;
+import com.furnhub.service.WallSpatialIndexService;
+import com.furnhub.service.WallsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벽 변경이 커밋되면(WallsChangedEvent) 방을 표시해 두었다가 detect-interval-ms마다 모아서 닫힌 공간을 다시 계산한다.
+ * 드래그처럼 연달아 들어오는 변경은 한 번의 계산으로 합쳐지고, 계산기(ClosedAreaDetector)는 바뀐 정점 주변의 면만 다시 따라간다.
+ * 자동 계산은 자신이 만든 공간(detected)만 추가/삭제하고, 사용자가 직접 만든 공간은 건드리지 않는다.
+ */
+@Service
+public class ClosedAreaDetectionServiceImpl implements ClosedAreaDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClosedAreaDetectionServiceImpl.class);
+
+    private final RoomRepository roomRepository;
+    private final ClosedAreaRepository closedAreaRepository;
+    private final WallSpatialIndexService spatialIndexService;
+    private final RoomChangeService roomChangeService;
+    private final double tolerance;
+    private final double minArea;
+    private final double cellSize;
+    private final boolean autoDetect;
+    private final TransactionTemplate transactionTemplate;
+    // 방별 계산기(지난 결과 포함). 오래 안 쓰인 방부터 버림
+    private final Cache<Long, ClosedAreaDetector> detectors;
+    private final Set<Long> pendingRooms = ConcurrentHashMap.newKeySet();
+
+    public ClosedAreaDetectionServiceImpl(RoomRepository roomRepository,
+                                          ClosedAreaRepository closedAreaRepository,
+                                          WallSpatialIndexService spatialIndexService,
+                                          RoomChangeService roomChangeService,
+                                          @Value("${furnhub.closed-area.tolerance:1}") double tolerance,
+                                          @Value("${furnhub.closed-area.min-area:1}") double minArea,
+                                          @Value("${furnhub.spatial-index.cell-size:100}") double cellSize,
+                                          @Value("${furnhub.closed-area.auto-detect:true}") boolean autoDetect,
+                                          @Value("${furnhub.closed-area.detector-cache-size:1000}") long detectorCacheSize,
+                                          PlatformTransactionManager transactionManager) {
+        this.roomRepository = roomRepository;
+        this.closedAreaRepository = closedAreaRepository;
+        this.spatialIndexService = spatialIndexService;
+        this.roomChangeService = roomChangeService;
+        this.tolerance = tolerance;
+        this.minArea = minArea;
+        this.cellSize = cellSize;
+        this.autoDetect = autoDetect;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.detectors = Caffeine.newBuilder()
+                .maximumSize(detectorCacheSize)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    // 벽 그래프에서 닫힌 공간을 계산하고, 달라진 공간만 closed_areas에 반영.
+    // 이미 있는 공간(직접 만든 것 포함)과 같은 면은 새로 만들지 않고, 없어진 면은 자동으로 만든 공간만 삭제
+    @Override
+    @Transactional
+    public List<ClosedAreaDto> detectClosedAreas(Long roomId) {
+        Room room = roomRepository.findById(roomId).orElseThrow(() ->
+            new IllegalArgumentException("Room not found with id: " + roomId));
+        List<PlanarFace> faces = detectors
+                .get(roomId, id -> new ClosedAreaDetector(tolerance, minArea, cellSize))
+                .detect(spatialIndexService.getIndex(roomId).segments());
+
+        Map<String, Deque<ClosedArea>> existingByKey = new HashMap<>();
+        for (ClosedArea closedArea : closedAreaRepository.findByRoomId(roomId)) {
+            existingByKey.computeIfAbsent(key(closedArea.getArea(), closedArea.getCenterX(), closedArea.getCenterY()),
+                    k -> new ArrayDeque<>()).add(closedArea);
+        }
+
+        List<RoomChange> changes = new ArrayList<>();
+        for (PlanarFace face : faces) {
+            Deque<ClosedArea> matches = existingByKey.get(key(face.area(), face.centerX(), face.centerY()));
+            if (matches != null && !matches.isEmpty()) {
+                matches.poll();
+                continue;
+            }
+            ClosedArea closedArea = new ClosedArea();
+            closedArea.setRoom(room);
+            closedArea.setArea(face.area());
+            closedArea.setCenterX(face.centerX());
+            closedArea.setCenterY(face.centerY());
+            closedArea.setDetected(true);
+            Long id = closedAreaRepository.save(closedArea).getId();
+            changes.add(new RoomChange(roomId, RoomChange.EntityType.CLOSED_AREA, id, RoomChange.Operation.ADD));
+        }
+        for (Deque<ClosedArea> stale : existingByKey.values()) {
+            for (ClosedArea closedArea : stale) {
+                if (!closedArea.isDetected()) {
+                    continue;
+                }
+                closedAreaRepository.delete(closedArea);
+                changes.add(new RoomChange(roomId, RoomChange.EntityType.CLOSED_AREA, closedArea.getId(), RoomChange.Operation.DELETE));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            roomChangeService.recordChanges(changes);
+        }
+        closedAreaRepository.flush();
+        return closedAreaRepository.findDtosByRoomId(roomId);
+    }
+
+    @EventListener
+    public void onWallsChanged(WallsChangedEvent event) {
+        if (autoDetect) {
+            pendingRooms.add(event.roomId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${furnhub.closed-area.detect-interval-ms:500}")
+    public void detectPendingRooms() {
+        for (Long roomId : List.copyOf(pendingRooms)) {
+            pendingRooms.remove(roomId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> detectClosedAreas(roomId));
+            } catch (IllegalArgumentException e) {
+                // 그 사이 방이 삭제된 경우
+                log.debug("Skipping closed area detection for room {}: {}", roomId, e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Closed area detection for room {} failed: {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void evictRoom(Long roomId) {
+        pendingRooms.remove(roomId);
+        detectors.invalidate(roomId);
+    }
+
+    // 소수 둘째 자리까지 같으면 같은 공간으로 봄
+    private static String key(Double area, Double centerX, Double centerY) {
+        return Math.round(value(area) * 100) + ":" + Math.round(value(centerX) * 100) + ":" + Math.round(value(centerY) * 100);
+    }
+
+    private static double value(Double value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -1,24 +1,48 @@
 package com.furnhub.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.Versioned;
 import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.RoomChange;
 import com.furnhub.repository.ClosedAreaRepository;
 import com.furnhub.service.ClosedAreaService;
+import com.furnhub.service.RoomChangeService;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ClosedAreaServiceImpl implements ClosedAreaService {
 
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+            "area", Double.class, "centerX", Double.class, "centerY", Double.class);
+
     private final ClosedAreaRepository closedAreaRepository;
+    private final RoomChangeService roomChangeService;
+    private final EntityManager entityManager;
 
-    public ClosedAreaServiceImpl(ClosedAreaRepository closedAreaRepository) {
+    public ClosedAreaServiceImpl(ClosedAreaRepository closedAreaRepository, RoomChangeService roomChangeService,
+                                 EntityManager entityManager) {
         this.closedAreaRepository = closedAreaRepository;
+        this.roomChangeService = roomChangeService;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public ClosedArea createClosedArea(ClosedArea closedArea) {
-        return closedAreaRepository.save(closedArea);
+        ClosedArea savedClosedArea = closedAreaRepository.save(closedArea);
+        roomChangeService.recordChange(savedClosedArea.getRoom().getId(), RoomChange.EntityType.CLOSED_AREA, savedClosedArea.getId(), RoomChange.Operation.ADD);
+        return savedClosedArea;
     }
 
     @Override
@@ -33,16 +57,57 @@ public class ClosedAreaServiceImpl implements ClosedAreaService {
     }
 
     @Override
-    public ClosedArea updateClosedArea(Long id, ClosedArea updatedClosedArea) {
+    public KeysetPage<ClosedAreaDto> getClosedAreasPageByRoomId(Long roomId, String after, int size) {
+        long afterId = after == null ? 0L : KeysetCursor.decode(after, "id").id();
+        List<ClosedAreaDto> fetched = closedAreaRepository.findDtosByRoomIdAfter(roomId, afterId, Limit.of(size + 1));
+        return KeysetPage.of(fetched, size, item -> new KeysetCursor("id", null, item.id()));
+    }
+
+    @Override
+    @Transactional
+    public ClosedArea updateClosedArea(Long id, ClosedArea updatedClosedArea, Long expectedVersion) {
         ClosedArea existingClosedArea = getClosedAreaById(id);
+        if (expectedVersion != null && existingClosedArea.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(ClosedArea.class, id);
+        }
         existingClosedArea.setArea(updatedClosedArea.getArea());
         existingClosedArea.setCenterX(updatedClosedArea.getCenterX());
         existingClosedArea.setCenterY(updatedClosedArea.getCenterY());
-        return closedAreaRepository.save(existingClosedArea);
+        ClosedArea savedClosedArea = closedAreaRepository.save(existingClosedArea);
+        roomChangeService.recordChange(savedClosedArea.getRoom().getId(), RoomChange.EntityType.CLOSED_AREA, id, RoomChange.Operation.MODIFY);
+        return savedClosedArea;
+    }
+
+    @Override
+    @Transactional
+    public Versioned<ClosedAreaDto> patchClosedArea(Long id, JsonNode patch, Long expectedVersion) {
+        MergePatch fields = MergePatch.read(patch, "ClosedArea", PATCHABLE_FIELDS, Set.of("centerX", "centerY"));
+        if (expectedVersion == null) {
+            ClosedArea closedArea = getClosedAreaById(id);
+            fields.applyTo(closedArea);
+            closedAreaRepository.saveAndFlush(closedArea);
+            roomChangeService.recordChange(closedArea.getRoom().getId(), RoomChange.EntityType.CLOSED_AREA, id, RoomChange.Operation.MODIFY);
+            return new Versioned<>(ClosedAreaDto.from(closedArea), closedArea.getVersion());
+        }
+
+        if (fields.updateIfVersion(entityManager, ClosedArea.class, id, expectedVersion) == 0) {
+            if (!closedAreaRepository.existsById(id)) {
+                throw new IllegalArgumentException("ClosedArea not found with id: " + id);
+            }
+            throw new ObjectOptimisticLockingFailureException(ClosedArea.class, id);
+        }
+        // 변경 이력에 방 id가 필요하므로 DTO로 한 번 읽음
+        ClosedAreaDto closedArea = closedAreaRepository.findDtosByIdIn(List.of(id)).get(0);
+        roomChangeService.recordChange(closedArea.roomId(), RoomChange.EntityType.CLOSED_AREA, id, RoomChange.Operation.MODIFY);
+        return new Versioned<>(closedArea, expectedVersion + 1);
     }
 
     @Override
+    @Transactional
     public void deleteClosedArea(Long id) {
-        closedAreaRepository.deleteById(id);
+        closedAreaRepository.findById(id).ifPresent(closedArea -> {
+            closedAreaRepository.delete(closedArea);
+            roomChangeService.recordChange(closedArea.getRoom().getId(), RoomChange.EntityType.CLOSED_AREA, id, RoomChange.Operation.DELETE);
+        });
     }
 }
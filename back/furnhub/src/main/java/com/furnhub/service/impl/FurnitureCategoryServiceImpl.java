@@ -1,38 +1,50 @@
 package com.furnhub.service.impl;
 
+import com.furnhub.config.CacheConfig;
 import com.furnhub.entity.FurnitureCategory;
 import com.furnhub.repository.FurnitureCategoryRepository;
 import com.furnhub.service.FurnitureCategoryService;
+import com.furnhub.service.SpriteAtlasService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static com.furnhub.service.impl.TransactionHooks.afterCommit;
+
 @Service
 public class FurnitureCategoryServiceImpl implements FurnitureCategoryService {
 
     private final FurnitureCategoryRepository categoryRepository;
+    private final SpriteAtlasService spriteAtlasService;
 
-    public FurnitureCategoryServiceImpl(FurnitureCategoryRepository categoryRepository) {
+    public FurnitureCategoryServiceImpl(FurnitureCategoryRepository categoryRepository, SpriteAtlasService spriteAtlasService) {
         this.categoryRepository = categoryRepository;
+        this.spriteAtlasService = spriteAtlasService;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FURNITURE_CATEGORIES, allEntries = true)
     public FurnitureCategory createCategory(FurnitureCategory category) {
         return categoryRepository.save(category);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.FURNITURE_CATEGORIES, key = "#id")
     public FurnitureCategory getCategoryById(Long id) {
         return categoryRepository.findById(id).orElseThrow(() -> 
             new IllegalArgumentException("Category not found with id: " + id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.FURNITURE_CATEGORIES, key = "'all'")
     public List<FurnitureCategory> getAllCategories() {
-        return categoryRepository.findAll();
+        return List.copyOf(categoryRepository.findAll());
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.FURNITURE_CATEGORIES, CacheConfig.ASSET_FURNITURE}, allEntries = true)
     public FurnitureCategory updateCategory(Long id, FurnitureCategory updatedCategory) {
         FurnitureCategory existingCategory = getCategoryById(id);
         existingCategory.setName(updatedCategory.getName());
@@ -40,7 +52,9 @@ public class FurnitureCategoryServiceImpl implements FurnitureCategoryService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.FURNITURE_CATEGORIES, CacheConfig.ASSET_FURNITURE}, allEntries = true)
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        afterCommit(() -> spriteAtlasService.evictCategory(id));
     }
 }
@@ -0,0 +1,213 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.CollisionReport;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.geometry.OrientedBox;
+import com.furnhub.geometry.OrientedBoxIndex;
+import com.furnhub.geometry.WallSegment;
+import com.furnhub.geometry.WallSpatialIndex;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.service.AssetFurnitureService;
+import com.furnhub.service.FurnitureCollisionService;
+import com.furnhub.service.WallSpatialIndexService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.furnhub.service.impl.TransactionHooks.afterCommit;
+
+@Service
+public class FurnitureCollisionServiceImpl implements FurnitureCollisionService {
+
+    private final RoomFurnitureRepository furnitureRepository;
+    private final WallSpatialIndexService spatialIndexService;
+    private final AssetFurnitureService assetFurnitureService;
+    private final double baseWidth;
+    private final double baseHeight;
+    private final double cellSize;
+    private final Map<Long, OrientedBoxIndex> indexes = new ConcurrentHashMap<>();
+    // 인덱스를 읽어 오는 사이에 그 방에 커밋된 변경을 감지하기 위한 방별 카운터 (WallSpatialIndexServiceImpl과 같은 방식)
+    private static final int COMMIT_STRIPES = 1024;
+    private final AtomicLongArray commits = new AtomicLongArray(COMMIT_STRIPES);
+    // 에셋 폴더 이름(assetName) -> {width, depth}. 에셋 크기가 바뀌면 방 인덱스를 모두 다시 만듦
+    private volatile Map<String, Footprint> footprints = Map.of();
+    // footprints를 만든 에셋 목록. 캐시가 같은 인스턴스를 돌려주는 동안은 다시 계산하지 않음
+    private volatile List<AssetFurniture> footprintSource;
+
+    public FurnitureCollisionServiceImpl(RoomFurnitureRepository furnitureRepository,
+                                         WallSpatialIndexService spatialIndexService,
+                                         AssetFurnitureService assetFurnitureService,
+                                         @Value("${furnhub.collision.base-width:50}") double baseWidth,
+                                         @Value("${furnhub.collision.base-height:50}") double baseHeight,
+                                         @Value("${furnhub.collision.cell-size:100}") double cellSize) {
+        this.furnitureRepository = furnitureRepository;
+        this.spatialIndexService = spatialIndexService;
+        this.assetFurnitureService = assetFurnitureService;
+        this.baseWidth = baseWidth;
+        this.baseHeight = baseHeight;
+        this.cellSize = cellSize;
+    }
+
+    // 방 전체 검사: 격자로 후보를 좁힌 뒤 SAT로 확인, 각 쌍은 한 번만 보고
+    @Override
+    public CollisionReport checkRoom(Long roomId) {
+        refreshFootprints();
+        OrientedBoxIndex furniture = getIndex(roomId);
+        WallSpatialIndex walls = spatialIndexService.getIndex(roomId);
+        List<CollisionReport.FurnitureOverlap> overlaps = new ArrayList<>();
+        List<CollisionReport.WallContact> wallContacts = new ArrayList<>();
+        for (OrientedBox box : furniture.boxes()) {
+            for (OrientedBox other : furniture.overlapping(box)) {
+                if (box.id() < other.id()) {
+                    overlaps.add(new CollisionReport.FurnitureOverlap(box.id(), other.id()));
+                }
+            }
+            for (WallSegment wall : touchingWalls(walls, box)) {
+                wallContacts.add(new CollisionReport.WallContact(box.id(), wall.id()));
+            }
+        }
+        return new CollisionReport(overlaps, wallContacts);
+    }
+
+    // 가구 하나를 옮기거나 놓을 때의 검사 (자기 자신은 제외)
+    @Override
+    public CollisionReport checkPlacement(Long roomId, RoomFurniture furniture) {
+        if (furniture.getPositionX() == null || furniture.getPositionY() == null) {
+            throw new IllegalArgumentException("Furniture position is required");
+        }
+        refreshFootprints();
+        OrientedBox box = box(RoomFurnitureDto.from(furniture));
+        Long furnitureId = furniture.getId();
+        List<CollisionReport.FurnitureOverlap> overlaps = new ArrayList<>();
+        for (OrientedBox other : getIndex(roomId).overlapping(box)) {
+            overlaps.add(new CollisionReport.FurnitureOverlap(furnitureId, other.id()));
+        }
+        List<CollisionReport.WallContact> wallContacts = new ArrayList<>();
+        for (WallSegment wall : touchingWalls(spatialIndexService.getIndex(roomId), box)) {
+            wallContacts.add(new CollisionReport.WallContact(furnitureId, wall.id()));
+        }
+        return new CollisionReport(overlaps, wallContacts);
+    }
+
+    @Override
+    public void onFurnitureSaved(RoomFurniture furniture) {
+        onFurnitureSaved(RoomFurnitureDto.from(furniture));
+    }
+
+    @Override
+    public void onFurnitureSaved(RoomFurnitureDto furniture) {
+        Long roomId = furniture.roomId();
+        OrientedBox box = box(furniture);
+        afterCommit(() -> {
+            commits.incrementAndGet(stripe(roomId));
+            indexes.computeIfPresent(roomId, (id, index) -> {
+                index.put(box);
+                return index;
+            });
+        });
+    }
+
+    @Override
+    public void onFurnitureDeleted(Long roomId, Long furnitureId) {
+        afterCommit(() -> {
+            commits.incrementAndGet(stripe(roomId));
+            indexes.computeIfPresent(roomId, (id, index) -> {
+                index.remove(furnitureId);
+                return index;
+            });
+        });
+    }
+
+    @Override
+    public void evictRoom(Long roomId) {
+        afterCommit(() -> indexes.remove(roomId));
+    }
+
+    // DB 조회는 computeIfAbsent 밖에서 하고 먼저 넣은 쪽을 사용.
+    // 조회 중에 그 방에 커밋이 있었거나 에셋 크기가 바뀌었으면 캐시에서 빼고 다음 검사 때 다시 읽음
+    private OrientedBoxIndex getIndex(Long roomId) {
+        OrientedBoxIndex index = indexes.get(roomId);
+        if (index != null) {
+            return index;
+        }
+        long before = commits.get(stripe(roomId));
+        Map<String, Footprint> usedFootprints = footprints;
+        OrientedBoxIndex loaded = OrientedBoxIndex.of(
+                furnitureRepository.findDtosByRoomId(roomId).stream()
+                        .map(this::box)
+                        .toList(),
+                cellSize);
+        OrientedBoxIndex existing = indexes.putIfAbsent(roomId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (commits.get(stripe(roomId)) != before || footprints != usedFootprints) {
+            indexes.remove(roomId, loaded);
+        }
+        return loaded;
+    }
+
+    private static int stripe(Long roomId) {
+        return Long.hashCode(roomId) & (COMMIT_STRIPES - 1);
+    }
+
+    private OrientedBox box(RoomFurnitureDto furniture) {
+        Footprint footprint = footprints.get(furniture.assetName());
+        return footprint == null
+                ? OrientedBox.of(furniture, baseWidth, baseHeight)
+                : OrientedBox.of(furniture, footprint.width(), footprint.depth());
+    }
+
+    // 에셋 생성/수정/삭제는 ASSET_FURNITURE 캐시를 비우므로, 캐시가 돌려주는 목록 인스턴스가 바뀌었을 때만 다시 계산.
+    // 평소 검사에서는 캐시 조회와 참조 비교만 함
+    private void refreshFootprints() {
+        List<AssetFurniture> assets = assetFurnitureService.getAllAssetFurnitures();
+        if (assets == footprintSource) {
+            return;
+        }
+        synchronized (this) {
+            if (assets != footprintSource) {
+                rebuildFootprints(assets);
+                footprintSource = assets;
+            }
+        }
+    }
+
+    private void rebuildFootprints(List<AssetFurniture> assets) {
+        Map<String, Footprint> current = new HashMap<>();
+        for (AssetFurniture asset : assets) {
+            if (asset.getWidth() != null && asset.getDepth() != null && asset.getFolderName() != null) {
+                String folder = asset.getFolderName();
+                current.put(folder.substring(folder.lastIndexOf('/') + 1), new Footprint(asset.getWidth(), asset.getDepth()));
+            }
+        }
+        if (!current.equals(footprints)) {
+            footprints = Map.copyOf(current);
+            indexes.clear();
+        }
+    }
+
+    private record Footprint(double width, double depth) {
+    }
+
+    // 벽 두께의 절반만큼 넓힌 범위에서 후보를 찾고 두께를 포함한 사각형으로 정밀 검사
+    private List<WallSegment> touchingWalls(WallSpatialIndex walls, OrientedBox box) {
+        double margin = walls.maxThickness() / 2;
+        List<WallSegment> result = new ArrayList<>();
+        for (WallSegment wall : walls.segmentsInBox(box.minX() - margin, box.minY() - margin,
+                box.maxX() + margin, box.maxY() + margin)) {
+            if (box.intersects(OrientedBox.of(wall))) {
+                result.add(wall);
+            }
+        }
+        return result;
+    }
+}
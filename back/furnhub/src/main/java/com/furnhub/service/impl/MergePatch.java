@@ -0,0 +1,90 @@
+package com.furnhub.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON merge patch(RFC 7396)의 평면 필드 버전. 본문에 있는 필드만 바꾸고, null은 값을 지운다(nullable 컬럼만 허용).
+ * 수정 가능한 필드와 타입은 엔티티마다 서비스에서 정한다.
+ */
+final class MergePatch {
+
+    private final Map<String, Object> fields;
+
+    private MergePatch(Map<String, Object> fields) {
+        this.fields = fields;
+    }
+
+    static MergePatch read(JsonNode patch, String type, Map<String, Class<?>> patchable, Set<String> nullable) {
+        if (patch == null || !patch.isObject() || patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch for " + type + " must be a non-empty JSON object");
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = patch.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            String name = entry.getKey();
+            Class<?> fieldType = patchable.get(name);
+            if (fieldType == null) {
+                throw new IllegalArgumentException("Field '" + name + "' cannot be patched on " + type);
+            }
+            fields.put(name, convert(type, name, fieldType, entry.getValue(), nullable.contains(name)));
+        }
+        return new MergePatch(fields);
+    }
+
+    boolean touches(Set<String> names) {
+        return fields.keySet().stream().anyMatch(names::contains);
+    }
+
+    // 영속 상태 엔티티에 적용하면 @DynamicUpdate로 바뀐 컬럼만 UPDATE
+    void applyTo(Object entity) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        fields.forEach(wrapper::setPropertyValue);
+    }
+
+    // SELECT 없이 버전이 같을 때만 바로 UPDATE. 반영된 행 수(0 또는 1)를 돌려줌
+    <T> int updateIfVersion(EntityManager entityManager, Class<T> entityType, Long id, long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+        fields.forEach((name, value) -> {
+            Path<Object> path = root.get(name);
+            if (value == null) {
+                update.<Object>set(path, cb.nullLiteral(path.getJavaType()));
+            } else {
+                update.set(path, value);
+            }
+        });
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(cb.equal(root.get("id"), id), cb.equal(root.get("version"), expectedVersion));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static Object convert(String type, String name, Class<?> fieldType, JsonNode value, boolean nullable) {
+        if (value.isNull()) {
+            if (!nullable) {
+                throw new IllegalArgumentException("Field '" + name + "' of " + type + " cannot be removed");
+            }
+            return null;
+        }
+        if (fieldType == Double.class && value.isNumber()) {
+            return value.doubleValue();
+        }
+        if (fieldType == String.class && value.isTextual()) {
+            return value.textValue();
+        }
+        throw new IllegalArgumentException("Field '" + name + "' of " + type + " must be " + fieldType.getSimpleName());
+    }
+}
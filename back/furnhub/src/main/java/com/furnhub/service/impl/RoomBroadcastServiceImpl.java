@@ -0,0 +1,159 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.RoomMoveDto;
+import com.furnhub.dto.RoomMovesDto;
+import com.furnhub.entity.RoomChange;
+import com.furnhub.service.RoomBroadcastService;
+import com.furnhub.service.RoomChangeService;
+import com.furnhub.service.RoomChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 구독자에게 변경을 묶어서 전송한다.
+ * 커밋된 변경은 flush 주기마다 방별로 한 번만 getChangesSince를 조회해 delta로 보내고,
+ * 드래그 미리보기는 요소별 마지막 위치만 남겨 주기당 한 메시지로 보낸다.
+ * 구독 직후에는 스냅샷을 받은 뒤 /changes?since= 로 공백을 메우면 된다.
+ */
+@Service
+public class RoomBroadcastServiceImpl implements RoomBroadcastService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomBroadcastServiceImpl.class);
+
+    private static final String ROOM_TOPIC = "/topic/rooms/";
+    // 한 주기에 방 하나에서 받는 미리보기 요소 수 상한
+    private static final int MAX_MOVES_PER_FLUSH = 1000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomChangeService roomChangeService;
+
+    // 방별 아직 보내지 않은 변경의 시작점 (since 값)
+    private final Map<Long, Long> pendingChanges = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, RoomMoveDto>> pendingMoves = new ConcurrentHashMap<>();
+    // sessionId -> subscriptionId -> roomId
+    private final Map<String, Map<String, Long>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> subscriberCounts = new ConcurrentHashMap<>();
+
+    public RoomBroadcastServiceImpl(SimpMessagingTemplate messagingTemplate, RoomChangeService roomChangeService) {
+        this.messagingTemplate = messagingTemplate;
+        this.roomChangeService = roomChangeService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (hasSubscribers(event.roomId())) {
+            pendingChanges.merge(event.roomId(), event.revision() - 1, Math::min);
+        }
+    }
+
+    @Override
+    public void submitMove(Long roomId, String sessionId, RoomMoveDto move) {
+        if (move == null || move.id() == null || move.type() == null || move.type() == RoomChange.EntityType.CLOSED_AREA) {
+            return;
+        }
+        String key = move.type() + ":" + move.id();
+        RoomMoveDto stamped = move.withOrigin(sessionId);
+        pendingMoves.compute(roomId, (id, moves) -> {
+            if (moves == null) {
+                moves = new LinkedHashMap<>();
+            }
+            if (moves.size() < MAX_MOVES_PER_FLUSH || moves.containsKey(key)) {
+                moves.put(key, stamped);
+            }
+            return moves;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "${furnhub.realtime.flush-interval-ms:50}")
+    public void flush() {
+        for (Long roomId : pendingMoves.keySet()) {
+            Map<String, RoomMoveDto> moves = pendingMoves.remove(roomId);
+            if (moves != null && !moves.isEmpty()) {
+                messagingTemplate.convertAndSend(ROOM_TOPIC + roomId + "/moves",
+                        new RoomMovesDto(roomId, new ArrayList<>(moves.values())));
+            }
+        }
+        for (Long roomId : pendingChanges.keySet()) {
+            Long since = pendingChanges.remove(roomId);
+            if (since == null) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(ROOM_TOPIC + roomId, roomChangeService.getChangesSince(roomId, since));
+            } catch (IllegalArgumentException e) {
+                // 방이 삭제된 경우
+                log.debug("Skipping broadcast for room {}: {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean hasSubscribers(Long roomId) {
+        AtomicInteger count = subscriberCounts.get(roomId);
+        return count != null && count.get() > 0;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomTopic(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        subscriberCounts.computeIfAbsent(roomId, id -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions != null && accessor.getSubscriptionId() != null) {
+            release(sessionSubscriptions.remove(accessor.getSubscriptionId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Long roomId) {
+        if (roomId == null) {
+            return;
+        }
+        subscriberCounts.computeIfPresent(roomId, (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    // 커밋된 변경 토픽(/topic/rooms/{roomId})만 구독자로 셈
+    private static Long parseRoomTopic(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ROOM_TOPIC.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.furnhub.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.furnhub.dto.ChangeOperation;
+import com.furnhub.dto.ChangeSetRequest;
+import com.furnhub.dto.ChangeSetResult;
+import com.furnhub.dto.RoomChangesDto;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomChange;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomChangeRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.AutosaveService;
+import com.furnhub.service.FurnitureCollisionService;
+import com.furnhub.service.RoomChangeService;
+import com.furnhub.service.RoomChangedEvent;
+import com.furnhub.service.WallSpatialIndexService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class RoomChangeServiceImpl implements RoomChangeService {
+
+    // MODIFY로 바꿀 수 없는 필드
+    private static final List<String> PROTECTED_FIELDS = List.of("id", "room", "createdAt", "version");
+
+    private final RoomRepository roomRepository;
+    private final RoomChangeRepository changeRepository;
+    private final WallRepository wallRepository;
+    private final RoomFurnitureRepository furnitureRepository;
+    private final ClosedAreaRepository closedAreaRepository;
+    private final WallSpatialIndexService spatialIndexService;
+    private final FurnitureCollisionService collisionService;
+    private final AutosaveService autosaveService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RoomChangeServiceImpl(RoomRepository roomRepository,
+                                 RoomChangeRepository changeRepository,
+                                 WallRepository wallRepository,
+                                 RoomFurnitureRepository furnitureRepository,
+                                 ClosedAreaRepository closedAreaRepository,
+                                 WallSpatialIndexService spatialIndexService,
+                                 FurnitureCollisionService collisionService,
+                                 @Lazy AutosaveService autosaveService, // AutosaveService -> WallService -> RoomChangeService 순환
+                                 ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.roomRepository = roomRepository;
+        this.changeRepository = changeRepository;
+        this.wallRepository = wallRepository;
+        this.furnitureRepository = furnitureRepository;
+        this.closedAreaRepository = closedAreaRepository;
+        this.spatialIndexService = spatialIndexService;
+        this.collisionService = collisionService;
+        this.autosaveService = autosaveService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public long recordChange(Long roomId, RoomChange.EntityType entityType, Long entityId, RoomChange.Operation operation) {
+        long revision = nextRevision(roomId);
+        RoomChange change = new RoomChange(roomId, entityType, entityId, operation);
+        change.setRevision(revision);
+        changeRepository.save(change);
+        eventPublisher.publishEvent(new RoomChangedEvent(roomId, revision));
+        return revision;
+    }
+
+    // 방마다 revision은 한 번만 올리고 같은 revision으로 기록
+    @Override
+    @Transactional
+    public void recordChanges(List<RoomChange> changes) {
+        Map<Long, Long> revisions = new LinkedHashMap<>();
+        for (RoomChange change : changes) {
+            change.setRevision(revisions.computeIfAbsent(change.getRoomId(), this::nextRevision));
+        }
+        changeRepository.saveAll(changes);
+        revisions.forEach((roomId, revision) -> eventPublisher.publishEvent(new RoomChangedEvent(roomId, revision)));
+    }
+
+    // 변경 이력에 남기지 않는 변경(바닥재 등)도 ETag가 바뀌도록 revision만 올림
+    @Override
+    @Transactional
+    public long touchRoom(Long roomId) {
+        return nextRevision(roomId);
+    }
+
+    @Override
+    @Transactional
+    public ChangeSetResult applyChanges(Long roomId, ChangeSetRequest request) {
+        Room room = roomRepository.findById(roomId).orElseThrow(() ->
+            new IllegalArgumentException("Room not found with id: " + roomId));
+
+        // 자동 저장 대기분은 변경을 적용하기 전에 모두 버림 (행 잠금을 잡은 채로 진행 중인 flush를 기다리지 않도록)
+        for (ChangeOperation operation : request.operations()) {
+            if (operation.op() == null || operation.type() == null) {
+                throw new IllegalArgumentException("Change operation requires op and type");
+            }
+            if (operation.op() != RoomChange.Operation.ADD && operation.id() == null) {
+                throw new IllegalArgumentException(operation.op() + " operation requires id");
+            }
+            discardAutosave(operation);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<RoomChange> changes = new ArrayList<>();
+        for (ChangeOperation operation : request.operations()) {
+            Long id = switch (operation.type()) {
+                case WALL -> applyWallChange(room, operation);
+                case FURNITURE -> applyFurnitureChange(room, operation);
+                case CLOSED_AREA -> applyClosedAreaChange(room, operation);
+            };
+            ids.add(id);
+            changes.add(new RoomChange(roomId, operation.type(), id, operation.op()));
+        }
+
+        long revision = changes.isEmpty()
+                ? roomRepository.findRevisionById(roomId).orElse(0L)
+                : nextRevision(roomId);
+        changes.forEach(change -> change.setRevision(revision));
+        changeRepository.saveAll(changes);
+        changeRepository.flush();
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId, revision));
+        }
+        return new ChangeSetResult(revision, ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RoomChangesDto getChangesSince(Long roomId, long since) {
+        // revision을 먼저 읽어야 사이에 커밋된 변경을 놓치지 않음
+        Long revision = roomRepository.findRevisionById(roomId).orElseThrow(() ->
+            new IllegalArgumentException("Room not found with id: " + roomId));
+
+        Map<RoomChange.EntityType, Set<Long>> changed = new EnumMap<>(RoomChange.EntityType.class);
+        Map<RoomChange.EntityType, Set<Long>> deleted = new EnumMap<>(RoomChange.EntityType.class);
+        for (RoomChange.EntityType type : RoomChange.EntityType.values()) {
+            changed.put(type, new LinkedHashSet<>());
+            deleted.put(type, new LinkedHashSet<>());
+        }
+        for (RoomChange change : changeRepository.findByRoomIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(roomId, since)) {
+            if (change.getOperation() == RoomChange.Operation.DELETE) {
+                changed.get(change.getEntityType()).remove(change.getEntityId());
+                deleted.get(change.getEntityType()).add(change.getEntityId());
+            } else {
+                deleted.get(change.getEntityType()).remove(change.getEntityId());
+                changed.get(change.getEntityType()).add(change.getEntityId());
+            }
+        }
+
+        Set<Long> wallIds = changed.get(RoomChange.EntityType.WALL);
+        Set<Long> furnitureIds = changed.get(RoomChange.EntityType.FURNITURE);
+        Set<Long> closedAreaIds = changed.get(RoomChange.EntityType.CLOSED_AREA);
+        return new RoomChangesDto(
+                roomId,
+                revision,
+                wallIds.isEmpty() ? List.of() : wallRepository.findDtosByIdIn(wallIds),
+                furnitureIds.isEmpty() ? List.of() : furnitureRepository.findDtosByIdIn(furnitureIds),
+                closedAreaIds.isEmpty() ? List.of() : closedAreaRepository.findDtosByIdIn(closedAreaIds),
+                List.copyOf(deleted.get(RoomChange.EntityType.WALL)),
+                List.copyOf(deleted.get(RoomChange.EntityType.FURNITURE)),
+                List.copyOf(deleted.get(RoomChange.EntityType.CLOSED_AREA)));
+    }
+
+    private long nextRevision(Long roomId) {
+        if (roomRepository.incrementRevision(roomId) == 0) {
+            throw new IllegalArgumentException("Room not found with id: " + roomId);
+        }
+        return roomRepository.findRevisionById(roomId).orElseThrow();
+    }
+
+    // 바로 저장하는 수정/삭제보다 오래된 자동 저장 대기 상태가 나중에 덮어쓰지 않도록 버림
+    private void discardAutosave(ChangeOperation operation) {
+        if (operation.op() == RoomChange.Operation.ADD) {
+            return;
+        }
+        switch (operation.type()) {
+            case WALL -> autosaveService.discardWall(operation.id());
+            case FURNITURE -> autosaveService.discardFurniture(operation.id());
+            case CLOSED_AREA -> {
+            }
+        }
+    }
+
+    private Long applyWallChange(Room room, ChangeOperation operation) {
+        if (operation.op() == RoomChange.Operation.ADD) {
+            Wall wall = readValue(operation.data(), Wall.class);
+            wall.setId(null);
+            wall.setRoom(room);
+            Wall savedWall = wallRepository.save(wall);
+            spatialIndexService.onWallSaved(savedWall);
+            return savedWall.getId();
+        }
+        Wall wall = wallRepository.findById(operation.id())
+                .filter(existing -> existing.getRoom().getId().equals(room.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("Wall not found in room " + room.getId() + " with id: " + operation.id()));
+        if (operation.op() == RoomChange.Operation.DELETE) {
+            wallRepository.delete(wall);
+            spatialIndexService.onWallDeleted(room.getId(), wall.getId());
+        } else {
+            mergeFields(wall, operation.data());
+            spatialIndexService.onWallSaved(wall);
+        }
+        return wall.getId();
+    }
+
+    private Long applyFurnitureChange(Room room, ChangeOperation operation) {
+        if (operation.op() == RoomChange.Operation.ADD) {
+            RoomFurniture furniture = readValue(operation.data(), RoomFurniture.class);
+            furniture.setId(null);
+            furniture.setRoom(room);
+            RoomFurniture savedFurniture = furnitureRepository.save(furniture);
+            collisionService.onFurnitureSaved(savedFurniture);
+            return savedFurniture.getId();
+        }
+        RoomFurniture furniture = furnitureRepository.findById(operation.id())
+                .filter(existing -> existing.getRoom().getId().equals(room.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("Furniture not found in room " + room.getId() + " with id: " + operation.id()));
+        if (operation.op() == RoomChange.Operation.DELETE) {
+            furnitureRepository.delete(furniture);
+            collisionService.onFurnitureDeleted(room.getId(), furniture.getId());
+        } else {
+            mergeFields(furniture, operation.data());
+            collisionService.onFurnitureSaved(furniture);
+        }
+        return furniture.getId();
+    }
+
+    private Long applyClosedAreaChange(Room room, ChangeOperation operation) {
+        if (operation.op() == RoomChange.Operation.ADD) {
+            ClosedArea closedArea = readValue(operation.data(), ClosedArea.class);
+            closedArea.setId(null);
+            closedArea.setRoom(room);
+            return closedAreaRepository.save(closedArea).getId();
+        }
+        ClosedArea closedArea = closedAreaRepository.findById(operation.id())
+                .filter(existing -> existing.getRoom().getId().equals(room.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("ClosedArea not found in room " + room.getId() + " with id: " + operation.id()));
+        if (operation.op() == RoomChange.Operation.DELETE) {
+            closedAreaRepository.delete(closedArea);
+        } else {
+            mergeFields(closedArea, operation.data());
+        }
+        return closedArea.getId();
+    }
+
+    private <T> T readValue(JsonNode data, Class<T> type) {
+        if (data == null || !data.isObject()) {
+            throw new IllegalArgumentException("ADD operation requires data for " + type.getSimpleName());
+        }
+        try {
+            return objectMapper.treeToValue(data, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " data: " + e.getOriginalMessage());
+        }
+    }
+
+    // 요청에 포함된 필드만 기존 엔티티에 덮어씀
+    private void mergeFields(Object target, JsonNode data) {
+        if (data == null || !data.isObject()) {
+            throw new IllegalArgumentException("MODIFY operation requires data");
+        }
+        ObjectNode fields = ((ObjectNode) data).deepCopy();
+        fields.remove(PROTECTED_FIELDS);
+        try {
+            objectMapper.readerForUpdating(target).readValue(fields);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid change data: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.furnhub.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.entity.Room;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomFloorRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.RoomExportService;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 목록 전체를 List로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 JSON으로 씀.
+ * 스트림은 트랜잭션 안에서만 읽을 수 있으므로 쓰기 전체를 읽기 전용 트랜잭션 하나로 감쌈.
+ */
+@Service
+public class RoomExportServiceImpl implements RoomExportService {
+
+    private final RoomRepository roomRepository;
+    private final WallRepository wallRepository;
+    private final RoomFurnitureRepository furnitureRepository;
+    private final ClosedAreaRepository closedAreaRepository;
+    private final RoomFloorRepository floorRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RoomExportServiceImpl(RoomRepository roomRepository,
+                                 WallRepository wallRepository,
+                                 RoomFurnitureRepository furnitureRepository,
+                                 ClosedAreaRepository closedAreaRepository,
+                                 RoomFloorRepository floorRepository,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.roomRepository = roomRepository;
+        this.wallRepository = wallRepository;
+        this.furnitureRepository = furnitureRepository;
+        this.closedAreaRepository = closedAreaRepository;
+        this.floorRepository = floorRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void writeRooms(OutputStream out) throws IOException {
+        write(out, generator -> {
+            try (Stream<Room> rooms = roomRepository.streamAllOrderById()) {
+                generator.writeStartArray();
+                Iterator<Room> iterator = rooms.iterator();
+                while (iterator.hasNext()) {
+                    Room room = iterator.next();
+                    generator.writeObject(room);
+                    entityManager.detach(room);
+                }
+                generator.writeEndArray();
+            }
+        });
+    }
+
+    // 스냅샷(/snapshot)과 같은 모양이지만 요소 수와 관계없이 메모리 사용량이 일정함
+    @Override
+    public void writeRoom(Long roomId, OutputStream out) throws IOException {
+        write(out, generator -> {
+            Room room = roomRepository.findById(roomId).orElseThrow(() ->
+                new IllegalArgumentException("Room not found with id: " + roomId));
+            generator.writeStartObject();
+            generator.writeObjectField("room", room);
+            generator.writeFieldName("walls");
+            writeArray(generator, () -> wallRepository.streamDtosByRoomId(roomId));
+            generator.writeFieldName("furniture");
+            writeArray(generator, () -> furnitureRepository.streamDtosByRoomId(roomId));
+            generator.writeFieldName("closedAreas");
+            writeArray(generator, () -> closedAreaRepository.streamDtosByRoomId(roomId));
+            generator.writeFieldName("floors");
+            writeArray(generator, () -> floorRepository.streamDtosByRoomId(roomId));
+            generator.writeEndObject();
+        });
+    }
+
+    @Override
+    public void writeWalls(Long roomId, OutputStream out) throws IOException {
+        write(out, generator -> writeArray(generator, () -> wallRepository.streamDtosByRoomId(roomId)));
+    }
+
+    @Override
+    public void writeFurniture(Long roomId, OutputStream out) throws IOException {
+        write(out, generator -> writeArray(generator, () -> furnitureRepository.streamDtosByRoomId(roomId)));
+    }
+
+    @Override
+    public void writeClosedAreas(Long roomId, OutputStream out) throws IOException {
+        write(out, generator -> writeArray(generator, () -> closedAreaRepository.streamDtosByRoomId(roomId)));
+    }
+
+    @Override
+    public void writeFloors(Long roomId, OutputStream out) throws IOException {
+        write(out, generator -> writeArray(generator, () -> floorRepository.streamDtosByRoomId(roomId)));
+    }
+
+    private void write(OutputStream out, JsonWriter writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    writer.write(generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private <T> void writeArray(JsonGenerator generator, Supplier<Stream<T>> rows) throws IOException {
+        try (Stream<T> stream = rows.get()) {
+            generator.writeStartArray();
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -1,9 +1,15 @@
 package com.furnhub.service.impl;
 
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomFloorDto;
 import com.furnhub.entity.RoomFloor;
 import com.furnhub.repository.RoomFloorRepository;
+import com.furnhub.service.RoomChangeService;
 import com.furnhub.service.RoomFloorService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,14 +17,20 @@ import java.util.List;
 public class RoomFloorServiceImpl implements RoomFloorService {
 
     private final RoomFloorRepository floorRepository;
+    private final RoomChangeService roomChangeService;
 
-    public RoomFloorServiceImpl(RoomFloorRepository floorRepository) {
+    public RoomFloorServiceImpl(RoomFloorRepository floorRepository, RoomChangeService roomChangeService) {
         this.floorRepository = floorRepository;
+        this.roomChangeService = roomChangeService;
     }
 
+    // 바닥재는 변경 이력 대상은 아니지만 방 ETag가 바뀌도록 revision은 올림
     @Override
+    @Transactional
     public RoomFloor createRoomFloor(RoomFloor roomFloor) {
-        return floorRepository.save(roomFloor);
+        RoomFloor saved = floorRepository.save(roomFloor);
+        roomChangeService.touchRoom(saved.getRoom().getId());
+        return saved;
     }
 
     @Override
@@ -33,14 +45,28 @@ public class RoomFloorServiceImpl implements RoomFloorService {
     }
 
     @Override
+    public KeysetPage<RoomFloorDto> getRoomFloorsPageByRoomId(Long roomId, String after, int size) {
+        long afterId = after == null ? 0L : KeysetCursor.decode(after, "id").id();
+        List<RoomFloorDto> fetched = floorRepository.findDtosByRoomIdAfter(roomId, afterId, Limit.of(size + 1));
+        return KeysetPage.of(fetched, size, item -> new KeysetCursor("id", null, item.id()));
+    }
+
+    @Override
+    @Transactional
     public RoomFloor updateRoomFloor(Long id, RoomFloor updatedRoomFloor) {
         RoomFloor existingRoomFloor = getRoomFloorById(id);
         existingRoomFloor.setFloorAsset(updatedRoomFloor.getFloorAsset());
-        return floorRepository.save(existingRoomFloor);
+        RoomFloor saved = floorRepository.save(existingRoomFloor);
+        roomChangeService.touchRoom(saved.getRoom().getId());
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteRoomFloor(Long id) {
-        floorRepository.deleteById(id);
+        floorRepository.findById(id).ifPresent(roomFloor -> {
+            floorRepository.delete(roomFloor);
+            roomChangeService.touchRoom(roomFloor.getRoom().getId());
+        });
     }
 }
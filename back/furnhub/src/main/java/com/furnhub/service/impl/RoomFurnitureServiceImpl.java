@@ -1,24 +1,63 @@
 package com.furnhub.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.Versioned;
+import com.furnhub.entity.RoomChange;
 import com.furnhub.entity.RoomFurniture;
 import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.service.FurnitureCollisionService;
+import com.furnhub.service.RoomChangeService;
 import com.furnhub.service.RoomFurnitureService;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class RoomFurnitureServiceImpl implements RoomFurnitureService {
 
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+            "assetName", String.class, "positionX", Double.class, "positionY", Double.class,
+            "rotation", Double.class, "scaleX", Double.class, "scaleY", Double.class);
+    // 충돌 인덱스에 반영해야 하는 필드 (footprint는 에셋과 무관하게 기본 크기 * scale)
+    private static final Set<String> GEOMETRY_FIELDS = Set.of("positionX", "positionY", "rotation", "scaleX", "scaleY");
+
     private final RoomFurnitureRepository furnitureRepository;
+    private final RoomChangeService roomChangeService;
+    private final FurnitureCollisionService collisionService;
+    private final EntityManager entityManager;
 
-    public RoomFurnitureServiceImpl(RoomFurnitureRepository furnitureRepository) {
+    public RoomFurnitureServiceImpl(RoomFurnitureRepository furnitureRepository,
+                                    RoomChangeService roomChangeService,
+                                    FurnitureCollisionService collisionService,
+                                    EntityManager entityManager) {
         this.furnitureRepository = furnitureRepository;
+        this.roomChangeService = roomChangeService;
+        this.collisionService = collisionService;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public RoomFurniture createFurniture(RoomFurniture furniture) {
-        return furnitureRepository.save(furniture);
+        RoomFurniture savedFurniture = furnitureRepository.save(furniture);
+        roomChangeService.recordChange(savedFurniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, savedFurniture.getId(), RoomChange.Operation.ADD);
+        collisionService.onFurnitureSaved(savedFurniture);
+        return savedFurniture;
     }
 
     @Override
@@ -33,19 +72,137 @@ public class RoomFurnitureServiceImpl implements RoomFurnitureService {
     }
 
     @Override
-    public RoomFurniture updateFurniture(Long id, RoomFurniture updatedFurniture) {
+    public KeysetPage<RoomFurnitureDto> getFurniturePageByRoomId(Long roomId, String after, int size) {
+        long afterId = after == null ? 0L : KeysetCursor.decode(after, "id").id();
+        List<RoomFurnitureDto> fetched = furnitureRepository.findDtosByRoomIdAfter(roomId, afterId, Limit.of(size + 1));
+        return KeysetPage.of(fetched, size, item -> new KeysetCursor("id", null, item.id()));
+    }
+
+    @Override
+    @Transactional
+    public RoomFurniture updateFurniture(Long id, RoomFurniture updatedFurniture, Long expectedVersion) {
         RoomFurniture existingFurniture = getFurnitureById(id);
-        existingFurniture.setAssetName(updatedFurniture.getAssetName());
-        existingFurniture.setPositionX(updatedFurniture.getPositionX());
-        existingFurniture.setPositionY(updatedFurniture.getPositionY());
-        existingFurniture.setRotation(updatedFurniture.getRotation());
-        existingFurniture.setScaleX(updatedFurniture.getScaleX());
-        existingFurniture.setScaleY(updatedFurniture.getScaleY());
-        return furnitureRepository.save(existingFurniture);
+        if (expectedVersion != null && existingFurniture.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(RoomFurniture.class, id);
+        }
+        copyFurniture(existingFurniture, updatedFurniture);
+        RoomFurniture savedFurniture = furnitureRepository.save(existingFurniture);
+        roomChangeService.recordChange(savedFurniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, id, RoomChange.Operation.MODIFY);
+        collisionService.onFurnitureSaved(savedFurniture);
+        return savedFurniture;
     }
 
     @Override
+    @Transactional
+    public Versioned<RoomFurnitureDto> patchFurniture(Long id, JsonNode patch, Long expectedVersion) {
+        MergePatch fields = MergePatch.read(patch, "Furniture", PATCHABLE_FIELDS, Set.of("rotation"));
+        if (expectedVersion == null) {
+            RoomFurniture furniture = getFurnitureById(id);
+            fields.applyTo(furniture);
+            furnitureRepository.saveAndFlush(furniture);
+            roomChangeService.recordChange(furniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, id, RoomChange.Operation.MODIFY);
+            collisionService.onFurnitureSaved(furniture);
+            return new Versioned<>(RoomFurnitureDto.from(furniture), furniture.getVersion());
+        }
+
+        if (fields.updateIfVersion(entityManager, RoomFurniture.class, id, expectedVersion) == 0) {
+            if (!furnitureRepository.existsById(id)) {
+                throw new IllegalArgumentException("Furniture not found with id: " + id);
+            }
+            throw new ObjectOptimisticLockingFailureException(RoomFurniture.class, id);
+        }
+        // 변경 이력(방 revision)과 인덱스에는 방 id와 전체 값이 필요하므로 DTO로 한 번 읽음
+        RoomFurnitureDto furniture = furnitureRepository.findDtosByIdIn(List.of(id)).get(0);
+        roomChangeService.recordChange(furniture.roomId(), RoomChange.EntityType.FURNITURE, id, RoomChange.Operation.MODIFY);
+        if (fields.touches(GEOMETRY_FIELDS)) {
+            collisionService.onFurnitureSaved(furniture);
+        }
+        return new Versioned<>(furniture, expectedVersion + 1);
+    }
+
+    @Override
+    @Transactional
     public void deleteFurniture(Long id) {
-        furnitureRepository.deleteById(id);
+        furnitureRepository.findById(id).ifPresent(furniture -> {
+            furnitureRepository.delete(furniture);
+            roomChangeService.recordChange(furniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, id, RoomChange.Operation.DELETE);
+            collisionService.onFurnitureDeleted(furniture.getRoom().getId(), id);
+        });
+    }
+
+    // insert/update는 flush 시점에 JDBC 배치로 묶여서 실행됨
+    @Override
+    @Transactional
+    public BatchResult applyBatch(BatchRequest<RoomFurniture> request) {
+        List<RoomChange> changes = new ArrayList<>();
+        List<Long> createdIds = new ArrayList<>();
+        for (RoomFurniture furniture : request.create()) {
+            if (furniture.getRoom() == null || furniture.getRoom().getId() == null) {
+                throw new IllegalArgumentException("Furniture room is required");
+            }
+            furniture.setId(null);
+            Long id = furnitureRepository.save(furniture).getId();
+            createdIds.add(id);
+            changes.add(new RoomChange(furniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, id, RoomChange.Operation.ADD));
+            collisionService.onFurnitureSaved(furniture);
+        }
+
+        // 수정 항목도 방을 함께 보내야 하고, 다른 방의 요소는 수정하지 않음. 값이 그대로인 항목은 건너뜀
+        int updated = 0;
+        if (!request.update().isEmpty()) {
+            List<Long> ids = request.update().stream().map(RoomFurniture::getId).toList();
+            Map<Long, RoomFurniture> existingFurniture = furnitureRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(RoomFurniture::getId, Function.identity()));
+            for (RoomFurniture updatedFurniture : request.update()) {
+                if (updatedFurniture.getRoom() == null || updatedFurniture.getRoom().getId() == null) {
+                    throw new IllegalArgumentException("Furniture room is required");
+                }
+                Long roomId = updatedFurniture.getRoom().getId();
+                RoomFurniture existing = existingFurniture.get(updatedFurniture.getId());
+                if (existing == null || !existing.getRoom().getId().equals(roomId)) {
+                    throw new IllegalArgumentException("Furniture not found in room " + roomId + " with id: " + updatedFurniture.getId());
+                }
+                if (sameFurniture(existing, updatedFurniture)) {
+                    continue;
+                }
+                copyFurniture(existing, updatedFurniture);
+                collisionService.onFurnitureSaved(existing);
+                changes.add(new RoomChange(roomId, RoomChange.EntityType.FURNITURE, existing.getId(), RoomChange.Operation.MODIFY));
+                updated++;
+            }
+        }
+
+        int deleted = 0;
+        if (!request.delete().isEmpty()) {
+            List<RoomFurniture> furnitureList = furnitureRepository.findAllById(request.delete());
+            furnitureRepository.deleteAllByIdInBatch(furnitureList.stream().map(RoomFurniture::getId).toList());
+            for (RoomFurniture furniture : furnitureList) {
+                changes.add(new RoomChange(furniture.getRoom().getId(), RoomChange.EntityType.FURNITURE, furniture.getId(), RoomChange.Operation.DELETE));
+                collisionService.onFurnitureDeleted(furniture.getRoom().getId(), furniture.getId());
+            }
+            deleted = furnitureList.size();
+        }
+
+        roomChangeService.recordChanges(changes);
+        furnitureRepository.flush();
+        return new BatchResult(createdIds, updated, deleted);
+    }
+
+    private void copyFurniture(RoomFurniture target, RoomFurniture source) {
+        target.setAssetName(source.getAssetName());
+        target.setPositionX(source.getPositionX());
+        target.setPositionY(source.getPositionY());
+        target.setRotation(source.getRotation());
+        target.setScaleX(source.getScaleX());
+        target.setScaleY(source.getScaleY());
+    }
+
+    private static boolean sameFurniture(RoomFurniture a, RoomFurniture b) {
+        return Objects.equals(a.getAssetName(), b.getAssetName())
+                && Objects.equals(a.getPositionX(), b.getPositionX())
+                && Objects.equals(a.getPositionY(), b.getPositionY())
+                && Objects.equals(a.getRotation(), b.getRotation())
+                && Objects.equals(a.getScaleX(), b.getScaleX())
+                && Objects.equals(a.getScaleY(), b.getScaleY());
     }
 }
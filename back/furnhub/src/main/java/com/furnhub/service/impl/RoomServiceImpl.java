@@ -1,19 +1,69 @@
 package com.furnhub.service.impl;
 
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.RoomVersionDto;
 import com.furnhub.entity.Room;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomFloorRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
 import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.AutosaveService;
+import com.furnhub.service.ClosedAreaDetectionService;
+import com.furnhub.service.FurnitureCollisionService;
 import com.furnhub.service.RoomService;
+import com.furnhub.service.WallSpatialIndexService;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
 public class RoomServiceImpl implements RoomService {
 
     private final RoomRepository roomRepository;
+    private final WallRepository wallRepository;
+    private final RoomFurnitureRepository furnitureRepository;
+    private final ClosedAreaRepository closedAreaRepository;
+    private final RoomFloorRepository floorRepository;
+    private final WallSpatialIndexService spatialIndexService;
+    private final ClosedAreaDetectionService closedAreaDetectionService;
+    private final FurnitureCollisionService collisionService;
+    private final AutosaveService autosaveService;
+    // 복사용 id 예약. Hibernate의 시퀀스 테이블 갱신처럼 별도 트랜잭션으로 바로 커밋해서 잠금을 오래 잡지 않음
+    // (예약 후 복사가 롤백되면 그 구간은 비워 둠)
+    private final TransactionTemplate idReservation;
 
-    public RoomServiceImpl(RoomRepository roomRepository) {
+    public RoomServiceImpl(RoomRepository roomRepository,
+                           WallRepository wallRepository,
+                           RoomFurnitureRepository furnitureRepository,
+                           ClosedAreaRepository closedAreaRepository,
+                           RoomFloorRepository floorRepository,
+                           WallSpatialIndexService spatialIndexService,
+                           ClosedAreaDetectionService closedAreaDetectionService,
+                           FurnitureCollisionService collisionService,
+                           AutosaveService autosaveService,
+                           PlatformTransactionManager transactionManager) {
         this.roomRepository = roomRepository;
+        this.wallRepository = wallRepository;
+        this.furnitureRepository = furnitureRepository;
+        this.closedAreaRepository = closedAreaRepository;
+        this.floorRepository = floorRepository;
+        this.spatialIndexService = spatialIndexService;
+        this.closedAreaDetectionService = closedAreaDetectionService;
+        this.collisionService = collisionService;
+        this.autosaveService = autosaveService;
+        this.idReservation = new TransactionTemplate(transactionManager);
+        this.idReservation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
@@ -32,15 +82,121 @@ public class RoomServiceImpl implements RoomService {
         return roomRepository.findAll();
     }
 
+    // sort: id(기본, 오름차순), name(이름순), updatedAt(최근 수정순)
     @Override
-    public Room updateRoom(Long id, Room updatedRoom) {
+    public KeysetPage<Room> getRoomsPage(String sort, String after, int size) {
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor cursor = after == null ? null : KeysetCursor.decode(after, sort);
+        List<Room> fetched = switch (sort) {
+            case "id" -> roomRepository.findByIdGreaterThanOrderById(cursor == null ? 0L : cursor.id(), limit);
+            case "name" -> cursor == null
+                    ? roomRepository.findAllByOrderByNameAscIdAsc(limit)
+                    : roomRepository.findPageByName(cursor.value(), cursor.id(), limit);
+            case "updatedAt" -> cursor == null
+                    ? roomRepository.findAllByOrderByUpdatedAtDescIdDesc(limit)
+                    : roomRepository.findPageByUpdatedAt(parseCursorTime(cursor), cursor.id(), limit);
+            default -> throw new IllegalArgumentException("Unsupported sort: " + sort);
+        };
+        return KeysetPage.of(fetched, size, room -> new KeysetCursor(sort, switch (sort) {
+            case "name" -> room.getName();
+            case "updatedAt" -> room.getUpdatedAt().toString();
+            default -> null;
+        }, room.getId()));
+    }
+
+    @Override
+    public Room updateRoom(Long id, Room updatedRoom, Long expectedVersion) {
         Room existingRoom = getRoomById(id);
+        if (expectedVersion != null && existingRoom.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Room.class, id);
+        }
         existingRoom.setName(updatedRoom.getName());
         return roomRepository.save(existingRoom);
     }
 
+    // 요소 수와 관계없이 테이블마다 INSERT ... SELECT 한 번. 복사본은 새 방이므로 변경 이력 없이 revision 0에서 시작
+    @Override
+    @Transactional
+    public Room copyRoom(Long id, String name, boolean template) {
+        autosaveService.flushRoom(id);
+        Room source = getRoomById(id);
+
+        Room copy = new Room();
+        copy.setName(name == null || name.isBlank() ? source.getName() : name);
+        copy.setTemplate(template);
+        copy = roomRepository.save(copy);
+
+        // 벽/가구는 행 수만큼 id 구간을 한 번에 예약하고 INSERT ... SELECT 한 번으로 복사 (요소 수와 상관없이 쿼리 수 일정)
+        LocalDateTime now = LocalDateTime.now();
+        int walls = (int) wallRepository.countByRoomId(id);
+        if (walls > 0) {
+            long firstId = idReservation.execute(status -> {
+                long first = wallRepository.lockIdSequence();
+                wallRepository.advanceIdSequence(walls);
+                return first;
+            });
+            checkCopied("Walls", id, walls, wallRepository.copyToRoom(id, copy.getId(), firstId, now));
+        }
+        int furniture = (int) furnitureRepository.countByRoomId(id);
+        if (furniture > 0) {
+            long firstId = idReservation.execute(status -> {
+                long first = furnitureRepository.lockIdSequence();
+                furnitureRepository.advanceIdSequence(furniture);
+                return first;
+            });
+            checkCopied("Furniture", id, furniture, furnitureRepository.copyToRoom(id, copy.getId(), firstId, now));
+        }
+        closedAreaRepository.copyToRoom(id, copy.getId(), now);
+        floorRepository.copyToRoom(id, copy.getId(), now);
+        return copy;
+    }
+
+    // 센 뒤에 원본 방에 요소가 추가되면 예약 구간을 넘는 id를 쓰게 되므로 복사 전체를 롤백
+    private static void checkCopied(String type, Long roomId, int reserved, int copied) {
+        if (copied != reserved) {
+            throw new IllegalStateException(type + " of room " + roomId + " changed while copying");
+        }
+    }
+
+    @Override
+    public List<Room> getTemplates() {
+        return roomRepository.findByTemplateTrueOrderByNameAscIdAsc();
+    }
+
     @Override
     public void deleteRoom(Long id) {
         roomRepository.deleteById(id);
+        spatialIndexService.evictRoom(id);
+        closedAreaDetectionService.evictRoom(id);
+        collisionService.evictRoom(id);
+    }
+
+    // 방 + 벽 + 가구 + 닫힌 공간 + 바닥재를 쿼리 5번으로 조회
+    @Override
+    @Transactional(readOnly = true)
+    public RoomSnapshotDto getRoomSnapshot(Long id) {
+        Room room = getRoomById(id);
+        return new RoomSnapshotDto(
+                room,
+                wallRepository.findDtosByRoomId(id),
+                furnitureRepository.findDtosByRoomId(id),
+                closedAreaRepository.findDtosByRoomId(id),
+                floorRepository.findDtosByRoomId(id));
+    }
+
+    // 방 단위 조회는 모두 여기서 ETag를 만들기 때문에, 먼저 자동 저장 대기분을 저장해 방금 보낸 수정이 반영되게 함
+    @Override
+    public RoomVersionDto getRoomVersion(Long id) {
+        autosaveService.flushRoom(id);
+        return roomRepository.findVersionById(id).orElseThrow(() ->
+            new IllegalArgumentException("Room not found with id: " + id));
+    }
+
+    private static LocalDateTime parseCursorTime(KeysetCursor cursor) {
+        try {
+            return LocalDateTime.parse(cursor.value());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor.encode());
+        }
     }
 }
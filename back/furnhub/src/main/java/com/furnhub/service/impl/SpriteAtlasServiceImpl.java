@@ -0,0 +1,100 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.SpriteAtlasDto;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.image.EncodedImage;
+import com.furnhub.image.SpriteAtlas;
+import com.furnhub.repository.AssetFurnitureRepository;
+import com.furnhub.service.AssetUrlService;
+import com.furnhub.service.SpriteAtlasService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 카테고리별 아틀라스는 처음 요청될 때 만들고, 에셋이 추가되면 기존 아틀라스에 이어 붙임
+@Service
+public class SpriteAtlasServiceImpl implements SpriteAtlasService {
+
+    private final AssetFurnitureRepository assetFurnitureRepository;
+    private final AssetImageLoader imageLoader;
+    private final int maxWidth;
+    private final int padding;
+
+    private final Map<Long, SpriteAtlas> atlases = new ConcurrentHashMap<>();
+
+    public SpriteAtlasServiceImpl(AssetFurnitureRepository assetFurnitureRepository,
+                                  AssetImageLoader imageLoader,
+                                  @Value("${furnhub.atlas.max-width:2048}") int maxWidth,
+                                  @Value("${furnhub.atlas.padding:2}") int padding) {
+        this.assetFurnitureRepository = assetFurnitureRepository;
+        this.imageLoader = imageLoader;
+        this.maxWidth = maxWidth;
+        this.padding = padding;
+    }
+
+    @Override
+    public SpriteAtlasDto getAtlas(Long categoryId) {
+        SpriteAtlas atlas = atlasFor(categoryId);
+        String version = atlas.getVersion();
+        return new SpriteAtlasDto(
+                categoryId,
+                "/api/furniture-categories/" + categoryId + "/atlas.png?v=" + version,
+                version,
+                atlas.getWidth(),
+                atlas.getHeight(),
+                atlas.getFrames());
+    }
+
+    @Override
+    public EncodedImage getAtlasImage(Long categoryId) {
+        return atlasFor(categoryId).getImage();
+    }
+
+    @Override
+    public String getAtlasVersion(Long categoryId) {
+        return atlasFor(categoryId).getVersion();
+    }
+
+    // 아직 만들어지지 않은 카테고리는 다음 요청 때 전체 생성되므로 건드리지 않음
+    @Override
+    public void onAssetCreated(AssetFurniture asset) {
+        if (asset.getCategory() == null || asset.getCategory().getId() == null) {
+            return;
+        }
+        atlases.computeIfPresent(asset.getCategory().getId(), (id, atlas) -> atlas.add(asset.getId(), loadSprites(asset)));
+    }
+
+    @Override
+    public void evictCategory(Long categoryId) {
+        atlases.remove(categoryId);
+    }
+
+    private SpriteAtlas atlasFor(Long categoryId) {
+        return atlases.computeIfAbsent(categoryId, this::build);
+    }
+
+    private SpriteAtlas build(Long categoryId) {
+        Map<Long, Map<String, BufferedImage>> sprites = new LinkedHashMap<>();
+        for (AssetFurniture asset : assetFurnitureRepository.findByCategoryIdOrderById(categoryId)) {
+            sprites.put(asset.getId(), loadSprites(asset));
+        }
+        return SpriteAtlas.build(sprites, maxWidth, padding);
+    }
+
+    // 없는 방향 이미지는 건너뜀
+    private Map<String, BufferedImage> loadSprites(AssetFurniture asset) {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        String folder = AssetUrlServiceImpl.normalize(asset.getFolderName());
+        for (String view : AssetUrlService.SPRITE_VIEWS) {
+            BufferedImage image = imageLoader.read(folder + "/" + view + ".png");
+            if (image != null) {
+                sprites.put(view, image);
+            }
+        }
+        return sprites;
+    }
+}
@@ -0,0 +1,155 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.config.CacheConfig;
+import com.furnhub.entity.AssetFloor;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.image.EncodedImage;
+import com.furnhub.image.Mipmaps;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.service.AssetFurnitureService;
+import com.furnhub.service.AssetUrlService;
+import com.furnhub.service.TextureVariantService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Callable;
+
+// 원본(level 0)과 축소본(level 1~3)을 모두 textureVariants 캐시에 PNG로 보관.
+// 각 단계는 캐시된 바로 앞 단계를 절반으로 줄여 만들고, width 요청에 쓰는 원본 너비는 따로 캐시
+@Service
+public class TextureVariantServiceImpl implements TextureVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(TextureVariantServiceImpl.class);
+
+    private final AssetImageLoader imageLoader;
+    private final AssetFloorService assetFloorService;
+    private final AssetFurnitureService assetFurnitureService;
+    private final Cache cache;
+    private final boolean prewarmOnStartup;
+
+    public TextureVariantServiceImpl(AssetImageLoader imageLoader,
+                                     AssetFloorService assetFloorService,
+                                     AssetFurnitureService assetFurnitureService,
+                                     CacheManager cacheManager,
+                                     @Value("${furnhub.textures.prewarm:false}") boolean prewarmOnStartup) {
+        this.imageLoader = imageLoader;
+        this.assetFloorService = assetFloorService;
+        this.assetFurnitureService = assetFurnitureService;
+        this.cache = cacheManager.getCache(CacheConfig.TEXTURE_VARIANTS);
+        this.prewarmOnStartup = prewarmOnStartup;
+    }
+
+    @Override
+    public EncodedImage getVariant(String path, int level) {
+        String relativePath = AssetUrlServiceImpl.normalize(path);
+        if (level < 0 || level > Mipmaps.MAX_LEVEL) {
+            throw new IllegalArgumentException("Mipmap level must be between 0 and " + Mipmaps.MAX_LEVEL + ": " + level);
+        }
+        String key = relativePath + "@" + level;
+        EncodedImage cached = cache.get(key, EncodedImage.class);
+        if (cached != null) {
+            return cached;
+        }
+        if (level == 0) {
+            return load(key, () -> {
+                BufferedImage source = imageLoader.read(relativePath);
+                if (source == null) {
+                    throw new IllegalArgumentException("Texture not found: " + path);
+                }
+                return EncodedImage.png(source);
+            });
+        }
+        // 캐시 로더 안에서 다시 캐시를 부르지 않도록 앞 단계는 먼저 가져옴
+        EncodedImage previous = getVariant(relativePath, level - 1);
+        return load(key, () -> EncodedImage.png(Mipmaps.half(previous.decode())));
+    }
+
+    @Override
+    public EncodedImage getVariantForWidth(String path, int width) {
+        String relativePath = AssetUrlServiceImpl.normalize(path);
+        int sourceWidth = load(relativePath + "@width", () -> {
+            Integer readWidth = imageLoader.readWidth(relativePath);
+            if (readWidth == null) {
+                throw new IllegalArgumentException("Texture not found: " + path);
+            }
+            return readWidth;
+        });
+        return getVariant(relativePath, Mipmaps.levelForWidth(sourceWidth, width));
+    }
+
+    @Override
+    public EncodedImage getFloorTexture(Long assetFloorId, Integer level, Integer width) {
+        AssetFloor floor = assetFloorService.getAssetFloorById(assetFloorId);
+        return select(floor.getTexturePath(), level, width);
+    }
+
+    @Override
+    public EncodedImage getFurnitureSprite(Long assetFurnitureId, String view, Integer level, Integer width) {
+        if (!AssetUrlService.SPRITE_VIEWS.contains(view)) {
+            throw new IllegalArgumentException("Unknown sprite view: " + view);
+        }
+        AssetFurniture asset = assetFurnitureService.getAssetFurnitureById(assetFurnitureId);
+        return select(AssetUrlServiceImpl.normalize(asset.getFolderName()) + "/" + view + ".png", level, width);
+    }
+
+    // 모든 바닥 텍스처와 가구 스프라이트의 전 단계를 미리 생성
+    @Override
+    public void prewarm() {
+        int count = 0;
+        for (AssetFloor floor : assetFloorService.getAllAssetFloors()) {
+            count += prewarm(floor.getTexturePath());
+        }
+        for (AssetFurniture asset : assetFurnitureService.getAllAssetFurnitures()) {
+            String folder = AssetUrlServiceImpl.normalize(asset.getFolderName());
+            for (String view : AssetUrlService.SPRITE_VIEWS) {
+                count += prewarm(folder + "/" + view + ".png");
+            }
+        }
+        log.info("Prewarmed {} texture variants", count);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarmOnStartup() {
+        if (prewarmOnStartup) {
+            prewarm();
+        }
+    }
+
+    private int prewarm(String path) {
+        try {
+            for (int level = 0; level <= Mipmaps.MAX_LEVEL; level++) {
+                getVariant(path, level);
+            }
+            return Mipmaps.MAX_LEVEL + 1;
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping texture {}: {}", path, e.getMessage());
+            return 0;
+        }
+    }
+
+    private <T> T load(String key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof IllegalArgumentException notFound) {
+                throw notFound;
+            }
+            throw e;
+        }
+    }
+
+    // width가 있으면 그 너비에 맞는 단계, 없으면 level (기본 원본)
+    private EncodedImage select(String path, Integer level, Integer width) {
+        if (width != null) {
+            return getVariantForWidth(path, width);
+        }
+        return getVariant(path, level == null ? 0 : level);
+    }
+}
@@ -1,24 +1,63 @@
 package com.furnhub.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.BatchResult;
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.dto.KeysetPage;
+import com.furnhub.dto.Versioned;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.RoomChange;
 import com.furnhub.entity.Wall;
 import com.furnhub.repository.WallRepository;
+import com.furnhub.service.RoomChangeService;
 import com.furnhub.service.WallService;
+import com.furnhub.service.WallSpatialIndexService;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class WallServiceImpl implements WallService {
 
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+            "startX", Double.class, "startY", Double.class, "endX", Double.class, "endY", Double.class,
+            "thickness", Double.class, "color", String.class);
+    // 공간 인덱스(스냅/충돌)에 반영해야 하는 필드
+    private static final Set<String> GEOMETRY_FIELDS = Set.of("startX", "startY", "endX", "endY", "thickness");
+
     private final WallRepository wallRepository;
+    private final RoomChangeService roomChangeService;
+    private final WallSpatialIndexService spatialIndexService;
+    private final EntityManager entityManager;
 
-    public WallServiceImpl(WallRepository wallRepository) {
+    public WallServiceImpl(WallRepository wallRepository,
+                           RoomChangeService roomChangeService,
+                           WallSpatialIndexService spatialIndexService,
+                           EntityManager entityManager) {
         this.wallRepository = wallRepository;
+        this.roomChangeService = roomChangeService;
+        this.spatialIndexService = spatialIndexService;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Wall createWall(Wall wall) {
-        return wallRepository.save(wall);
+        Wall savedWall = wallRepository.save(wall);
+        roomChangeService.recordChange(savedWall.getRoom().getId(), RoomChange.EntityType.WALL, savedWall.getId(), RoomChange.Operation.ADD);
+        spatialIndexService.onWallSaved(savedWall);
+        return savedWall;
     }
 
     @Override
@@ -33,19 +72,138 @@ public class WallServiceImpl implements WallService {
     }
 
     @Override
-    public Wall updateWall(Long id, Wall updatedWall) {
+    public KeysetPage<WallDto> getWallsPageByRoomId(Long roomId, String after, int size) {
+        long afterId = after == null ? 0L : KeysetCursor.decode(after, "id").id();
+        List<WallDto> fetched = wallRepository.findDtosByRoomIdAfter(roomId, afterId, Limit.of(size + 1));
+        return KeysetPage.of(fetched, size, item -> new KeysetCursor("id", null, item.id()));
+    }
+
+    @Override
+    @Transactional
+    public Wall updateWall(Long id, Wall updatedWall, Long expectedVersion) {
         Wall existingWall = getWallById(id);
-        existingWall.setStartX(updatedWall.getStartX());
-        existingWall.setStartY(updatedWall.getStartY());
-        existingWall.setEndX(updatedWall.getEndX());
-        existingWall.setEndY(updatedWall.getEndY());
-        existingWall.setThickness(updatedWall.getThickness());
-        existingWall.setColor(updatedWall.getColor());
-        return wallRepository.save(existingWall);
+        if (expectedVersion != null && existingWall.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Wall.class, id);
+        }
+        copyWall(existingWall, updatedWall);
+        Wall savedWall = wallRepository.save(existingWall);
+        roomChangeService.recordChange(savedWall.getRoom().getId(), RoomChange.EntityType.WALL, id, RoomChange.Operation.MODIFY);
+        spatialIndexService.onWallSaved(savedWall);
+        return savedWall;
     }
 
+    // If-Match 버전이 없으면 읽어서 바뀐 필드만 UPDATE, 있으면 읽지 않고 버전 조건부 UPDATE
     @Override
+    @Transactional
+    public Versioned<WallDto> patchWall(Long id, JsonNode patch, Long expectedVersion) {
+        MergePatch fields = MergePatch.read(patch, "Wall", PATCHABLE_FIELDS, Set.of());
+        if (expectedVersion == null) {
+            Wall wall = getWallById(id);
+            fields.applyTo(wall);
+            wallRepository.saveAndFlush(wall);
+            roomChangeService.recordChange(wall.getRoom().getId(), RoomChange.EntityType.WALL, id, RoomChange.Operation.MODIFY);
+            spatialIndexService.onWallSaved(wall);
+            return new Versioned<>(WallDto.from(wall), wall.getVersion());
+        }
+
+        if (fields.updateIfVersion(entityManager, Wall.class, id, expectedVersion) == 0) {
+            if (!wallRepository.existsById(id)) {
+                throw new IllegalArgumentException("Wall not found with id: " + id);
+            }
+            throw new ObjectOptimisticLockingFailureException(Wall.class, id);
+        }
+        // 변경 이력(방 revision)과 인덱스에는 방 id와 전체 값이 필요하므로 DTO로 한 번 읽음
+        WallDto wall = wallRepository.findDtosByIdIn(List.of(id)).get(0);
+        roomChangeService.recordChange(wall.roomId(), RoomChange.EntityType.WALL, id, RoomChange.Operation.MODIFY);
+        if (fields.touches(GEOMETRY_FIELDS)) {
+            spatialIndexService.onWallSaved(wall);
+        }
+        return new Versioned<>(wall, expectedVersion + 1);
+    }
+
+    @Override
+    @Transactional
     public void deleteWall(Long id) {
-        wallRepository.deleteById(id);
+        wallRepository.findById(id).ifPresent(wall -> {
+            wallRepository.delete(wall);
+            roomChangeService.recordChange(wall.getRoom().getId(), RoomChange.EntityType.WALL, id, RoomChange.Operation.DELETE);
+            spatialIndexService.onWallDeleted(wall.getRoom().getId(), id);
+        });
+    }
+
+    // insert/update는 flush 시점에 JDBC 배치로 묶여서 실행됨
+    @Override
+    @Transactional
+    public BatchResult applyBatch(BatchRequest<Wall> request) {
+        List<RoomChange> changes = new ArrayList<>();
+        List<Long> createdIds = new ArrayList<>();
+        for (Wall wall : request.create()) {
+            if (wall.getRoom() == null || wall.getRoom().getId() == null) {
+                throw new IllegalArgumentException("Wall room is required");
+            }
+            wall.setId(null);
+            Long id = wallRepository.save(wall).getId();
+            createdIds.add(id);
+            changes.add(new RoomChange(wall.getRoom().getId(), RoomChange.EntityType.WALL, id, RoomChange.Operation.ADD));
+            spatialIndexService.onWallSaved(wall);
+        }
+
+        // 수정 항목도 방을 함께 보내야 하고, 다른 방의 요소는 수정하지 않음. 값이 그대로인 항목은 건너뜀
+        int updated = 0;
+        if (!request.update().isEmpty()) {
+            List<Long> ids = request.update().stream().map(Wall::getId).toList();
+            Map<Long, Wall> existingWalls = wallRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Wall::getId, Function.identity()));
+            for (Wall updatedWall : request.update()) {
+                if (updatedWall.getRoom() == null || updatedWall.getRoom().getId() == null) {
+                    throw new IllegalArgumentException("Wall room is required");
+                }
+                Long roomId = updatedWall.getRoom().getId();
+                Wall existing = existingWalls.get(updatedWall.getId());
+                if (existing == null || !existing.getRoom().getId().equals(roomId)) {
+                    throw new IllegalArgumentException("Wall not found in room " + roomId + " with id: " + updatedWall.getId());
+                }
+                if (sameWall(existing, updatedWall)) {
+                    continue;
+                }
+                copyWall(existing, updatedWall);
+                spatialIndexService.onWallSaved(existing);
+                changes.add(new RoomChange(roomId, RoomChange.EntityType.WALL, existing.getId(), RoomChange.Operation.MODIFY));
+                updated++;
+            }
+        }
+
+        int deleted = 0;
+        if (!request.delete().isEmpty()) {
+            List<Wall> walls = wallRepository.findAllById(request.delete());
+            wallRepository.deleteAllByIdInBatch(walls.stream().map(Wall::getId).toList());
+            for (Wall wall : walls) {
+                changes.add(new RoomChange(wall.getRoom().getId(), RoomChange.EntityType.WALL, wall.getId(), RoomChange.Operation.DELETE));
+                spatialIndexService.onWallDeleted(wall.getRoom().getId(), wall.getId());
+            }
+            deleted = walls.size();
+        }
+
+        roomChangeService.recordChanges(changes);
+        wallRepository.flush();
+        return new BatchResult(createdIds, updated, deleted);
+    }
+
+    private void copyWall(Wall target, Wall source) {
+        target.setStartX(source.getStartX());
+        target.setStartY(source.getStartY());
+        target.setEndX(source.getEndX());
+        target.setEndY(source.getEndY());
+        target.setThickness(source.getThickness());
+        target.setColor(source.getColor());
+    }
+
+    private static boolean sameWall(Wall a, Wall b) {
+        return Objects.equals(a.getStartX(), b.getStartX())
+                && Objects.equals(a.getStartY(), b.getStartY())
+                && Objects.equals(a.getEndX(), b.getEndX())
+                && Objects.equals(a.getEndY(), b.getEndY())
+                && Objects.equals(a.getThickness(), b.getThickness())
+                && Objects.equals(a.getColor(), b.getColor());
     }
 }
@@ -0,0 +1,126 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Wall;
+import com.furnhub.geometry.NearestPoint;
+import com.furnhub.geometry.WallSegment;
+import com.furnhub.geometry.WallSpatialIndex;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.WallSpatialIndexService;
+import com.furnhub.service.WallsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.furnhub.service.impl.TransactionHooks.afterCommit;
+
+@Service
+public class WallSpatialIndexServiceImpl implements WallSpatialIndexService {
+
+    private final WallRepository wallRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final double cellSize;
+    private final Map<Long, WallSpatialIndex> indexes = new ConcurrentHashMap<>();
+    // 인덱스를 읽어 오는 사이에 그 방에 커밋된 변경을 감지하기 위한 방별 카운터.
+    // 방 id로 나눈 고정 크기 배열이라 방이 늘어도 커지지 않음 (다른 방과 칸이 겹치면 드물게 한 번 더 읽을 뿐)
+    private static final int COMMIT_STRIPES = 1024;
+    private final AtomicLongArray commits = new AtomicLongArray(COMMIT_STRIPES);
+
+    public WallSpatialIndexServiceImpl(WallRepository wallRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${furnhub.spatial-index.cell-size:100}") double cellSize) {
+        this.wallRepository = wallRepository;
+        this.eventPublisher = eventPublisher;
+        this.cellSize = cellSize;
+    }
+
+    // 처음 조회할 때 방의 벽으로 인덱스를 만들고 이후에는 변경분만 반영.
+    // DB 조회는 computeIfAbsent 밖에서 해서 맵 잠금을 잡은 채로 기다리지 않게 함 (동시에 만들어지면 먼저 넣은 쪽을 사용).
+    // 조회 중에 커밋된 변경은 아직 없는 인덱스에 반영되지 못하므로, 그 경우 캐시에서 빼고 다음 조회 때 다시 읽음
+    @Override
+    public WallSpatialIndex getIndex(Long roomId) {
+        WallSpatialIndex index = indexes.get(roomId);
+        if (index != null) {
+            return index;
+        }
+        long before = commits.get(stripe(roomId));
+        WallSpatialIndex loaded = WallSpatialIndex.of(
+                wallRepository.findDtosByRoomId(roomId).stream().map(WallSegment::of).toList(), cellSize);
+        WallSpatialIndex existing = indexes.putIfAbsent(roomId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (commits.get(stripe(roomId)) != before) {
+            indexes.remove(roomId, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public Optional<NearestPoint> nearestEndpoint(Long roomId, double x, double y, double radius, Long excludeId) {
+        return getIndex(roomId).nearestEndpoint(x, y, radius, excludeId);
+    }
+
+    @Override
+    public Optional<NearestPoint> nearestPointOnSegment(Long roomId, double x, double y, double radius, Long excludeId) {
+        return getIndex(roomId).nearestPointOnSegment(x, y, radius, excludeId);
+    }
+
+    @Override
+    public Optional<NearestPoint> hitTest(Long roomId, double x, double y, double tolerance) {
+        return getIndex(roomId).hitTest(x, y, tolerance);
+    }
+
+    @Override
+    public List<WallSegment> segmentsInBox(Long roomId, double minX, double minY, double maxX, double maxY) {
+        return getIndex(roomId).segmentsInBox(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public void onWallSaved(Wall wall) {
+        putAfterCommit(wall.getRoom().getId(), WallSegment.of(wall));
+    }
+
+    @Override
+    public void onWallSaved(WallDto wall) {
+        putAfterCommit(wall.roomId(), WallSegment.of(wall));
+    }
+
+    @Override
+    public void onWallDeleted(Long roomId, Long wallId) {
+        afterCommit(() -> {
+            commits.incrementAndGet(stripe(roomId));
+            indexes.computeIfPresent(roomId, (id, index) -> {
+                index.remove(wallId);
+                return index;
+            });
+            eventPublisher.publishEvent(new WallsChangedEvent(roomId));
+        });
+    }
+
+    @Override
+    public void evictRoom(Long roomId) {
+        afterCommit(() -> indexes.remove(roomId));
+    }
+
+    private void putAfterCommit(Long roomId, WallSegment segment) {
+        afterCommit(() -> {
+            commits.incrementAndGet(stripe(roomId));
+            indexes.computeIfPresent(roomId, (id, index) -> {
+                index.put(segment);
+                return index;
+            });
+            eventPublisher.publishEvent(new WallsChangedEvent(roomId));
+        });
+    }
+
+    private static int stripe(Long roomId) {
+        return Long.hashCode(roomId) & (COMMIT_STRIPES - 1);
+    }
+}
@@ -0,0 +1,246 @@
+package com.furnhub.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.dto.ClosedAreaDto;
+import com.furnhub.dto.RoomFloorDto;
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.RoomSnapshotDto;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FloorPlanCodecTests {
+
+	private static final String[] COLORS = {"#000000", "#8b4513", "#cccccc"};
+	private static final String[] ASSETS = {"asset_chair_1", "asset_table_1", "asset_sofa_1", "asset_bed_1"};
+
+	// 서버와 같은 설정 (LocalDateTime을 ISO 문자열로)
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Test
+	void snapshotRoundTripMatchesJson() throws IOException {
+		RoomSnapshotDto snapshot = snapshot(500, 200);
+
+		RoomSnapshotDto decoded = FloorPlanCodec.readSnapshot(new ByteArrayInputStream(encode(snapshot)));
+
+		assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(snapshot)),
+				objectMapper.readTree(objectMapper.writeValueAsBytes(decoded)));
+	}
+
+	@Test
+	void emptySnapshotRoundTrip() throws IOException {
+		RoomSnapshotDto snapshot = snapshot(0, 0);
+
+		RoomSnapshotDto decoded = FloorPlanCodec.readSnapshot(new ByteArrayInputStream(encode(snapshot)));
+
+		assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(snapshot)),
+				objectMapper.readTree(objectMapper.writeValueAsBytes(decoded)));
+	}
+
+	@Test
+	void binarySnapshotIsMuchSmallerThanJson() throws IOException {
+		RoomSnapshotDto snapshot = snapshot(5000, 2000);
+
+		int jsonSize = objectMapper.writeValueAsBytes(snapshot).length;
+		int binarySize = encode(snapshot).length;
+
+		assertTrue(binarySize * 5 < jsonSize, "json=" + jsonSize + " binary=" + binarySize);
+	}
+
+	@Test
+	void wallBatchRoundTrip() throws IOException {
+		BatchRequest<Wall> batch = new BatchRequest<>(walls(null, 30), walls(1000L, 20), List.of(7L, 3L, 12L));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FloorPlanCodec.writeWallBatch(batch, out);
+		BatchRequest<Wall> decoded = FloorPlanCodec.readWallBatch(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(json(wallViews(batch.create())), json(wallViews(decoded.create())));
+		assertEquals(json(wallViews(batch.update())), json(wallViews(decoded.update())));
+		assertEquals(batch.delete(), decoded.delete());
+	}
+
+	@Test
+	void furnitureBatchRoundTrip() throws IOException {
+		BatchRequest<RoomFurniture> batch = new BatchRequest<>(furniture(null, 30), furniture(2000L, 20), List.of(5L));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FloorPlanCodec.writeFurnitureBatch(batch, out);
+		BatchRequest<RoomFurniture> decoded = FloorPlanCodec.readFurnitureBatch(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(json(furnitureViews(batch.create())), json(furnitureViews(decoded.create())));
+		assertEquals(json(furnitureViews(batch.update())), json(furnitureViews(decoded.update())));
+		assertEquals(batch.delete(), decoded.delete());
+	}
+
+	@Test
+	void rejectsPayloadOfAnotherKind() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FloorPlanCodec.writeWallBatch(new BatchRequest<>(walls(null, 3), null, null), out);
+
+		assertThrows(IOException.class, () -> FloorPlanCodec.readSnapshot(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test
+	void rejectsOversizedCountsWithoutAllocating() {
+		// 문자열표 개수와 벽 개수를 각각 Integer.MAX_VALUE로 보낸 몇 바이트짜리 본문
+		byte[] hugeStringTable = bytes('F', 'H', 'P', FloorPlanCodec.VERSION, FloorPlanCodec.KIND_WALL_BATCH,
+				0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+		byte[] hugeWallCount = bytes('F', 'H', 'P', FloorPlanCodec.VERSION, FloorPlanCodec.KIND_WALL_BATCH,
+				0x00, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+
+		IOException tableError = assertThrows(IOException.class,
+				() -> FloorPlanCodec.readWallBatch(new ByteArrayInputStream(hugeStringTable)));
+		assertTrue(tableError.getMessage().contains("too large"), tableError.getMessage());
+		assertThrows(IOException.class, () -> FloorPlanCodec.readWallBatch(new ByteArrayInputStream(hugeWallCount)));
+	}
+
+	@Test
+	void rejectsTruncatedPayloads() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FloorPlanCodec.writeFurnitureBatch(new BatchRequest<>(furniture(null, 20), furniture(100L, 5), List.of(1L)), out);
+		byte[] full = out.toByteArray();
+
+		for (int length : new int[]{4, 6, full.length / 2, full.length - 1}) {
+			byte[] truncated = Arrays.copyOf(full, length);
+			assertThrows(IOException.class, () -> FloorPlanCodec.readFurnitureBatch(new ByteArrayInputStream(truncated)),
+					"length " + length);
+		}
+		// 개수는 상한 안이지만 본문이 그만큼 없는 경우
+		byte[] missingElements = bytes('F', 'H', 'P', FloorPlanCodec.VERSION, FloorPlanCodec.KIND_FURNITURE_BATCH,
+				0x00, 0x80, 0x80, 0x40);
+		assertThrows(IOException.class, () -> FloorPlanCodec.readFurnitureBatch(new ByteArrayInputStream(missingElements)));
+	}
+
+	private static byte[] bytes(int... values) {
+		byte[] result = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = (byte) values[i];
+		}
+		return result;
+	}
+
+	private byte[] encode(RoomSnapshotDto snapshot) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FloorPlanCodec.writeSnapshot(snapshot, out);
+		return out.toByteArray();
+	}
+
+	private String json(Object value) throws IOException {
+		return objectMapper.writeValueAsString(value);
+	}
+
+	// 좌표는 에디터 격자처럼 0.25 단위로 두어 float32로 정확히 표현되게 함
+	private static RoomSnapshotDto snapshot(int wallCount, int furnitureCount) {
+		Random random = new Random(42);
+		LocalDateTime base = LocalDateTime.of(2026, 10, 17, 9, 30).plusNanos(123_456_000);
+		Room room = new Room();
+		room.setId(3L);
+		room.setName("거실");
+		room.setRevision(57L);
+		room.setCreatedAt(base);
+		room.setUpdatedAt(base.plusHours(2).truncatedTo(ChronoUnit.MICROS));
+
+		List<WallDto> walls = new ArrayList<>();
+		for (int i = 0; i < wallCount; i++) {
+			walls.add(new WallDto(100L + i * 2, 3L, coordinate(random), coordinate(random), coordinate(random),
+					coordinate(random), 10.0, COLORS[i % COLORS.length], base.plus(i * 1_234L, ChronoUnit.MICROS)));
+		}
+		List<RoomFurnitureDto> furniture = new ArrayList<>();
+		for (int i = 0; i < furnitureCount; i++) {
+			Double rotation = i % 7 == 0 ? null : (double) (i % 24) * 15;
+			furniture.add(new RoomFurnitureDto(5000L + i, 3L, ASSETS[i % ASSETS.length], coordinate(random),
+					coordinate(random), rotation, 1.0, 1.5, base.plusSeconds(i)));
+		}
+		List<ClosedAreaDto> closedAreas = List.of(
+				new ClosedAreaDto(1L, 3L, 123456.789012, 250.5, 300.25, base),
+				new ClosedAreaDto(4L, 3L, 98.1, -40.0, 12.75, base.plusMinutes(1)));
+		List<RoomFloorDto> floors = List.of(
+				new RoomFloorDto(8L, 3L, 1L, "원목", "floor/wood.png", base),
+				new RoomFloorDto(9L, 3L, null, null, null, base.plusMinutes(5)));
+		return new RoomSnapshotDto(room, walls, furniture, closedAreas, floors);
+	}
+
+	private static List<Wall> walls(Long firstId, int count) {
+		Random random = new Random(count);
+		Room room = new Room();
+		room.setId(3L);
+		List<Wall> walls = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Wall wall = new Wall();
+			wall.setId(firstId == null ? null : firstId + i);
+			wall.setRoom(room);
+			wall.setStartX(coordinate(random));
+			wall.setStartY(coordinate(random));
+			wall.setEndX(coordinate(random));
+			wall.setEndY(coordinate(random));
+			wall.setThickness(i % 2 == 0 ? 10.0 : 12.5);
+			wall.setColor(COLORS[i % COLORS.length]);
+			walls.add(wall);
+		}
+		return walls;
+	}
+
+	private static List<RoomFurniture> furniture(Long firstId, int count) {
+		Random random = new Random(count);
+		Room room = new Room();
+		room.setId(3L);
+		List<RoomFurniture> furniture = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			RoomFurniture item = new RoomFurniture();
+			item.setId(firstId == null ? null : firstId + i);
+			item.setRoom(room);
+			item.setAssetName(ASSETS[i % ASSETS.length]);
+			item.setPositionX(coordinate(random));
+			item.setPositionY(coordinate(random));
+			item.setRotation(i % 5 == 0 ? null : 90.0);
+			item.setScaleX(1.0);
+			item.setScaleY(0.75);
+			furniture.add(item);
+		}
+		return furniture;
+	}
+
+	// Room의 createdAt 등은 바이너리 일괄 요청에 포함되지 않으므로 비교에서 제외
+	private static List<WallDto> wallViews(List<Wall> walls) {
+		return walls.stream()
+				.map(wall -> new WallDto(wall.getId(), wall.getRoom().getId(), wall.getStartX(), wall.getStartY(),
+						wall.getEndX(), wall.getEndY(), wall.getThickness(), wall.getColor(), null))
+				.toList();
+	}
+
+	private static List<RoomFurnitureDto> furnitureViews(List<RoomFurniture> furniture) {
+		return furniture.stream()
+				.map(item -> new RoomFurnitureDto(item.getId(), item.getRoom().getId(), item.getAssetName(),
+						item.getPositionX(), item.getPositionY(), item.getRotation(), item.getScaleX(),
+						item.getScaleY(), null))
+				.toList();
+	}
+
+	private static double coordinate(Random random) {
+		return (random.nextInt(40_000) - 20_000) / 4.0;
+	}
+}
@@ -0,0 +1,42 @@
+package com.furnhub.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BrokerSendGuardTests {
+
+	private final BrokerSendGuard guard = new BrokerSendGuard();
+
+	@Test
+	void rejectsClientSendToBrokerDestinations() {
+		assertThrows(MessageDeliveryException.class, () -> guard.preSend(message(StompCommand.SEND, "/topic/rooms/1"), null));
+		assertThrows(MessageDeliveryException.class, () -> guard.preSend(message(StompCommand.SEND, "/topic/rooms/1/moves"), null));
+		assertThrows(MessageDeliveryException.class, () -> guard.preSend(message(StompCommand.SEND, "/queue/changes"), null));
+		assertThrows(MessageDeliveryException.class, () -> guard.preSend(message(StompCommand.SEND, "/user/queue/changes"), null));
+	}
+
+	@Test
+	void allowsApplicationSendsAndSubscriptions() {
+		Message<byte[]> send = message(StompCommand.SEND, "/app/rooms/1/changes");
+		Message<byte[]> subscribe = message(StompCommand.SUBSCRIBE, "/topic/rooms/1");
+		Message<byte[]> lookalike = message(StompCommand.SEND, "/app/topic");
+
+		assertSame(send, guard.preSend(send, null));
+		assertSame(subscribe, guard.preSend(subscribe, null));
+		assertSame(lookalike, guard.preSend(lookalike, null));
+	}
+
+	private static Message<byte[]> message(StompCommand command, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setDestination(destination);
+		accessor.setSessionId("session-1");
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,155 @@
+package com.furnhub.controller;
+
+import com.furnhub.entity.Room;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.AutosaveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 드래그 자동 저장(PUT ?deferred=true)의 병합, 조회 시 flush, 실패 시 재시도/버림(최대 시도 횟수 포함) 검사
+// 주기 flush가 끼어들지 않도록 주기를 길게 잡고, 다른 테스트와 DB를 나눔
+@SpringBootTest(properties = {
+		"furnhub.autosave.flush-interval-ms=3600000",
+		"furnhub.autosave.max-attempts=3",
+		"spring.datasource.url=jdbc:h2:mem:autosave;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AutosaveTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private AutosaveService autosaveService;
+
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		autosaveService.flush();
+		room = new Room();
+		room.setName("autosave");
+		room = roomRepository.save(room);
+	}
+
+	@Test
+	void coalescesUpdatesToLastState() throws Exception {
+		Wall wall = saveWall(0);
+		for (int x = 1; x <= 5; x++) {
+			deferredPut(wall.getId(), x).andExpect(status().isAccepted());
+		}
+		assertEquals(1, autosaveService.getPendingCount());
+		assertEquals(0.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+
+		autosaveService.flush();
+
+		Wall saved = wallRepository.findById(wall.getId()).orElseThrow();
+		assertEquals(5.0, saved.getStartX());
+		assertEquals(wall.getVersion() + 1, saved.getVersion());
+		assertEquals(0, autosaveService.getPendingCount());
+	}
+
+	@Test
+	void roomVersionFlushesPendingUpdates() throws Exception {
+		Wall wall = saveWall(0);
+		long revision = roomRepository.findRevisionById(room.getId()).orElseThrow();
+
+		deferredPut(wall.getId(), 7).andExpect(status().isAccepted());
+
+		mockMvc.perform(get("/api/rooms/" + room.getId() + "/version"))
+				.andExpect(status().isOk());
+		assertEquals(0, autosaveService.getPendingCount());
+		assertEquals(7.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+		assertEquals(revision + 1, roomRepository.findRevisionById(room.getId()).orElseThrow());
+	}
+
+	@Test
+	void retriesOneByOneAndDropsDeletedElements() throws Exception {
+		Wall kept = saveWall(0);
+		Wall removed = saveWall(0);
+		deferredPut(kept.getId(), 3).andExpect(status().isAccepted());
+		deferredPut(removed.getId(), 4).andExpect(status().isAccepted());
+
+		// 자동 저장을 거치지 않고 지워서 배치 저장이 실패하게 함
+		wallRepository.deleteById(removed.getId());
+		autosaveService.flush();
+
+		assertEquals(0, autosaveService.getPendingCount());
+		assertEquals(3.0, wallRepository.findById(kept.getId()).orElseThrow().getStartX());
+	}
+
+	@Test
+	void dropsUpdateAfterMaxAttempts() throws Exception {
+		Wall wall = saveWall(0);
+		// startX가 빠진 상태는 NOT NULL 위반으로 계속 실패
+		mockMvc.perform(put("/api/walls/" + wall.getId())
+						.param("deferred", "true")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"startY\": 0, \"endX\": 100, \"endY\": 0, \"thickness\": 10, \"color\": \"#000000\"}"))
+				.andExpect(status().isAccepted());
+
+		autosaveService.flush();
+		autosaveService.flush();
+		assertEquals(1, autosaveService.getPendingCount());
+		autosaveService.flush();
+		assertEquals(0, autosaveService.getPendingCount());
+		assertEquals(0.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+	}
+
+	@Test
+	void changeSetDiscardsOlderPendingState() throws Exception {
+		Wall wall = saveWall(0);
+		deferredPut(wall.getId(), 9).andExpect(status().isAccepted());
+
+		mockMvc.perform(post("/api/rooms/" + room.getId() + "/changes")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"operations\": [{\"op\": \"MODIFY\", \"type\": \"WALL\", \"id\": " + wall.getId()
+								+ ", \"data\": {\"startX\": 2}}]}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.ids[0]").value(wall.getId()));
+		assertEquals(0, autosaveService.getPendingCount());
+
+		autosaveService.flush();
+		assertEquals(2.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+	}
+
+	private Wall saveWall(double startX) {
+		Wall wall = new Wall();
+		wall.setRoom(room);
+		wall.setStartX(startX);
+		wall.setStartY(0.0);
+		wall.setEndX(100.0);
+		wall.setEndY(0.0);
+		return wallRepository.save(wall);
+	}
+
+	private ResultActions deferredPut(Long id, double startX) throws Exception {
+		return mockMvc.perform(put("/api/walls/" + id)
+				.param("deferred", "true")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"startX\": " + startX + ", \"startY\": 0, \"endX\": 100, \"endY\": 0, \"thickness\": 10, \"color\": \"#000000\"}"));
+	}
+}
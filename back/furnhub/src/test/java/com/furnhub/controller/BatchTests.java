@@ -0,0 +1,147 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.BatchRequest;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.RoomFurnitureService;
+import com.furnhub.service.WallService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 배치 수정이 보낸 방의 요소만 바꾸는지, updated가 실제로 바뀐 개수인지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private RoomFurnitureRepository furnitureRepository;
+
+	@Autowired
+	private WallService wallService;
+
+	@Autowired
+	private RoomFurnitureService furnitureService;
+
+	private Room room;
+	private Room otherRoom;
+
+	@BeforeEach
+	void setUp() {
+		room = saveRoom("batch");
+		otherRoom = saveRoom("batch-other");
+	}
+
+	@Test
+	void updatedCountsOnlyChangedWalls() throws Exception {
+		Wall moved = saveWall(room, 0);
+		Wall unchanged = saveWall(room, 0);
+
+		mockMvc.perform(post("/api/walls/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"update\": [" + wallJson(moved.getId(), room, 5) + "," + wallJson(unchanged.getId(), room, 0) + "]}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.updated").value(1));
+
+		assertEquals(5.0, wallRepository.findById(moved.getId()).orElseThrow().getStartX());
+		assertEquals(unchanged.getVersion(), wallRepository.findById(unchanged.getId()).orElseThrow().getVersion());
+	}
+
+	@Test
+	void wallUpdateOutsideItsRoomIsRejected() {
+		Wall own = saveWall(room, 0);
+		Wall foreign = saveWall(otherRoom, 0);
+
+		assertThrows(IllegalArgumentException.class, () -> wallService.applyBatch(
+				new BatchRequest<>(null, List.of(wall(own.getId(), room, 3), wall(foreign.getId(), room, 3)), null)));
+		assertThrows(IllegalArgumentException.class, () -> wallService.applyBatch(
+				new BatchRequest<>(null, List.of(wall(own.getId(), null, 3)), null)));
+
+		// 배치 전체가 롤백되어 같은 방의 벽도 그대로
+		assertEquals(0.0, wallRepository.findById(own.getId()).orElseThrow().getStartX());
+		assertEquals(0.0, wallRepository.findById(foreign.getId()).orElseThrow().getStartX());
+	}
+
+	@Test
+	void furnitureUpdateOutsideItsRoomIsRejected() {
+		RoomFurniture foreign = saveFurniture(otherRoom);
+		RoomFurniture update = furniture(foreign.getId(), room, 40.0);
+		assertThrows(IllegalArgumentException.class, () -> furnitureService.applyBatch(
+				new BatchRequest<>(null, List.of(update), null)));
+		assertEquals(0.0, furnitureRepository.findById(foreign.getId()).orElseThrow().getPositionX());
+
+		assertEquals(1, furnitureService.applyBatch(new BatchRequest<>(null,
+				List.of(furniture(foreign.getId(), otherRoom, 40.0)), null)).updated());
+		assertEquals(0, furnitureService.applyBatch(new BatchRequest<>(null,
+				List.of(furniture(foreign.getId(), otherRoom, 40.0)), null)).updated());
+	}
+
+	private Room saveRoom(String name) {
+		Room saved = new Room();
+		saved.setName(name);
+		return roomRepository.save(saved);
+	}
+
+	private Wall saveWall(Room owner, double startX) {
+		return wallRepository.save(wall(null, owner, startX));
+	}
+
+	private RoomFurniture saveFurniture(Room owner) {
+		return furnitureRepository.save(furniture(null, owner, 0.0));
+	}
+
+	private static Wall wall(Long id, Room owner, double startX) {
+		Wall wall = new Wall();
+		wall.setId(id);
+		wall.setRoom(owner);
+		wall.setStartX(startX);
+		wall.setStartY(0.0);
+		wall.setEndX(100.0);
+		wall.setEndY(0.0);
+		wall.setThickness(10.0);
+		wall.setColor("#000000");
+		return wall;
+	}
+
+	private static RoomFurniture furniture(Long id, Room owner, double x) {
+		RoomFurniture furniture = new RoomFurniture();
+		furniture.setId(id);
+		furniture.setRoom(owner);
+		furniture.setAssetName("asset_chair_1");
+		furniture.setPositionX(x);
+		furniture.setPositionY(0.0);
+		return furniture;
+	}
+
+	private static String wallJson(Long id, Room owner, double startX) {
+		return "{\"id\": " + id + ", \"room\": {\"id\": " + owner.getId() + "}, \"startX\": " + startX
+				+ ", \"startY\": 0, \"endX\": 100, \"endY\": 0, \"thickness\": 10, \"color\": \"#000000\"}";
+	}
+}
@@ -0,0 +1,108 @@
+package com.furnhub.controller;
+
+import com.furnhub.config.CacheConfig;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.entity.FurnitureCategory;
+import com.furnhub.repository.FurnitureCategoryRepository;
+import com.furnhub.service.AssetFurnitureService;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 카탈로그 목록은 두 번째 조회부터 캐시에서 나오고, 쓰기 후에는 다시 DB에서 읽는지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private FurnitureCategoryRepository categoryRepository;
+
+	@Autowired
+	private AssetFurnitureService assetFurnitureService;
+
+	private Statistics statistics;
+	private FurnitureCategory category;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		category = new FurnitureCategory();
+		category.setName("cache-" + System.nanoTime());
+		category = categoryRepository.save(category);
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	void catalogListsAreServedFromCacheAfterFirstRead() throws Exception {
+		for (String url : new String[]{"/api/asset-furniture", "/api/furniture-categories", "/api/asset-floor"}) {
+			assertTrue(statements(url) > 0, url);
+			assertEquals(0, statements(url), url);
+		}
+
+		long hits = nativeCache(CacheConfig.ASSET_FURNITURE).stats().hitCount();
+		statements("/api/asset-furniture");
+		assertEquals(hits + 1, nativeCache(CacheConfig.ASSET_FURNITURE).stats().hitCount());
+	}
+
+	@Test
+	void writesEvictCachedCatalog() throws Exception {
+		statements("/api/asset-furniture");
+		assertEquals(0, statements("/api/asset-furniture"));
+
+		mockMvc.perform(post("/api/asset-furniture")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"cached-sofa\", \"folderName\": \"living/sofa\", \"category\": {\"id\": " + category.getId() + "}}"))
+				.andExpect(status().isOk());
+		assertEquals(1, statements("/api/asset-furniture"));
+		assertTrue(assetFurnitureService.getAllAssetFurnitures().stream()
+				.map(AssetFurniture::getName)
+				.anyMatch("cached-sofa"::equals));
+
+		// 카테고리 수정은 카테고리와 가구 에셋 캐시를 함께 비움
+		statements("/api/furniture-categories");
+		mockMvc.perform(put("/api/furniture-categories/" + category.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"" + category.getName() + "-renamed\"}"))
+				.andExpect(status().isOk());
+		assertEquals(1, statements("/api/furniture-categories"));
+		assertEquals(1, statements("/api/asset-furniture"));
+	}
+
+	private Cache<Object, Object> nativeCache(String name) {
+		return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+	}
+
+	private long statements(String url) throws Exception {
+		statistics.clear();
+		mockMvc.perform(get(url)).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,118 @@
+package com.furnhub.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.service.impl.ClosedAreaDetectionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 벽 저장/삭제 뒤 닫힌 공간이 자동으로 계산되고, 직접 만든 공간은 지워지지 않는지 검사
+// 주기 실행이 끼어들지 않도록 주기를 길게 잡고 직접 호출, 다른 테스트와 DB를 나눔
+@SpringBootTest(properties = {
+		"furnhub.closed-area.auto-detect=true",
+		"furnhub.closed-area.detect-interval-ms=3600000",
+		"spring.datasource.url=jdbc:h2:mem:detection;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClosedAreaDetectionTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private ClosedAreaRepository closedAreaRepository;
+
+	@Autowired
+	private ClosedAreaDetectionServiceImpl detectionService;
+
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		room = new Room();
+		room.setName("detection");
+		room = roomRepository.save(room);
+	}
+
+	@Test
+	void wallWritesUpdateDetectedAreas() throws Exception {
+		List<Long> ids = createSquare(0, 0, 100);
+		detectionService.detectPendingRooms();
+
+		List<ClosedArea> areas = closedAreaRepository.findByRoomId(room.getId());
+		assertEquals(1, areas.size());
+		assertTrue(areas.get(0).isDetected());
+		assertEquals(10000, areas.get(0).getArea(), 1e-6);
+
+		mockMvc.perform(delete("/api/walls/" + ids.get(0)))
+				.andExpect(status().isNoContent());
+		detectionService.detectPendingRooms();
+
+		assertTrue(closedAreaRepository.findByRoomId(room.getId()).isEmpty());
+	}
+
+	@Test
+	void handCreatedAreasAreKept() throws Exception {
+		mockMvc.perform(post("/api/closed-areas")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"room\": {\"id\": " + room.getId() + "}, \"area\": 42, \"centerX\": 900, \"centerY\": 900, \"detected\": true}"))
+				.andExpect(status().isOk());
+
+		createSquare(0, 0, 100);
+		detectionService.detectPendingRooms();
+
+		List<ClosedArea> areas = closedAreaRepository.findByRoomId(room.getId());
+		assertEquals(2, areas.size());
+		ClosedArea handCreated = areas.stream().filter(area -> area.getArea() == 42).findFirst().orElseThrow();
+		assertFalse(handCreated.isDetected());
+	}
+
+	private List<Long> createSquare(double x, double y, double size) throws Exception {
+		double[][] corners = {{x, y}, {x + size, y}, {x + size, y + size}, {x, y + size}};
+		StringBuilder create = new StringBuilder();
+		for (int i = 0; i < corners.length; i++) {
+			double[] from = corners[i];
+			double[] to = corners[(i + 1) % corners.length];
+			if (i > 0) {
+				create.append(',');
+			}
+			create.append("{\"room\": {\"id\": ").append(room.getId()).append("}, \"startX\": ").append(from[0])
+					.append(", \"startY\": ").append(from[1]).append(", \"endX\": ").append(to[0])
+					.append(", \"endY\": ").append(to[1]).append('}');
+		}
+		String body = mockMvc.perform(post("/api/walls/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"create\": [" + create + "]}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		List<Long> ids = new ArrayList<>();
+		objectMapper.readTree(body).get("createdIds").forEach(id -> ids.add(id.asLong()));
+		return ids;
+	}
+}
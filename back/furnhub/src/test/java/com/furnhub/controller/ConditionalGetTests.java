@@ -0,0 +1,134 @@
+package com.furnhub.controller;
+
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.entity.Room;
+import com.furnhub.repository.RoomRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 방/카탈로그 GET의 If-None-Match 처리: 바뀌지 않았으면 304, 바뀌면 새 ETag로 200
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		room = new Room();
+		room.setName("conditional");
+		room = roomRepository.save(room);
+	}
+
+	@Test
+	void roomListEtagCoversOnlyTheServedPage() throws Exception {
+		Room other = new Room();
+		other.setName("conditional-other");
+		other = roomRepository.save(other);
+		// 이 테스트의 방 하나만 담긴 페이지
+		String url = "/api/rooms?size=1&after=" + new KeysetCursor("id", null, room.getId() - 1).encode();
+
+		String etag = etag(url);
+		statistics.clear();
+		mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		// 304도 페이지 조회 한 번뿐, 테이블 전체 집계 없음
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		// 페이지 밖의 방이 바뀌어도 그대로
+		mockMvc.perform(put("/api/rooms/" + other.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"conditional-other-renamed\"}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(put("/api/rooms/" + room.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"conditional-renamed\"}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+		assertNotEquals(etag, etag(url));
+	}
+
+	@Test
+	void roomAndVersionAreNotModifiedUntilContentChanges() throws Exception {
+		for (String url : new String[]{"/api/rooms/" + room.getId(), "/api/rooms/" + room.getId() + "/version"}) {
+			String etag = etag(url);
+			mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isNotModified());
+		}
+
+		String roomEtag = etag("/api/rooms/" + room.getId());
+		mockMvc.perform(post("/api/walls/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"create\": [{\"room\": {\"id\": " + room.getId() + "}, \"startX\": 0, \"startY\": 0,"
+								+ " \"endX\": 100, \"endY\": 0, \"thickness\": 10, \"color\": \"#000000\"}]}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/rooms/" + room.getId()).header(HttpHeaders.IF_NONE_MATCH, roomEtag))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void catalogListsAreNotModifiedUntilWritten() throws Exception {
+		String floors = etag("/api/asset-floor");
+		String categories = etag("/api/furniture-categories");
+		String furniture = etag("/api/asset-furniture");
+		mockMvc.perform(get("/api/asset-floor").header(HttpHeaders.IF_NONE_MATCH, floors))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/furniture-categories").header(HttpHeaders.IF_NONE_MATCH, categories))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/asset-furniture").header(HttpHeaders.IF_NONE_MATCH, furniture))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(post("/api/asset-floor")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"conditional-floor\", \"texturePath\": \"floor.png\"}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/api/furniture-categories")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"conditional-category-" + room.getId() + "\"}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/asset-floor").header(HttpHeaders.IF_NONE_MATCH, floors))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/furniture-categories").header(HttpHeaders.IF_NONE_MATCH, categories))
+				.andExpect(status().isOk());
+	}
+
+	private String etag(String url) throws Exception {
+		return mockMvc.perform(get(url))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+}
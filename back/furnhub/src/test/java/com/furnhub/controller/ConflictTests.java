@@ -0,0 +1,137 @@
+package com.furnhub.controller;
+
+import com.furnhub.entity.Room;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 오래된 버전으로 수정하면 409와 함께 현재 상태를 돌려주는지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConflictTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Room room;
+	private Wall wall;
+
+	@BeforeEach
+	void setUp() {
+		room = new Room();
+		room.setName("conflict");
+		room = roomRepository.save(room);
+
+		wall = new Wall();
+		wall.setRoom(room);
+		wall.setStartX(0.0);
+		wall.setStartY(0.0);
+		wall.setEndX(100.0);
+		wall.setEndY(0.0);
+		wall = wallRepository.save(wall);
+	}
+
+	@Test
+	void stalePatchReturnsCurrentState() throws Exception {
+		patchStartX(wall.getVersion(), 10)
+				.andExpect(status().isOk());
+
+		patchStartX(wall.getVersion(), 20)
+				.andExpect(status().isConflict())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"v" + (wall.getVersion() + 1) + "\""))
+				.andExpect(jsonPath("$.type").value("Wall"))
+				.andExpect(jsonPath("$.currentVersion").value(wall.getVersion() + 1))
+				.andExpect(jsonPath("$.current.startX").value(10.0));
+
+		assertEquals(10.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+	}
+
+	@Test
+	void stalePutIsRejected() throws Exception {
+		String body = "{\"startX\": 1, \"startY\": 2, \"endX\": 3, \"endY\": 4, \"thickness\": 10, \"color\": \"#000000\"}";
+		mockMvc.perform(put("/api/walls/" + wall.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.header(HttpHeaders.IF_MATCH, "\"v" + (wall.getVersion() + 5) + "\"")
+						.content(body))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.current.startX").value(0.0));
+
+		mockMvc.perform(put("/api/walls/" + wall.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.header(HttpHeaders.IF_MATCH, "\"v" + wall.getVersion() + "\"")
+						.content(body))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"v" + (wall.getVersion() + 1) + "\""));
+	}
+
+	@Test
+	void roomVersionChangesWithContent() throws Exception {
+		String before = mockMvc.perform(get("/api/rooms/" + room.getId() + "/version"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		patchStartX(wall.getVersion(), 30).andExpect(status().isOk());
+
+		mockMvc.perform(get("/api/rooms/" + room.getId() + "/version").header(HttpHeaders.IF_NONE_MATCH, before))
+				.andExpect(status().isOk());
+	}
+
+	// 방 행 잠금은 커밋까지 유지되므로 revision UPDATE보다 앞선 요소 쓰기가 먼저 실행되어야 함
+	@Test
+	void revisionBumpFlushesPendingWritesFirst() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Wall managed = wallRepository.findById(wall.getId()).orElseThrow();
+			managed.setStartX(50.0);
+			long updatesBefore = statistics.getEntityUpdateCount();
+
+			roomRepository.incrementRevision(room.getId());
+
+			assertEquals(updatesBefore + 1, statistics.getEntityUpdateCount());
+		});
+		assertEquals(50.0, wallRepository.findById(wall.getId()).orElseThrow().getStartX());
+	}
+
+	private ResultActions patchStartX(long version, double startX) throws Exception {
+		return mockMvc.perform(patch("/api/walls/" + wall.getId())
+				.contentType("application/merge-patch+json")
+				.header(HttpHeaders.IF_MATCH, "\"v" + version + "\"")
+				.content("{\"startX\": " + startX + "}"));
+	}
+}
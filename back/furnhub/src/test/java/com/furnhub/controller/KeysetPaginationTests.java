@@ -0,0 +1,121 @@
+package com.furnhub.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.dto.KeysetCursor;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// X-Next-Cursor를 따라가면 빠짐없이, 겹치지 않게 끝까지 읽고 마지막 페이지에서는 헤더가 없는지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class KeysetPaginationTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private RoomService roomService;
+
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		room = saveRoom("keyset");
+	}
+
+	@Test
+	void wallPagesFollowCursorToLastPage() throws Exception {
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Wall wall = new Wall();
+			wall.setRoom(room);
+			wall.setStartX(0.0);
+			wall.setStartY(i * 10.0);
+			wall.setEndX(100.0);
+			wall.setEndY(i * 10.0);
+			expected.add(wallRepository.save(wall).getId());
+		}
+
+		List<Integer> pageSizes = new ArrayList<>();
+		List<Long> ids = readAll("/api/walls/room/" + room.getId() + "?size=2", null, pageSizes);
+
+		assertEquals(expected, ids);
+		assertEquals(List.of(2, 2, 1), pageSizes);
+	}
+
+	@Test
+	void roomsByNameBreakTiesById() throws Exception {
+		// 다른 테스트의 방보다 뒤에 오는 이름을 쓰고, 그 직전 위치의 커서에서 시작
+		String prefix = "zzzz-keyset-" + System.nanoTime() + "-";
+		Room a = saveRoom(prefix + "a");
+		Room b1 = saveRoom(prefix + "b");
+		Room b2 = saveRoom(prefix + "b");
+		Room c = saveRoom(prefix + "c");
+		String start = new KeysetCursor("name", prefix, 0).encode();
+
+		List<Integer> pageSizes = new ArrayList<>();
+		List<Long> ids = readAll("/api/rooms?sort=name&size=2", start, pageSizes);
+
+		assertEquals(List.of(a.getId(), b1.getId(), b2.getId(), c.getId()), ids);
+		assertEquals(List.of(2, 2), pageSizes);
+	}
+
+	@Test
+	void cursorFromAnotherSortIsRejected() {
+		String idCursor = new KeysetCursor("id", null, room.getId()).encode();
+		assertThrows(IllegalArgumentException.class, () -> roomService.getRoomsPage("name", idCursor, 10));
+		assertThrows(IllegalArgumentException.class, () -> roomService.getRoomsPage("id", "not-a-cursor", 10));
+	}
+
+	// 헤더가 없을 때까지 다음 페이지를 읽어 id를 순서대로 모음
+	private List<Long> readAll(String url, String after, List<Integer> pageSizes) throws Exception {
+		List<Long> ids = new ArrayList<>();
+		String cursor = after;
+		do {
+			MockHttpServletResponse response = mockMvc.perform(get(cursor == null ? url : url + "&after=" + cursor))
+					.andExpect(status().isOk())
+					.andReturn().getResponse();
+			JsonNode page = objectMapper.readTree(response.getContentAsString());
+			page.forEach(item -> ids.add(item.get("id").asLong()));
+			pageSizes.add(page.size());
+			cursor = response.getHeader(Pages.NEXT_CURSOR_HEADER);
+		} while (cursor != null);
+		return ids;
+	}
+
+	private Room saveRoom(String name) {
+		Room saved = new Room();
+		saved.setName(name);
+		return roomRepository.save(saved);
+	}
+}
@@ -0,0 +1,274 @@
+package com.furnhub.controller;
+
+import com.furnhub.entity.AssetFloor;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.FurnitureCategory;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFloor;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.AssetFloorRepository;
+import com.furnhub.repository.AssetFurnitureRepository;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.FurnitureCategoryRepository;
+import com.furnhub.repository.RoomFloorRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.support.SqlStatements;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청 하나가 실행하는 SQL 수가 요소 개수와 무관한지 검사 (N+1 회귀 방지)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountTests {
+
+	private static final int ELEMENTS = 5;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private AssetFloorService assetFloorService;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private RoomFurnitureRepository furnitureRepository;
+
+	@Autowired
+	private ClosedAreaRepository closedAreaRepository;
+
+	@Autowired
+	private RoomFloorRepository roomFloorRepository;
+
+	@Autowired
+	private AssetFloorRepository assetFloorRepository;
+
+	@Autowired
+	private FurnitureCategoryRepository categoryRepository;
+
+	@Autowired
+	private AssetFurnitureRepository assetFurnitureRepository;
+
+	private Statistics statistics;
+	private Room room;
+	private List<Wall> walls;
+	private List<RoomFurniture> furniture;
+	private List<ClosedArea> closedAreas;
+	private List<RoomFloor> roomFloors;
+	private List<AssetFurniture> assets;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		room = new Room();
+		room.setName("query-count");
+		room = roomRepository.save(room);
+
+		walls = new ArrayList<>();
+		furniture = new ArrayList<>();
+		closedAreas = new ArrayList<>();
+		roomFloors = new ArrayList<>();
+		assets = new ArrayList<>();
+		for (int i = 0; i < ELEMENTS; i++) {
+			Wall wall = new Wall();
+			wall.setRoom(room);
+			wall.setStartX(0.0);
+			wall.setStartY(i * 10.0);
+			wall.setEndX(100.0);
+			wall.setEndY(i * 10.0);
+			walls.add(wallRepository.save(wall));
+
+			RoomFurniture item = new RoomFurniture();
+			item.setRoom(room);
+			item.setAssetName("asset_chair_1");
+			item.setPositionX(i * 60.0);
+			item.setPositionY(0.0);
+			furniture.add(furnitureRepository.save(item));
+
+			ClosedArea closedArea = new ClosedArea();
+			closedArea.setRoom(room);
+			closedArea.setArea(100.0 + i);
+			closedAreas.add(closedAreaRepository.save(closedArea));
+
+			// 요소마다 다른 바닥재/카테고리를 써서 연관 엔티티별 추가 조회가 드러나게 함
+			AssetFloor floorAsset = new AssetFloor();
+			floorAsset.setName("floor-" + i);
+			floorAsset.setTexturePath("floor/wood.png");
+			floorAsset = assetFloorRepository.save(floorAsset);
+
+			RoomFloor roomFloor = new RoomFloor();
+			roomFloor.setRoom(room);
+			roomFloor.setFloorAsset(floorAsset);
+			roomFloors.add(roomFloorRepository.save(roomFloor));
+
+			FurnitureCategory category = new FurnitureCategory();
+			category.setName("category-" + room.getId() + "-" + i);
+			category = categoryRepository.save(category);
+
+			AssetFurniture asset = new AssetFurniture();
+			asset.setName("asset-" + i);
+			asset.setCategory(category);
+			asset.setFolderName("asset_chair_1");
+			assets.add(assetFurnitureRepository.save(asset));
+		}
+
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		// 바닥 목록/스냅샷의 ETag에 쓰이는 바닥재 카탈로그는 캐시된 상태에서 측정
+		assetFloorService.getAllAssetFloors();
+	}
+
+	@Test
+	void detailEndpointsLoadAssociationsInOneStatement() throws Exception {
+		assertEquals(1, statements("/api/walls/" + walls.get(0).getId()));
+		assertEquals(1, statements("/api/room-furniture/" + furniture.get(0).getId()));
+		assertEquals(1, statements("/api/closed-areas/" + closedAreas.get(0).getId()));
+		assertEquals(1, statements("/api/room-floor/" + roomFloors.get(0).getId()));
+	}
+
+	// 방 버전 조회 1 + 목록 조회 1
+	@Test
+	void roomListEndpointsDoNotDependOnElementCount() throws Exception {
+		assertEquals(2, statements("/api/walls/room/" + room.getId()));
+		assertEquals(2, statements("/api/room-furniture/room/" + room.getId()));
+		assertEquals(2, statements("/api/closed-areas/room/" + room.getId()));
+		assertEquals(2, statements("/api/room-floor/room/" + room.getId()));
+	}
+
+	// 방 버전 1 + 방 1 + 벽/가구/닫힌 공간/바닥 4. 요소를 더 넣어도 그대로
+	@Test
+	void snapshotUsesFixedNumberOfStatements() throws Exception {
+		String url = "/api/rooms/" + room.getId() + "/snapshot";
+		assertEquals(6, statements(url));
+
+		for (int i = 0; i < ELEMENTS; i++) {
+			Wall wall = new Wall();
+			wall.setRoom(room);
+			wall.setStartX(0.0);
+			wall.setStartY(100.0 + i * 10.0);
+			wall.setEndX(100.0);
+			wall.setEndY(100.0 + i * 10.0);
+			wallRepository.save(wall);
+
+			AssetFloor floorAsset = new AssetFloor();
+			floorAsset.setName("floor-extra-" + i);
+			floorAsset.setTexturePath("floor/wood.png");
+			RoomFloor roomFloor = new RoomFloor();
+			roomFloor.setRoom(room);
+			roomFloor.setFloorAsset(assetFloorRepository.save(floorAsset));
+			roomFloorRepository.save(roomFloor);
+		}
+
+		statistics.clear();
+		mockMvc.perform(get(url))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.walls.length()").value(ELEMENTS * 2))
+				.andExpect(jsonPath("$.floors.length()").value(ELEMENTS * 2))
+				.andExpect(jsonPath("$.furniture.length()").value(ELEMENTS))
+				.andExpect(jsonPath("$.closedAreas.length()").value(ELEMENTS));
+		assertEquals(6, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void furnitureCatalogLoadsCategoriesWithAssets() throws Exception {
+		assertEquals(1, statements("/api/asset-furniture"));
+		assertEquals(1, statements("/api/asset-furniture/" + assets.get(0).getId()));
+	}
+
+	// If-Match 버전이 있으면 엔티티를 읽지 않고 보낸 필드만 수정
+	@Test
+	void conditionalPatchUpdatesWithoutLoadingEntity() throws Exception {
+		Wall wall = walls.get(0);
+		statistics.clear();
+		mockMvc.perform(patch("/api/walls/" + wall.getId())
+						.contentType("application/merge-patch+json")
+						.header(HttpHeaders.IF_MATCH, "\"v" + wall.getVersion() + "\"")
+						.content("{\"startX\": 5}"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"v" + (wall.getVersion() + 1) + "\""));
+		assertEquals(0, statistics.getEntityStatistics(Wall.class.getName()).getLoadCount());
+
+		Wall patched = wallRepository.findById(wall.getId()).orElseThrow();
+		assertEquals(5.0, patched.getStartX());
+		assertEquals(100.0, patched.getEndX());
+	}
+
+	// 배치 생성의 insert는 JDBC 배치 하나로 나감 (요소 수만큼 준비하지 않음)
+	@Test
+	void batchCreateInsertsAreJdbcBatched() throws Exception {
+		int count = 30;
+		StringBuilder walls = new StringBuilder();
+		StringBuilder items = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			String separator = i == 0 ? "" : ",";
+			walls.append(separator).append("{\"room\": {\"id\": ").append(room.getId())
+					.append("}, \"startX\": 0, \"startY\": ").append(i).append(", \"endX\": 100, \"endY\": ").append(i).append("}");
+			items.append(separator).append("{\"room\": {\"id\": ").append(room.getId())
+					.append("}, \"assetName\": \"asset_chair_1\", \"positionX\": ").append(i * 60).append(", \"positionY\": 0}");
+		}
+
+		SqlStatements.clear();
+		statistics.clear();
+		mockMvc.perform(post("/api/walls/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"create\": [" + walls + "]}"))
+				.andExpect(status().isOk());
+		assertEquals(count, statistics.getEntityStatistics(Wall.class.getName()).getInsertCount());
+		assertEquals(1, SqlStatements.count("insert into walls"));
+		assertEquals(1, SqlStatements.count("insert into room_changes"));
+
+		SqlStatements.clear();
+		statistics.clear();
+		mockMvc.perform(post("/api/room-furniture/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"create\": [" + items + "]}"))
+				.andExpect(status().isOk());
+		assertEquals(count, statistics.getEntityStatistics(RoomFurniture.class.getName()).getInsertCount());
+		assertEquals(1, SqlStatements.count("insert into room_furniture"));
+		assertEquals(1, SqlStatements.count("insert into room_changes"));
+	}
+
+	private long statements(String url) throws Exception {
+		statistics.clear();
+		mockMvc.perform(get(url)).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,146 @@
+package com.furnhub.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.dto.ChangeOperation;
+import com.furnhub.dto.ChangeSetRequest;
+import com.furnhub.dto.ChangeSetResult;
+import com.furnhub.dto.RoomChangesDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomChange;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.service.RoomChangeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 변경 묶음 적용(POST /changes)과 since 이후 변경 조회(GET /changes)의 revision/순서/왕복 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoomChangeTests {
+
+	private static final String WALL = "{\"startX\": 0, \"startY\": 0, \"endX\": 100, \"endY\": 0, \"thickness\": 10, \"color\": \"#000000\"}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private RoomChangeService roomChangeService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		room = new Room();
+		room.setName("changes");
+		room = roomRepository.save(room);
+	}
+
+	@Test
+	void revisionIncrementsOncePerChangeSet() throws Exception {
+		long revision = revision();
+
+		ChangeSetResult first = apply(add(), add());
+		assertEquals(revision + 1, first.revision());
+		ChangeSetResult second = apply(modify(first.ids().get(0), "{\"startX\": 5}"));
+		assertEquals(revision + 2, second.revision());
+		// 빈 묶음은 revision을 올리지 않음
+		assertEquals(revision + 2, apply().revision());
+		assertEquals(revision + 2, revision());
+	}
+
+	@Test
+	void laterOperationsWinAndSinceSkipsOlderRevisions() throws Exception {
+		ChangeSetResult added = apply(add(), add());
+		Long kept = added.ids().get(0);
+		Long removed = added.ids().get(1);
+		ChangeSetResult modified = apply(modify(kept, "{\"startX\": 7}"));
+		apply(new ChangeOperation(RoomChange.Operation.DELETE, RoomChange.EntityType.WALL, removed, null));
+
+		RoomChangesDto all = roomChangeService.getChangesSince(room.getId(), 0);
+		assertEquals(List.of(kept), all.walls().stream().map(wall -> wall.id()).toList());
+		assertEquals(7.0, all.walls().get(0).startX());
+		assertEquals(List.of(removed), all.deletedWallIds());
+
+		// 수정 이후만 보면 삭제 하나뿐
+		RoomChangesDto sinceModify = roomChangeService.getChangesSince(room.getId(), modified.revision());
+		assertEquals(List.of(), sinceModify.walls());
+		assertEquals(List.of(removed), sinceModify.deletedWallIds());
+	}
+
+	@Test
+	void appliedChangesComeBackFromFetch() throws Exception {
+		long revision = revision();
+
+		String response = mockMvc.perform(post("/api/rooms/" + room.getId() + "/changes")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"operations\": [{\"op\": \"ADD\", \"type\": \"WALL\", \"data\": "
+								+ "{\"startX\": 3, \"startY\": 4, \"endX\": 50, \"endY\": 4, \"thickness\": 12, \"color\": \"#112233\"}}]}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		ChangeSetResult result = objectMapper.readValue(response, ChangeSetResult.class);
+
+		mockMvc.perform(get("/api/rooms/" + room.getId() + "/changes").param("since", String.valueOf(revision)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.revision").value(result.revision()))
+				.andExpect(jsonPath("$.walls.length()").value(1))
+				.andExpect(jsonPath("$.walls[0].id").value(result.ids().get(0)))
+				.andExpect(jsonPath("$.walls[0].startX").value(3.0))
+				.andExpect(jsonPath("$.walls[0].thickness").value(12.0))
+				.andExpect(jsonPath("$.walls[0].color").value("#112233"))
+				.andExpect(jsonPath("$.deletedWallIds.length()").value(0));
+
+		mockMvc.perform(get("/api/rooms/" + room.getId() + "/changes").param("since", String.valueOf(result.revision())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.walls.length()").value(0));
+	}
+
+	@Test
+	void modifyOrDeleteWithoutIdIsRejected() throws Exception {
+		long revision = revision();
+
+		for (RoomChange.Operation op : List.of(RoomChange.Operation.MODIFY, RoomChange.Operation.DELETE)) {
+			ChangeSetRequest request = new ChangeSetRequest(List.of(
+					add(), new ChangeOperation(op, RoomChange.EntityType.WALL, null, objectMapper.readTree("{\"startX\": 1}"))));
+			assertThrows(IllegalArgumentException.class, () -> roomChangeService.applyChanges(room.getId(), request));
+		}
+		assertEquals(revision, revision());
+		assertEquals(List.of(), roomChangeService.getChangesSince(room.getId(), 0).walls());
+	}
+
+	private ChangeSetResult apply(ChangeOperation... operations) {
+		return roomChangeService.applyChanges(room.getId(), new ChangeSetRequest(List.of(operations)));
+	}
+
+	private ChangeOperation add() throws Exception {
+		return new ChangeOperation(RoomChange.Operation.ADD, RoomChange.EntityType.WALL, null, objectMapper.readTree(WALL));
+	}
+
+	private ChangeOperation modify(Long id, String data) throws Exception {
+		return new ChangeOperation(RoomChange.Operation.MODIFY, RoomChange.EntityType.WALL, id, objectMapper.readTree(data));
+	}
+
+	private long revision() {
+		return roomRepository.findRevisionById(room.getId()).orElseThrow();
+	}
+}
@@ -0,0 +1,207 @@
+package com.furnhub.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.entity.AssetFloor;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFloor;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.AssetFloorRepository;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomFloorRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// INSERT ... SELECT 복사가 모든 요소를 옮기고, 시퀀스 id가 이후 일반 저장과 겹치지 않는지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoomCopyTests {
+
+	// 시퀀스 할당 단위(50)를 넘겨서 블록 경계를 지나게 함
+	private static final int WALLS = 120;
+	private static final int FURNITURE = 60;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private RoomFurnitureRepository furnitureRepository;
+
+	@Autowired
+	private ClosedAreaRepository closedAreaRepository;
+
+	@Autowired
+	private RoomFloorRepository roomFloorRepository;
+
+	@Autowired
+	private AssetFloorRepository assetFloorRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Room template;
+
+	@BeforeEach
+	void setUp() {
+		template = new Room();
+		template.setName("template");
+		template.setTemplate(true);
+		template = roomRepository.save(template);
+
+		List<Wall> walls = new ArrayList<>();
+		for (int i = 0; i < WALLS; i++) {
+			Wall wall = new Wall();
+			wall.setRoom(template);
+			wall.setStartX(0.0);
+			wall.setStartY(i * 10.0);
+			wall.setEndX(100.0);
+			wall.setEndY(i * 10.0);
+			walls.add(wall);
+		}
+		wallRepository.saveAll(walls);
+
+		List<RoomFurniture> furniture = new ArrayList<>();
+		for (int i = 0; i < FURNITURE; i++) {
+			RoomFurniture item = new RoomFurniture();
+			item.setRoom(template);
+			item.setAssetName("asset_chair_1");
+			item.setPositionX(i * 60.0);
+			item.setPositionY(0.0);
+			furniture.add(item);
+		}
+		furnitureRepository.saveAll(furniture);
+
+		ClosedArea closedArea = new ClosedArea();
+		closedArea.setRoom(template);
+		closedArea.setArea(10000.0);
+		closedAreaRepository.save(closedArea);
+
+		AssetFloor floorAsset = new AssetFloor();
+		floorAsset.setName("copy-floor");
+		floorAsset.setTexturePath("floor/wood.png");
+		floorAsset = assetFloorRepository.save(floorAsset);
+
+		RoomFloor roomFloor = new RoomFloor();
+		roomFloor.setRoom(template);
+		roomFloor.setFloorAsset(floorAsset);
+		roomFloorRepository.save(roomFloor);
+	}
+
+	@Test
+	void copyDuplicatesEveryElement() throws Exception {
+		String body = mockMvc.perform(post("/api/rooms/" + template.getId() + "/copy").param("name", "from template"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.name").value("from template"))
+				.andExpect(jsonPath("$.template").value(false))
+				.andReturn().getResponse().getContentAsString();
+		JsonNode copy = objectMapper.readTree(body);
+		Long copyId = copy.get("id").asLong();
+
+		assertEquals(WALLS, wallRepository.findDtosByRoomId(copyId).size());
+		assertEquals(FURNITURE, furnitureRepository.findDtosByRoomId(copyId).size());
+		assertEquals(1, closedAreaRepository.findDtosByRoomId(copyId).size());
+		assertEquals(1, roomFloorRepository.findDtosByRoomId(copyId).size());
+		assertEquals(WALLS, wallRepository.findDtosByRoomId(template.getId()).size());
+
+		// 복사 후 일반 저장이 복사본 id와 겹치지 않아야 함
+		Wall extra = new Wall();
+		extra.setRoom(template);
+		extra.setStartX(0.0);
+		extra.setStartY(0.0);
+		extra.setEndX(1.0);
+		extra.setEndY(1.0);
+		Long extraId = wallRepository.save(extra).getId();
+
+		Set<Long> ids = new HashSet<>();
+		wallRepository.findDtosByRoomId(copyId).forEach(wall -> ids.add(wall.id()));
+		wallRepository.findDtosByRoomId(template.getId()).forEach(wall -> ids.add(wall.id()));
+		assertEquals(2 * WALLS + 1, ids.size());
+		assertTrue(ids.contains(extraId));
+	}
+
+	// 요소 수와 상관없이 같은 수의 SQL로 복사되어야 함 (행마다 id를 채우는 UPDATE가 없어야 함)
+	@Test
+	void copyStatementCountDoesNotGrowWithRoomSize() throws Exception {
+		Room small = new Room();
+		small.setName("small");
+		small = roomRepository.save(small);
+		Wall wall = new Wall();
+		wall.setRoom(small);
+		wall.setStartX(0.0);
+		wall.setStartY(0.0);
+		wall.setEndX(100.0);
+		wall.setEndY(0.0);
+		wallRepository.save(wall);
+		RoomFurniture item = new RoomFurniture();
+		item.setRoom(small);
+		item.setAssetName("asset_chair_1");
+		item.setPositionX(0.0);
+		item.setPositionY(0.0);
+		furnitureRepository.save(item);
+
+		long smallCopy = copyStatementCount(small.getId());
+		long largeCopy = copyStatementCount(template.getId());
+
+		assertEquals(smallCopy, largeCopy);
+	}
+
+	@Test
+	void templatesAreListedSeparately() throws Exception {
+		mockMvc.perform(post("/api/rooms/" + template.getId() + "/copy").param("template", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.name").value("template"))
+				.andExpect(jsonPath("$.template").value(true));
+
+		String body = mockMvc.perform(get("/api/rooms/templates"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode templates = objectMapper.readTree(body);
+		assertTrue(templates.size() >= 2);
+		templates.forEach(room -> assertTrue(room.get("template").asBoolean()));
+		assertFalse(roomRepository.findByTemplateTrueOrderByNameAscIdAsc().isEmpty());
+	}
+
+	private long copyStatementCount(Long roomId) throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long before = statistics.getPrepareStatementCount();
+		mockMvc.perform(post("/api/rooms/" + roomId + "/copy"))
+				.andExpect(status().isOk());
+		return statistics.getPrepareStatementCount() - before;
+	}
+}
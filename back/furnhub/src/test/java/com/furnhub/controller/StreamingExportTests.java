@@ -0,0 +1,145 @@
+package com.furnhub.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furnhub.entity.ClosedArea;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.repository.ClosedAreaRepository;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.repository.RoomRepository;
+import com.furnhub.repository.WallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// DB 커서로 바로 쓰는 응답의 JSON 모양이 스냅샷/목록 응답과 같은지 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StreamingExportTests {
+
+	private static final int ELEMENTS = 3;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private WallRepository wallRepository;
+
+	@Autowired
+	private RoomFurnitureRepository furnitureRepository;
+
+	@Autowired
+	private ClosedAreaRepository closedAreaRepository;
+
+	private Room room;
+	private List<Long> wallIds;
+
+	@BeforeEach
+	void setUp() {
+		room = new Room();
+		room.setName("export");
+		room = roomRepository.save(room);
+
+		wallIds = new ArrayList<>();
+		for (int i = 0; i < ELEMENTS; i++) {
+			Wall wall = new Wall();
+			wall.setRoom(room);
+			wall.setStartX(0.0);
+			wall.setStartY(i * 10.0);
+			wall.setEndX(100.0);
+			wall.setEndY(i * 10.0);
+			wallIds.add(wallRepository.save(wall).getId());
+
+			RoomFurniture item = new RoomFurniture();
+			item.setRoom(room);
+			item.setAssetName("asset_chair_1");
+			item.setPositionX(i * 60.0);
+			item.setPositionY(0.0);
+			furnitureRepository.save(item);
+
+			ClosedArea closedArea = new ClosedArea();
+			closedArea.setRoom(room);
+			closedArea.setArea(100.0 + i);
+			closedAreaRepository.save(closedArea);
+		}
+	}
+
+	@Test
+	void roomExportMatchesSnapshot() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/rooms/" + room.getId() + "/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		JsonNode export = objectMapper.readTree(mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"room-" + room.getId() + ".json\""))
+				.andReturn().getResponse().getContentAsString());
+
+		List<String> fields = new ArrayList<>();
+		export.fieldNames().forEachRemaining(fields::add);
+		assertEquals(List.of("room", "walls", "furniture", "closedAreas", "floors"), fields);
+		assertEquals(room.getId(), export.get("room").get("id").asLong());
+		assertEquals(ELEMENTS, export.get("walls").size());
+		assertEquals(ELEMENTS, export.get("furniture").size());
+		assertEquals(ELEMENTS, export.get("closedAreas").size());
+		assertEquals(0, export.get("floors").size());
+
+		JsonNode snapshot = objectMapper.readTree(mockMvc.perform(get("/api/rooms/" + room.getId() + "/snapshot"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+		for (String field : List.of("walls", "furniture", "closedAreas", "floors")) {
+			assertEquals(snapshot.get(field), export.get(field), field);
+		}
+	}
+
+	@Test
+	void streamedListsAreJsonArrays() throws Exception {
+		JsonNode walls = stream("/api/walls/room/" + room.getId() + "/stream");
+		assertTrue(walls.isArray());
+		List<Long> ids = new ArrayList<>();
+		walls.forEach(wall -> ids.add(wall.get("id").asLong()));
+		assertEquals(wallIds, ids);
+
+		JsonNode rooms = stream("/api/rooms/stream");
+		assertTrue(rooms.isArray());
+		boolean found = false;
+		for (JsonNode streamed : rooms) {
+			found |= streamed.get("id").asLong() == room.getId() && "export".equals(streamed.get("name").asText());
+		}
+		assertTrue(found);
+	}
+
+	private JsonNode stream(String url) throws Exception {
+		MvcResult started = mockMvc.perform(get(url))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return objectMapper.readTree(mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+}
@@ -0,0 +1,193 @@
+package com.furnhub.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClosedAreaDetectorTests {
+
+	private static final double TOLERANCE = 1;
+
+	@Test
+	void squareIsOneFace() {
+		List<PlanarFace> faces = detect(square(0, 0, 100, 0));
+
+		assertEquals(1, faces.size());
+		assertEquals(10000, faces.get(0).area(), 1e-6);
+		assertEquals(50, faces.get(0).centerX(), 1e-6);
+		assertEquals(50, faces.get(0).centerY(), 1e-6);
+	}
+
+	@Test
+	void roomsSharingAWallAreSeparateFaces() {
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 100, 0));
+		walls.add(new WallSegment(10, 100, 0, 200, 0, 10));
+		walls.add(new WallSegment(11, 200, 0, 200, 100, 10));
+		walls.add(new WallSegment(12, 200, 100, 100, 100, 10));
+
+		List<PlanarFace> faces = sortedByX(detect(walls));
+
+		assertEquals(2, faces.size());
+		assertEquals(10000, faces.get(0).area(), 1e-6);
+		assertEquals(10000, faces.get(1).area(), 1e-6);
+		assertEquals(150, faces.get(1).centerX(), 1e-6);
+	}
+
+	@Test
+	void tJunctionSplitsTheWallItEndsOn() {
+		// 위쪽 벽 가운데에서 아래쪽 벽 가운데까지 칸막이 (양 끝이 다른 벽의 중간에 닿음)
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 200, 0));
+		walls.add(new WallSegment(10, 100, 0, 100, 200, 10));
+
+		List<PlanarFace> faces = sortedByX(detect(walls));
+
+		assertEquals(2, faces.size());
+		assertEquals(20000, faces.get(0).area(), 1e-6);
+		assertEquals(20000, faces.get(1).area(), 1e-6);
+	}
+
+	@Test
+	void crossingWallsAreSplitAtTheIntersection() {
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 200, 0));
+		walls.add(new WallSegment(10, 100, 0, 100, 200, 10));
+		walls.add(new WallSegment(11, 0, 100, 200, 100, 10));
+
+		List<PlanarFace> faces = detect(walls);
+
+		assertEquals(4, faces.size());
+		faces.forEach(face -> assertEquals(10000, face.area(), 1e-6));
+	}
+
+	@Test
+	void nearMissEndpointsAcrossRoundingBoundaryAreMerged() {
+		// 두 끝점이 0.1 떨어져 있지만 tolerance/2 경계(x.5)의 양쪽에 있음
+		List<WallSegment> walls = List.of(
+				new WallSegment(1, 0, 0, 100.45, 0, 10),
+				new WallSegment(2, 100.55, 0, 100, 100, 10),
+				new WallSegment(3, 100, 100, 0, 100, 10),
+				new WallSegment(4, 0, 100, 0.05, 0.45, 10));
+
+		List<PlanarFace> faces = detect(walls);
+
+		assertEquals(1, faces.size());
+		assertEquals(10000, faces.get(0).area(), 50);
+	}
+
+	@Test
+	void gapLargerThanToleranceStaysOpen() {
+		List<WallSegment> walls = List.of(
+				new WallSegment(1, 0, 0, 100, 0, 10),
+				new WallSegment(2, 103, 0, 100, 100, 10),
+				new WallSegment(3, 100, 100, 0, 100, 10),
+				new WallSegment(4, 0, 100, 0, 0, 10));
+
+		assertTrue(detect(walls).isEmpty());
+	}
+
+	@Test
+	void danglingWallDoesNotCreateFace() {
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 100, 0));
+		walls.add(new WallSegment(10, 50, 0, 50, 40, 10));
+		walls.add(new WallSegment(11, 100, 50, 180, 50, 10));
+
+		List<PlanarFace> faces = detect(walls);
+
+		assertEquals(1, faces.size());
+		assertEquals(10000, faces.get(0).area(), 1e-6);
+	}
+
+	@Test
+	void islandInsideRoomIsDetectedSeparately() {
+		// 방 안의 떨어진 벽 묶음(기둥 등)은 별도 공간으로 잡히고, 바깥 방의 넓이에서 빼지는 않음
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 400, 0));
+		walls.addAll(square(150, 150, 100, 10));
+
+		List<PlanarFace> faces = sortedByX(detect(walls));
+
+		assertEquals(2, faces.size());
+		assertEquals(160000, faces.stream().mapToDouble(PlanarFace::area).max().orElseThrow(), 1e-6);
+		assertEquals(10000, faces.stream().mapToDouble(PlanarFace::area).min().orElseThrow(), 1e-6);
+	}
+
+	@Test
+	void unchangedPlanIsNotRecomputed() {
+		ClosedAreaDetector detector = new ClosedAreaDetector(TOLERANCE, 1, 100);
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 100, 0));
+		walls.addAll(square(500, 0, 100, 10));
+
+		List<PlanarFace> first = sortedByX(detector.detect(walls));
+		assertEquals(2, first.size());
+		// 방마다 안쪽 면과 바깥 경계
+		assertEquals(4, detector.getLastTracedCycles());
+
+		// 두께/순서만 달라진 입력은 그대로 재사용
+		List<WallSegment> reordered = new ArrayList<>();
+		for (int i = walls.size() - 1; i >= 0; i--) {
+			WallSegment wall = walls.get(i);
+			reordered.add(new WallSegment(wall.id(), wall.x1(), wall.y1(), wall.x2(), wall.y2(), 30));
+		}
+		assertEquals(2, detector.detect(reordered).size());
+		assertEquals(0, detector.getLastTracedCycles());
+
+		// 한쪽 방만 바뀌면 그 방의 경계만 다시 따라감
+		List<WallSegment> moved = new ArrayList<>(square(0, 0, 100, 0));
+		moved.addAll(square(500, 0, 120, 10));
+		List<PlanarFace> faces = sortedByX(detector.detect(moved));
+		assertEquals(2, faces.size());
+		assertEquals(2, detector.getLastTracedCycles());
+		assertSame(first.get(0), faces.get(0));
+		assertEquals(14400, faces.get(1).area(), 1e-6);
+	}
+
+	@Test
+	void wallAddedInsideOneRoomRetracesOnlyNeighbouringFaces() {
+		ClosedAreaDetector detector = new ClosedAreaDetector(TOLERANCE, 1, 100);
+		// 벽을 공유하는 방 3개가 한 줄로 붙어 있음
+		List<WallSegment> walls = new ArrayList<>(square(0, 0, 100, 0));
+		walls.addAll(square(100, 0, 100, 10));
+		walls.addAll(square(200, 0, 100, 20));
+		List<PlanarFace> before = sortedByX(detector.detect(walls));
+		assertEquals(3, before.size());
+
+		// 세 번째 방을 가로지르는 벽을 추가하면 끝점이 닿는 두 번째/세 번째 방과 바깥 경계만 다시 따라감
+		walls.add(new WallSegment(30, 250, 0, 250, 100, 10));
+		List<PlanarFace> after = sortedByX(detector.detect(walls));
+
+		assertEquals(4, after.size());
+		assertEquals(4, detector.getLastTracedCycles());
+		assertSame(before.get(0), after.get(0));
+		assertEquals(5000, after.get(2).area(), 1e-6);
+		assertEquals(5000, after.get(3).area(), 1e-6);
+
+		// 벽을 지우면 다시 하나의 방으로 합쳐짐
+		walls.remove(walls.size() - 1);
+		List<PlanarFace> merged = sortedByX(detector.detect(walls));
+		assertEquals(3, merged.size());
+		assertEquals(10000, merged.get(2).area(), 1e-6);
+	}
+
+	private static List<PlanarFace> detect(List<WallSegment> walls) {
+		return new ClosedAreaDetector(TOLERANCE, 1, 100).detect(walls);
+	}
+
+	private static List<PlanarFace> sortedByX(List<PlanarFace> faces) {
+		List<PlanarFace> sorted = new ArrayList<>(faces);
+		sorted.sort(Comparator.comparingDouble(PlanarFace::centerX));
+		return sorted;
+	}
+
+	// (x, y)에서 시작하는 size 크기 정사각형 벽 4개, id는 firstId부터
+	private static List<WallSegment> square(double x, double y, double size, long firstId) {
+		return List.of(
+				new WallSegment(firstId + 1, x, y, x + size, y, 10),
+				new WallSegment(firstId + 2, x + size, y, x + size, y + size, 10),
+				new WallSegment(firstId + 3, x + size, y + size, x, y + size, 10),
+				new WallSegment(firstId + 4, x, y + size, x, y, 10));
+	}
+}
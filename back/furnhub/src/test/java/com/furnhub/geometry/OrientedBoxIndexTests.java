@@ -0,0 +1,52 @@
+package com.furnhub.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrientedBoxIndexTests {
+
+	@Test
+	void broadPhaseMatchesBruteForce() {
+		Random random = new Random(5);
+		List<OrientedBox> boxes = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			boxes.add(new OrientedBox(i, random.nextDouble() * 2000, random.nextDouble() * 2000,
+					10 + random.nextDouble() * 60, 10 + random.nextDouble() * 60, random.nextDouble() * Math.PI));
+		}
+		OrientedBoxIndex index = OrientedBoxIndex.of(boxes, 100);
+
+		for (OrientedBox box : boxes) {
+			Set<Long> expected = boxes.stream()
+					.filter(other -> other.id() != box.id() && box.intersects(other))
+					.map(OrientedBox::id)
+					.collect(Collectors.toSet());
+			Set<Long> actual = index.overlapping(box).stream().map(OrientedBox::id).collect(Collectors.toSet());
+			assertEquals(expected, actual, "box " + box.id());
+		}
+	}
+
+	@Test
+	void movedAndRemovedBoxesAreUpdated() {
+		OrientedBoxIndex index = OrientedBoxIndex.of(List.of(
+				new OrientedBox(1, 0, 0, 25, 25, 0),
+				new OrientedBox(2, 40, 0, 25, 25, 0)), 100);
+		OrientedBox probe = new OrientedBox(3, 500, 0, 25, 25, 0);
+		assertEquals(1, index.overlapping(new OrientedBox(1, 0, 0, 25, 25, 0)).size());
+
+		index.put(new OrientedBox(2, 520, 0, 25, 25, 0));
+		assertTrue(index.overlapping(new OrientedBox(1, 0, 0, 25, 25, 0)).isEmpty());
+		assertEquals(2, index.overlapping(probe).get(0).id());
+
+		index.remove(2);
+		assertTrue(index.overlapping(probe).isEmpty());
+		assertEquals(1, index.boxes().size());
+	}
+}
@@ -0,0 +1,73 @@
+package com.furnhub.geometry;
+
+import com.furnhub.dto.RoomFurnitureDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrientedBoxTests {
+
+	@Test
+	void axisAlignedOverlapAndSeparation() {
+		OrientedBox a = box(1, 0, 0, 50, 50, 0);
+
+		assertTrue(a.intersects(box(2, 40, 10, 50, 50, 0)));
+		assertFalse(a.intersects(box(3, 60, 0, 50, 50, 0)));
+		assertFalse(a.intersects(box(4, 0, 70, 50, 50, 0)));
+	}
+
+	@Test
+	void touchingBoxesDoNotCollide() {
+		OrientedBox a = box(1, 0, 0, 50, 50, 0);
+
+		assertFalse(a.intersects(box(2, 50, 0, 50, 50, 0)));
+		assertFalse(a.intersects(box(3, 50, 50, 50, 50, 0)));
+		assertTrue(a.intersects(box(4, 49.9, 0, 50, 50, 0)));
+	}
+
+	@Test
+	void rotatedBoxSeparatedOnItsOwnAxis() {
+		// 45도 회전한 정사각형은 바운딩 박스가 겹쳐도 모서리 근처에서는 닿지 않음
+		OrientedBox diamond = box(1, 0, 0, 50, 50, 45);
+		OrientedBox corner = box(2, 38, 38, 20, 20, 0);
+
+		assertTrue(diamond.maxX() > corner.minX() && diamond.maxY() > corner.minY());
+		assertFalse(diamond.intersects(corner));
+		assertFalse(corner.intersects(diamond));
+		assertTrue(diamond.intersects(box(3, 30, 0, 20, 20, 0)));
+	}
+
+	@Test
+	void rotatedBoxesOverlap() {
+		OrientedBox a = box(1, 0, 0, 100, 20, 30);
+		OrientedBox b = box(2, 30, 20, 100, 20, -30);
+
+		assertTrue(a.intersects(b));
+		assertTrue(b.intersects(a));
+	}
+
+	@Test
+	void footprintUsesScaleAndRotation() {
+		OrientedBox box = OrientedBox.of(new RoomFurnitureDto(1L, 1L, "asset_table_1", 100.0, 100.0, 90.0, 2.0, 1.0, null), 80, 40);
+
+		// 가로 160, 세로 40인 사각형을 90도 돌리면 x 범위 40, y 범위 160
+		assertEquals(80, box.minX(), 1e-9);
+		assertEquals(120, box.maxX(), 1e-9);
+		assertEquals(20, box.minY(), 1e-9);
+		assertEquals(180, box.maxY(), 1e-9);
+	}
+
+	@Test
+	void wallBoxIncludesThickness() {
+		OrientedBox wall = OrientedBox.of(new WallSegment(1, 0, 0, 200, 0, 20));
+
+		assertTrue(wall.intersects(box(2, 100, 30, 50, 50, 0)));
+		assertFalse(wall.intersects(box(3, 100, 36, 50, 50, 0)));
+	}
+
+	private static OrientedBox box(long id, double x, double y, double width, double height, double degrees) {
+		return new OrientedBox(id, x, y, width / 2, height / 2, Math.toRadians(degrees));
+	}
+}
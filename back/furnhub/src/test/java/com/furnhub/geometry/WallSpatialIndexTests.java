@@ -0,0 +1,104 @@
+package com.furnhub.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WallSpatialIndexTests {
+
+	private static final double CELL = 100;
+
+	@Test
+	void snapsToNearestEndpointWithinRadius() {
+		WallSpatialIndex index = WallSpatialIndex.of(List.of(
+				new WallSegment(1, 0, 0, 300, 0, 10),
+				new WallSegment(2, 300, 0, 300, 300, 10)), CELL);
+
+		NearestPoint snap = index.nearestEndpoint(295, 8, 20, null).orElseThrow();
+		assertEquals(300, snap.x());
+		assertEquals(0, snap.y());
+
+		// 자기 자신(드래그 중인 벽)은 제외
+		assertFalse(index.nearestEndpoint(2, 3, 20, 1L).isPresent());
+		assertFalse(index.nearestEndpoint(150, 150, 20, null).isPresent());
+	}
+
+	@Test
+	void snapsOntoSegment() {
+		WallSpatialIndex index = WallSpatialIndex.of(List.of(new WallSegment(1, 0, 0, 1000, 1000, 10)), CELL);
+
+		NearestPoint point = index.nearestPointOnSegment(510, 490, 20, null).orElseThrow();
+		assertEquals(500, point.x(), 1e-9);
+		assertEquals(500, point.y(), 1e-9);
+		assertFalse(index.nearestPointOnSegment(600, 400, 20, null).isPresent());
+	}
+
+	@Test
+	void hitTestUsesWallThickness() {
+		WallSpatialIndex index = WallSpatialIndex.of(List.of(
+				new WallSegment(1, 0, 0, 500, 0, 10),
+				new WallSegment(2, 0, 200, 500, 200, 60)), CELL);
+
+		assertEquals(1, index.hitTest(250, 6, 2).orElseThrow().wallId());
+		assertFalse(index.hitTest(250, 10, 2).isPresent());
+		assertEquals(2, index.hitTest(250, 228, 0).orElseThrow().wallId());
+	}
+
+	@Test
+	void maxThicknessShrinksWhenThickestWallIsRemoved() {
+		WallSpatialIndex index = WallSpatialIndex.of(List.of(
+				new WallSegment(1, 0, 0, 100, 0, 10),
+				new WallSegment(2, 0, 100, 100, 100, 80),
+				new WallSegment(3, 0, 200, 100, 200, 80)), CELL);
+		assertEquals(80, index.maxThickness());
+
+		index.remove(2);
+		assertEquals(80, index.maxThickness());
+		index.put(new WallSegment(3, 0, 200, 100, 200, 20));
+		assertEquals(20, index.maxThickness());
+		index.remove(3);
+		index.remove(1);
+		assertEquals(0, index.maxThickness());
+	}
+
+	@Test
+	void longDiagonalWallOnlyOccupiesCrossedCells() {
+		int cells = 50;
+		WallSpatialIndex index = WallSpatialIndex.of(List.of(new WallSegment(1, 5, 3, cells * CELL - 5, cells * CELL - 7, 10)), CELL);
+
+		// 바운딩 박스(50x50 셀)가 아니라 지나가는 셀 수만큼만 등록
+		assertTrue(index.cellEntries() <= 3 * cells, "entries=" + index.cellEntries());
+		assertEquals(1, index.segmentsInBox(2400, 2400, 2410, 2410).size());
+		assertTrue(index.segmentsInBox(0, 4000, 1000, 5000).isEmpty());
+
+		index.remove(1);
+		assertEquals(0, index.cellEntries());
+	}
+
+	@Test
+	void viewportQueryMatchesBruteForce() {
+		Random random = new Random(3);
+		List<WallSegment> segments = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			double x = random.nextDouble() * 3000;
+			double y = random.nextDouble() * 3000;
+			segments.add(new WallSegment(i, x, y, x + random.nextGaussian() * 400, y + random.nextGaussian() * 400, 10));
+		}
+		WallSpatialIndex index = WallSpatialIndex.of(segments, CELL);
+
+		for (int q = 0; q < 200; q++) {
+			double minX = random.nextDouble() * 3000;
+			double minY = random.nextDouble() * 3000;
+			double maxX = minX + random.nextDouble() * 600;
+			double maxY = minY + random.nextDouble() * 400;
+			long expected = segments.stream().filter(s -> s.intersectsBox(minX, minY, maxX, maxY)).count();
+			assertEquals(expected, index.segmentsInBox(minX, minY, maxX, maxY).size());
+		}
+	}
+}
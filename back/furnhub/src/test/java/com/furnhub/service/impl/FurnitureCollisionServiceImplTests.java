@@ -0,0 +1,83 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.entity.AssetFurniture;
+import com.furnhub.geometry.WallSpatialIndex;
+import com.furnhub.repository.RoomFurnitureRepository;
+import com.furnhub.service.AssetFurnitureService;
+import com.furnhub.service.WallSpatialIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 에셋 크기는 캐시된 목록이 바뀔 때만 다시 읽고, 인덱스를 읽는 도중 같은 방에 커밋이 있으면 다음 검사 때 다시 읽는지 검사
+class FurnitureCollisionServiceImplTests {
+
+	private RoomFurnitureRepository furnitureRepository;
+	private AssetFurnitureService assetFurnitureService;
+	private FurnitureCollisionServiceImpl collisionService;
+
+	@BeforeEach
+	void setUp() {
+		furnitureRepository = mock(RoomFurnitureRepository.class);
+		assetFurnitureService = mock(AssetFurnitureService.class);
+		WallSpatialIndexService spatialIndexService = mock(WallSpatialIndexService.class);
+		when(spatialIndexService.getIndex(1L)).thenReturn(WallSpatialIndex.of(List.of(), 100));
+		collisionService = new FurnitureCollisionServiceImpl(furnitureRepository, spatialIndexService,
+				assetFurnitureService, 50, 50, 100);
+		// 기본 크기(50)로는 겹치지 않는 두 가구
+		when(furnitureRepository.findDtosByRoomId(1L)).thenReturn(List.of(furniture(10L, 0), furniture(11L, 80)));
+	}
+
+	@Test
+	void footprintsAreRebuiltOnlyWhenCachedAssetListChanges() {
+		List<AssetFurniture> assets = List.of(asset(30.0));
+		when(assetFurnitureService.getAllAssetFurnitures()).thenReturn(assets);
+		assertEquals(0, collisionService.checkRoom(1L).furnitureOverlaps().size());
+		collisionService.checkRoom(1L);
+		verify(furnitureRepository, times(1)).findDtosByRoomId(1L);
+
+		// 캐시가 비워져 새 목록이 와도 크기가 같으면 인덱스는 그대로
+		when(assetFurnitureService.getAllAssetFurnitures()).thenReturn(List.of(asset(30.0)));
+		collisionService.checkRoom(1L);
+		verify(furnitureRepository, times(1)).findDtosByRoomId(1L);
+
+		when(assetFurnitureService.getAllAssetFurnitures()).thenReturn(List.of(asset(100.0)));
+		assertEquals(1, collisionService.checkRoom(1L).furnitureOverlaps().size());
+		verify(furnitureRepository, times(2)).findDtosByRoomId(1L);
+	}
+
+	@Test
+	void commitInSameRoomDuringLoadReloadsNextTime() {
+		when(assetFurnitureService.getAllAssetFurnitures()).thenReturn(List.of());
+		when(furnitureRepository.findDtosByRoomId(1L)).thenAnswer(invocation -> {
+			collisionService.onFurnitureDeleted(1L, 99L);
+			return List.of(furniture(10L, 0));
+		});
+
+		collisionService.checkRoom(1L);
+		collisionService.checkRoom(1L);
+
+		verify(furnitureRepository, times(2)).findDtosByRoomId(1L);
+	}
+
+	private static RoomFurnitureDto furniture(Long id, double x) {
+		return new RoomFurnitureDto(id, 1L, "sofa", x, 0.0, 0.0, 1.0, 1.0, LocalDateTime.now());
+	}
+
+	private static AssetFurniture asset(double width) {
+		AssetFurniture asset = new AssetFurniture();
+		asset.setFolderName("living/sofa");
+		asset.setWidth(width);
+		asset.setDepth(30.0);
+		return asset;
+	}
+}
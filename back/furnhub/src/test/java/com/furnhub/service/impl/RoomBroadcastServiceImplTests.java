@@ -0,0 +1,104 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.RoomChangesDto;
+import com.furnhub.dto.RoomMoveDto;
+import com.furnhub.dto.RoomMovesDto;
+import com.furnhub.entity.RoomChange;
+import com.furnhub.service.RoomChangeService;
+import com.furnhub.service.RoomChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class RoomBroadcastServiceImplTests {
+
+	private SimpMessagingTemplate messagingTemplate;
+	private RoomChangeService roomChangeService;
+	private RoomBroadcastServiceImpl broadcastService;
+
+	@BeforeEach
+	void setUp() {
+		messagingTemplate = mock(SimpMessagingTemplate.class);
+		roomChangeService = mock(RoomChangeService.class);
+		broadcastService = new RoomBroadcastServiceImpl(messagingTemplate, roomChangeService);
+	}
+
+	@Test
+	void movesAreCoalescedToLastPositionPerElement() {
+		broadcastService.submitMove(1L, "a", furnitureMove(10L, 0));
+		broadcastService.submitMove(1L, "a", furnitureMove(10L, 5));
+		broadcastService.submitMove(1L, "b", furnitureMove(11L, 7));
+		broadcastService.submitMove(1L, "a", furnitureMove(10L, 9));
+
+		broadcastService.flush();
+
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(messagingTemplate).convertAndSend(eq("/topic/rooms/1/moves"), payload.capture());
+		List<RoomMoveDto> moves = ((RoomMovesDto) payload.getValue()).moves();
+		assertEquals(2, moves.size());
+		assertEquals(9.0, moves.get(0).positionX());
+		assertEquals("a", moves.get(0).origin());
+		assertEquals(7.0, moves.get(1).positionX());
+
+		// 이미 보낸 미리보기는 다시 보내지 않음
+		broadcastService.flush();
+		verifyNoMoreInteractions(messagingTemplate);
+	}
+
+	@Test
+	void committedChangesAreSentOncePerFlushFromTheEarliestRevision() {
+		subscribe("s1", "sub-1", 1L);
+		RoomChangesDto delta = new RoomChangesDto(1L, 7L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+		when(roomChangeService.getChangesSince(1L, 4L)).thenReturn(delta);
+
+		broadcastService.onRoomChanged(new RoomChangedEvent(1L, 6));
+		broadcastService.onRoomChanged(new RoomChangedEvent(1L, 5));
+		broadcastService.onRoomChanged(new RoomChangedEvent(1L, 7));
+		broadcastService.flush();
+		broadcastService.flush();
+
+		verify(roomChangeService, times(1)).getChangesSince(anyLong(), anyLong());
+		verify(messagingTemplate, times(1)).convertAndSend("/topic/rooms/1", (Object) delta);
+	}
+
+	@Test
+	void changesInRoomsWithoutSubscribersAreNotLoaded() {
+		subscribe("s1", "sub-1", 1L);
+
+		broadcastService.onRoomChanged(new RoomChangedEvent(2L, 3));
+		broadcastService.flush();
+
+		verify(roomChangeService, never()).getChangesSince(anyLong(), anyLong());
+		verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+	}
+
+	private void subscribe(String sessionId, String subscriptionId, Long roomId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination("/topic/rooms/" + roomId);
+		broadcastService.onSubscribe(new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+	}
+
+	private static RoomMoveDto furnitureMove(Long id, double x) {
+		return new RoomMoveDto(RoomChange.EntityType.FURNITURE, id, null, null, null, null, x, 0.0, 0.0, null);
+	}
+}
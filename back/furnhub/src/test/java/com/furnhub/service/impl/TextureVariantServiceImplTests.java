@@ -0,0 +1,105 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.config.CacheConfig;
+import com.furnhub.image.EncodedImage;
+import com.furnhub.image.Mipmaps;
+import com.furnhub.service.AssetFloorService;
+import com.furnhub.service.AssetFurnitureService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 축소 단계는 앞 단계에서 만들고 원본은 한 번만 디코딩하는지, width 요청은 헤더의 너비만 읽는지 검사
+class TextureVariantServiceImplTests {
+
+	private static final String PATH = "floor/wood.png";
+
+	private AssetImageLoader imageLoader;
+	private TextureVariantServiceImpl variantService;
+	private BufferedImage source;
+
+	@BeforeEach
+	void setUp() {
+		imageLoader = mock(AssetImageLoader.class);
+		source = pattern(64, 32);
+		when(imageLoader.read(PATH)).thenReturn(source);
+		when(imageLoader.readWidth(PATH)).thenReturn(64);
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TEXTURE_VARIANTS);
+		variantService = new TextureVariantServiceImpl(imageLoader, mock(AssetFloorService.class),
+				mock(AssetFurnitureService.class), cacheManager, false);
+	}
+
+	@Test
+	void levelsAreBuiltFromPreviousLevel() {
+		EncodedImage smallest = variantService.getVariant(PATH, Mipmaps.MAX_LEVEL);
+		for (int level = 0; level < Mipmaps.MAX_LEVEL; level++) {
+			variantService.getVariant(PATH, level);
+		}
+
+		verify(imageLoader, times(1)).read(PATH);
+		assertEquals(8, smallest.width());
+		assertEquals(4, smallest.height());
+		// 원본에서 한 번에 줄인 결과와 픽셀이 같음
+		assertArrayEquals(pixels(Mipmaps.downscale(source, Mipmaps.MAX_LEVEL)), pixels(smallest.decode()));
+	}
+
+	@Test
+	void widthRequestUsesCachedSourceWidth() {
+		assertEquals(16, variantService.getVariantForWidth(PATH, 16).width());
+		assertEquals(64, variantService.getVariantForWidth(PATH, 100).width());
+		assertEquals(32, variantService.getVariantForWidth(PATH, 20).width());
+
+		verify(imageLoader, times(1)).readWidth(PATH);
+		verify(imageLoader, times(1)).read(PATH);
+	}
+
+	@Test
+	void missingTextureIsRejectedWithoutDecoding() {
+		when(imageLoader.readWidth("missing.png")).thenReturn(null);
+
+		assertThrows(IllegalArgumentException.class, () -> variantService.getVariantForWidth("missing.png", 16));
+		verify(imageLoader, never()).read("missing.png");
+	}
+
+	@Test
+	void readWidthUsesImageHeader(@TempDir Path dir) throws Exception {
+		ImageIO.write(pattern(40, 10), "png", dir.resolve("texture.png").toFile());
+		AssetImageLoader loader = new AssetImageLoader(new DefaultResourceLoader(), dir.toUri().toString());
+
+		assertEquals(40, loader.readWidth("texture.png"));
+		assertNull(loader.readWidth("missing.png"));
+		new File(dir.toFile(), "not-image.png").createNewFile();
+		assertNull(loader.readWidth("not-image.png"));
+	}
+
+	private static BufferedImage pattern(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, 0xFF000000 | (x * 4 << 16) | (y * 8 << 8) | ((x + y) % 2 == 0 ? 0xFF : 0));
+			}
+		}
+		return image;
+	}
+
+	private static int[] pixels(BufferedImage image) {
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+}
@@ -0,0 +1,59 @@
+package com.furnhub.service.impl;
+
+import com.furnhub.dto.WallDto;
+import com.furnhub.repository.WallRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 인덱스를 읽는 도중 커밋된 변경이 같은 방일 때만 캐시를 버리는지 검사 (트랜잭션 밖이라 커밋 콜백은 바로 실행)
+class WallSpatialIndexServiceImplTests {
+
+	private WallRepository wallRepository;
+	private WallSpatialIndexServiceImpl indexService;
+
+	@BeforeEach
+	void setUp() {
+		wallRepository = mock(WallRepository.class);
+		indexService = new WallSpatialIndexServiceImpl(wallRepository, event -> {
+		}, 100);
+	}
+
+	@Test
+	void commitInAnotherRoomDuringLoadKeepsIndexCached() {
+		when(wallRepository.findDtosByRoomId(1L)).thenAnswer(invocation -> {
+			indexService.onWallDeleted(2L, 99L);
+			return List.of(wall(10L, 1L));
+		});
+
+		assertEquals(1, indexService.getIndex(1L).segments().size());
+		indexService.getIndex(1L);
+
+		verify(wallRepository, times(1)).findDtosByRoomId(1L);
+	}
+
+	@Test
+	void commitInSameRoomDuringLoadReloadsNextTime() {
+		when(wallRepository.findDtosByRoomId(1L)).thenAnswer(invocation -> {
+			indexService.onWallDeleted(1L, 99L);
+			return List.of(wall(10L, 1L));
+		});
+
+		indexService.getIndex(1L);
+		indexService.getIndex(1L);
+
+		verify(wallRepository, times(2)).findDtosByRoomId(1L);
+	}
+
+	private static WallDto wall(Long id, Long roomId) {
+		return new WallDto(id, roomId, 0.0, 0.0, 100.0, 0.0, 10.0, "#000000", LocalDateTime.now());
+	}
+}
@@ -0,0 +1,14 @@
+package com.furnhub.support;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.sequence.NoSequenceSupport;
+import org.hibernate.dialect.sequence.SequenceSupport;
+
+// MySQL처럼 시퀀스를 테이블(next_val)로 흉내 내도록 해서, 시퀀스 테이블을 직접 다루는 쿼리(방 복사 id 예약)를 H2에서도 검사
+public class MySqlSequenceH2Dialect extends H2Dialect {
+
+	@Override
+	public SequenceSupport getSequenceSupport() {
+		return NoSequenceSupport.INSTANCE;
+	}
+}
@@ -0,0 +1,30 @@
+package com.furnhub.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Hibernate가 준비(prepare)하는 SQL을 모아 둠. 배치 insert는 배치마다 한 번만 준비되므로 배치 여부를 확인할 수 있음
+public class SqlStatements implements StatementInspector {
+
+	private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		statements.add(sql);
+		return sql;
+	}
+
+	public static void clear() {
+		statements.clear();
+	}
+
+	public static long count(String prefix) {
+		String lower = prefix.toLowerCase(Locale.ROOT);
+		return statements.stream()
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith(lower))
+				.count();
+	}
+}
@@ -0,0 +1,123 @@
+package com.furnhub.support;
+
+import com.furnhub.dto.RoomFurnitureDto;
+import com.furnhub.dto.WallDto;
+import com.furnhub.entity.Room;
+import com.furnhub.entity.RoomFurniture;
+import com.furnhub.entity.Wall;
+import com.furnhub.geometry.WallSegment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크/부하 테스트용 가상 평면도. cells x cells 격자 모양으로 벽을 배치하므로
+ * 벽 2 * cells * (cells + 1)개, 닫힌 공간 cells^2개가 만들어진다.
+ * 같은 seed면 항상 같은 결과가 나온다.
+ */
+public final class SyntheticPlans {
+
+    public static final double CELL_SIZE = 300;
+    public static final long ROOM_ID = 1L;
+
+    private static final String[] COLORS = {"#000000", "#8b4513", "#cccccc", "#ffffff"};
+    private static final String[] ASSETS = {"asset_chair_1", "asset_table_1", "asset_sofa_1", "asset_bed_1", "asset_desk_1"};
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private SyntheticPlans() {
+    }
+
+    public static int wallCount(int cells) {
+        return 2 * cells * (cells + 1);
+    }
+
+    public static double extent(int cells) {
+        return cells * CELL_SIZE;
+    }
+
+    // 격자 선을 칸 단위로 잘라서 벽 하나가 한 칸의 변이 되도록 함 (에디터에서 그린 벽과 같은 형태)
+    public static List<WallDto> gridWalls(int cells) {
+        List<WallDto> walls = new ArrayList<>(wallCount(cells));
+        long id = 1;
+        for (int row = 0; row <= cells; row++) {
+            for (int col = 0; col < cells; col++) {
+                double y = row * CELL_SIZE;
+                walls.add(wall(id++, col * CELL_SIZE, y, (col + 1) * CELL_SIZE, y));
+            }
+        }
+        for (int col = 0; col <= cells; col++) {
+            for (int row = 0; row < cells; row++) {
+                double x = col * CELL_SIZE;
+                walls.add(wall(id++, x, row * CELL_SIZE, x, (row + 1) * CELL_SIZE));
+            }
+        }
+        return walls;
+    }
+
+    public static List<WallSegment> gridSegments(int cells) {
+        return gridWalls(cells).stream().map(WallSegment::of).toList();
+    }
+
+    public static List<RoomFurnitureDto> furniture(int count, double extent, long seed) {
+        Random random = new Random(seed);
+        List<RoomFurnitureDto> furniture = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            furniture.add(new RoomFurnitureDto(
+                    (long) i + 1,
+                    ROOM_ID,
+                    ASSETS[i % ASSETS.length],
+                    random.nextDouble() * extent,
+                    random.nextDouble() * extent,
+                    (double) (random.nextInt(24) * 15),
+                    1.0,
+                    1.0,
+                    CREATED_AT.plusSeconds(i)));
+        }
+        return furniture;
+    }
+
+    // 엔티티 목록 (id는 비워 두므로 저장용으로도 사용 가능)
+    public static List<Wall> wallEntities(Room room, int cells) {
+        return gridWalls(cells).stream().map(dto -> {
+            Wall wall = new Wall();
+            wall.setRoom(room);
+            wall.setStartX(dto.startX());
+            wall.setStartY(dto.startY());
+            wall.setEndX(dto.endX());
+            wall.setEndY(dto.endY());
+            wall.setThickness(dto.thickness());
+            wall.setColor(dto.color());
+            return wall;
+        }).toList();
+    }
+
+    public static List<RoomFurniture> furnitureEntities(Room room, int count, double extent, long seed) {
+        return furniture(count, extent, seed).stream().map(dto -> {
+            RoomFurniture furniture = new RoomFurniture();
+            furniture.setRoom(room);
+            furniture.setAssetName(dto.assetName());
+            furniture.setPositionX(dto.positionX());
+            furniture.setPositionY(dto.positionY());
+            furniture.setRotation(dto.rotation());
+            furniture.setScaleX(dto.scaleX());
+            furniture.setScaleY(dto.scaleY());
+            return furniture;
+        }).toList();
+    }
+
+    public static Room room(String name) {
+        Room room = new Room();
+        room.setId(ROOM_ID);
+        room.setName(name);
+        room.setCreatedAt(CREATED_AT);
+        room.setUpdatedAt(CREATED_AT);
+        return room;
+    }
+
+    private static WallDto wall(long id, double x1, double y1, double x2, double y2) {
+        return new WallDto(id, ROOM_ID, x1, y1, x2, y2, 10.0, COLORS[(int) (id % COLORS.length)],
+                CREATED_AT.plusSeconds(id));
+    }
+}
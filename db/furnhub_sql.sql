@@ -17,6 +17,8 @@ CREATE TABLE assets_furniture (
     name VARCHAR(255) NOT NULL,
     category_id BIGINT NOT NULL,
     folder_name VARCHAR(255) NOT NULL,
+    width DOUBLE,
+    depth DOUBLE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (category_id) REFERENCES furniture_categories(id) ON DELETE CASCADE
@@ -35,8 +37,13 @@ CREATE TABLE assets_floor (
 CREATE TABLE rooms (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
+    template BOOLEAN NOT NULL DEFAULT FALSE,
+    revision BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_rooms_name_id (name, id),
+    INDEX idx_rooms_updated_at_id (updated_at, id)
 );
 
 -- 테이블 룸 바닥재
@@ -53,16 +60,24 @@ CREATE TABLE room_floor (
 CREATE TABLE walls (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     room_id BIGINT NOT NULL,
-    start_x DOUBLE NOT NULL,
-    start_y DOUBLE NOT NULL,
-    end_x DOUBLE NOT NULL,
-    end_y DOUBLE NOT NULL,
+    startx DOUBLE NOT NULL,
+    starty DOUBLE NOT NULL,
+    endx DOUBLE NOT NULL,
+    endy DOUBLE NOT NULL,
     thickness DOUBLE DEFAULT 10.0,
     color VARCHAR(7) DEFAULT '#000000',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
 );
 
+-- 벽 id 시퀀스 (MySQL에는 시퀀스가 없어 Hibernate가 테이블로 대체)
+-- 기존 DB에 적용할 때는 next_val을 MAX(walls.id) + 1 로 맞춰야 함
+CREATE TABLE walls_seq (
+    next_val BIGINT
+);
+INSERT INTO walls_seq VALUES (1);
+
 -- 테이블 닫힌 공간
 CREATE TABLE closed_areas (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -70,7 +85,9 @@ CREATE TABLE closed_areas (
     area DOUBLE NOT NULL,
     center_x DOUBLE,
     center_y DOUBLE,
+    detected BOOLEAN NOT NULL DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
 );
 
@@ -85,9 +102,35 @@ CREATE TABLE room_furniture (
     scale_x DOUBLE DEFAULT 1.0,
     scale_y DOUBLE DEFAULT 1.0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
 );
 
+-- 테이블 룸 변경 이력 (revision 기반 동기화)
+CREATE TABLE room_changes (
+    id BIGINT PRIMARY KEY,
+    room_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_room_changes_room_revision (room_id, revision),
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
+);
+
+CREATE TABLE room_changes_seq (
+    next_val BIGINT
+);
+INSERT INTO room_changes_seq VALUES (1);
+
+-- 룸 가구 id 시퀀스
+-- 기존 DB에 적용할 때는 next_val을 MAX(room_furniture.id) + 1 로 맞춰야 함
+CREATE TABLE room_furniture_seq (
+    next_val BIGINT
+);
+INSERT INTO room_furniture_seq VALUES (1);
+
 -- 에셋 바닥재 삽입
 INSERT INTO assets_floor (name, texture_path) VALUES
 ('Wood', '/assets/floor/wood.png');